@@ -0,0 +1,225 @@
+package com.crimsonlogic.eventmanagement.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.crimsonlogic.eventmanagement.EventmanagementApplication;
+
+/**
+ * Starts the application against an in-memory H2 database and seeds it with a
+ * catalogue of roughly production size, so the service benchmarks run the real
+ * repositories, queries and caches rather than mocks.
+ * <p>
+ * Volumes can be raised with {@code -Dbench.users}, {@code -Dbench.events} and
+ * {@code -Dbench.bookingsPerUser}. To run against PostgreSQL instead, pass an
+ * empty database with {@code -Dbench.datasource.url}, {@code -Dbench.datasource.username}
+ * and {@code -Dbench.datasource.password}; its tables are dropped and recreated.
+ */
+public final class BenchmarkData {
+
+	public static final int USERS = Integer.getInteger("bench.users", 1_000);
+
+	public static final int EVENTS = Integer.getInteger("bench.events", 500);
+
+	public static final int BOOKINGS_PER_USER = Integer.getInteger("bench.bookingsPerUser", 50);
+
+	public static final int TICKET_PRICES_PER_EVENT = 3;
+
+	public static final int SPONSORS_PER_EVENT = 2;
+
+	public static final String PASSWORD = "password";
+
+	private static final int BATCH_SIZE = 1_000;
+
+	private static final String DATASOURCE_URL = System.getProperty("bench.datasource.url",
+			"jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=PostgreSQL;IGNORE_UNKNOWN_SETTINGS=TRUE");
+
+	private BenchmarkData() {
+	}
+
+	public static ConfigurableApplicationContext start() {
+		return start(WebApplicationType.NONE);
+	}
+
+	/**
+	 * Starts the application with its embedded web server on a random port,
+	 * for benchmarks that go through HTTP.
+	 *
+	 * @param args Extra command line arguments, e.g. to switch the thread model.
+	 */
+	public static ConfigurableApplicationContext startServer(String... args) {
+		return start(WebApplicationType.SERVLET, args);
+	}
+
+	/**
+	 * Starts the application with a Spring profile and keeps the profile's SQL
+	 * logging, for benchmarks that compare profiles. Only the database and its
+	 * schema are overridden.
+	 *
+	 * @param profile The profile to activate, or {@code default} for none.
+	 */
+	public static ConfigurableApplicationContext startProfile(String profile) {
+		return run(WebApplicationType.NONE, "--spring.profiles.active=" + profile);
+	}
+
+	private static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... args) {
+		List<String> arguments = new ArrayList<>(List.of(
+				"--spring.jpa.properties.hibernate.show_sql=false",
+				"--spring.jpa.properties.hibernate.format_sql=false"));
+		arguments.addAll(List.of(args));
+		return run(webApplicationType, arguments.toArray(String[]::new));
+	}
+
+	private static ConfigurableApplicationContext run(WebApplicationType webApplicationType, String... args) {
+		List<String> arguments = new ArrayList<>(List.of(
+				"--spring.datasource.url=" + DATASOURCE_URL,
+				"--spring.datasource.username=" + System.getProperty("bench.datasource.username", "sa"),
+				"--spring.datasource.password=" + System.getProperty("bench.datasource.password", ""),
+				// Every run starts from a fresh schema, whichever profile is active
+				"--spring.jpa.hibernate.ddl-auto=create-drop",
+				"--spring.flyway.enabled=false",
+				// The fresh schema has the wide key columns, so every profile can use Snowflake IDs;
+				// legacy IDs collide after a few thousand bookings
+				"--id.strategy=snowflake",
+				"--id.node=1",
+				// The prod profile sizes its pool for the database server and has no default
+				"--DB_POOL_SIZE=" + System.getProperty("bench.db.pool.size", "20"),
+				"--spring.main.banner-mode=off",
+				"--server.port=0",
+				"--logging.level.root=WARN",
+				"--logging.level.com.crimsonlogic.eventmanagement=WARN"));
+		if (DATASOURCE_URL.startsWith("jdbc:h2:")) {
+			arguments.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+		}
+		arguments.addAll(List.of(args));
+
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(EventmanagementApplication.class)
+				.web(webApplicationType)
+				// Command line arguments, so these override application.properties
+				.run(arguments.toArray(String[]::new));
+		seed(context.getBean(JdbcTemplate.class));
+		return context;
+	}
+
+	public static String userId(int i) {
+		return String.format("UDI-%06d", i);
+	}
+
+	public static String email(int i) {
+		return "user" + i + "@example.com";
+	}
+
+	public static String eventId(int i) {
+		return String.format("EVE-%06d", i);
+	}
+
+	public static String ticketPriceId(int event, int category) {
+		return String.format("TPI-%05d%d", event, category);
+	}
+
+	private static void seed(JdbcTemplate jdbc) {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		Random random = new Random(42); // Fixed seed so every run sees the same data
+
+		jdbc.update("INSERT INTO event_categories (category_id, category_name, image_path, created_at, is_enabled) "
+				+ "VALUES ('CAT-BENCH', 'Music', '/images/music.png', ?, TRUE)", now);
+
+		List<Object[]> auths = new ArrayList<>();
+		List<Object[]> users = new ArrayList<>();
+		List<Object[]> roles = new ArrayList<>();
+		List<Object[]> wallets = new ArrayList<>();
+		for (int i = 0; i < USERS; i++) {
+			String authId = String.format("URI-%06d", i);
+			auths.add(new Object[] { authId, email(i), PASSWORD });
+			roles.add(new Object[] { String.format("RLI-%06d", i), "customer", authId });
+			users.add(new Object[] { userId(i), "User " + i, "9999999999", LocalDate.of(1990, 1, 1), true, now, authId });
+			// Wallets are effectively bottomless so booking benchmarks never run dry
+			wallets.add(new Object[] { String.format("WLI-%06d", i), 1.0e12, userId(i) });
+		}
+		batch(jdbc, "INSERT INTO user_authentication (user_id, email, password) VALUES (?, ?, ?)", auths);
+		batch(jdbc, "INSERT INTO user_details (user_details_id, full_name, contact_number, date_of_birth, is_approved, "
+				+ "created_at, details_of_user) VALUES (?, ?, ?, ?, ?, ?, ?)", users);
+		batch(jdbc, "INSERT INTO roles (role_id, role_name, role_for_user) VALUES (?, ?, ?)", roles);
+		batch(jdbc, "INSERT INTO wallet (wallet_id, amount, wallet_for_user) VALUES (?, ?, ?)", wallets);
+
+		List<Object[]> events = new ArrayList<>();
+		List<Object[]> venues = new ArrayList<>();
+		List<Object[]> prices = new ArrayList<>();
+		List<Object[]> sponsors = new ArrayList<>();
+		for (int i = 0; i < EVENTS; i++) {
+			// Half the catalogue is in the past, so the upcoming feed has to filter
+			LocalDate date = LocalDate.now().plusDays(i - EVENTS / 2);
+			LocalTime time = LocalTime.of(9 + random.nextInt(12), 0);
+			events.add(new Object[] { eventId(i), "Event " + i, "Description of event " + i, date, time,
+					"/images/event" + i + ".png", now, userId(random.nextInt(USERS)), "CAT-BENCH" });
+			venues.add(new Object[] { String.format("VEI-%06d", i), "Hall " + i, "https://maps.example.com/" + i,
+					Integer.MAX_VALUE / 2, Integer.MAX_VALUE / 2, eventId(i) });
+			for (int c = 0; c < TICKET_PRICES_PER_EVENT; c++) {
+				prices.add(new Object[] { ticketPriceId(i, c), "Category " + c, 100.0 * (c + 1), eventId(i) });
+			}
+			for (int s = 0; s < SPONSORS_PER_EVENT; s++) {
+				sponsors.add(new Object[] { String.format("SPI-%05d%d", i, s), "Sponsor " + s, "8888888888", eventId(i) });
+			}
+		}
+		batch(jdbc, "INSERT INTO events (event_id, event_name, description, date, time, image_path, created_at, "
+				+ "created_by, event_category) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", events);
+		batch(jdbc, "INSERT INTO venue (venue_id, venue_location, maps_link, capacity, total_capacity, venue_for_event) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", venues);
+		batch(jdbc, "INSERT INTO ticket_price (ticket_price_id, price_category, price, ticket_for_event) "
+				+ "VALUES (?, ?, ?, ?)", prices);
+		batch(jdbc, "INSERT INTO sponsors (sponsor_id, sponsor_name, contact_number, sponsor_for_event) "
+				+ "VALUES (?, ?, ?, ?)", sponsors);
+
+		List<Object[]> bookings = new ArrayList<>();
+		List<Object[]> payments = new ArrayList<>();
+		int n = 0;
+		for (int u = 0; u < USERS; u++) {
+			for (int b = 0; b < BOOKINGS_PER_USER; b++, n++) {
+				String bookingId = String.format("BKS-%06d", n);
+				int tickets = 1 + random.nextInt(4);
+				String status = random.nextInt(10) == 0 ? "CANCELLED" : "CONFIRMED";
+				bookings.add(new Object[] { bookingId, new Timestamp(now.getTime() - random.nextInt(1_000_000_000)),
+						status, tickets, eventId(random.nextInt(EVENTS)), userId(u) });
+				payments.add(new Object[] { String.format("BPS-%06d", n), tickets * 100.0, "SUCCESS", bookingId });
+			}
+			if (bookings.size() >= BATCH_SIZE) {
+				flushBookings(jdbc, bookings, payments);
+			}
+		}
+		flushBookings(jdbc, bookings, payments);
+
+		// Sales summaries as a migrated database has them, so bookings update rows instead of seeding them
+		jdbc.update("INSERT INTO event_sales_summary (summary_for_event, tickets_sold, revenue) "
+				+ "SELECT e.event_id, "
+				+ "COALESCE(SUM(CASE WHEN b.booking_status = 'CONFIRMED' THEN b.no_of_tickets END), 0), "
+				+ "COALESCE(SUM(CASE WHEN b.booking_status = 'CONFIRMED' THEN p.payment_amount "
+				+ "WHEN b.booking_status = 'CANCELLED' THEN p.payment_amount * 0.5 END), 0) "
+				+ "FROM events e LEFT JOIN bookings b ON b.booking_for_event = e.event_id "
+				+ "LEFT JOIN booking_payments p ON p.payment_for_booking = b.booking_id GROUP BY e.event_id");
+	}
+
+	private static void flushBookings(JdbcTemplate jdbc, List<Object[]> bookings, List<Object[]> payments) {
+		batch(jdbc, "INSERT INTO bookings (booking_id, booking_date, booking_status, no_of_tickets, booking_for_event, "
+				+ "booking_made_by) VALUES (?, ?, ?, ?, ?, ?)", bookings);
+		batch(jdbc, "INSERT INTO booking_payments (booking_payment_id, payment_amount, payment_status, "
+				+ "payment_for_booking) VALUES (?, ?, ?, ?)", payments);
+		bookings.clear();
+		payments.clear();
+	}
+
+	private static void batch(JdbcTemplate jdbc, String sql, List<Object[]> rows) {
+		for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+			jdbc.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+		}
+	}
+
+}
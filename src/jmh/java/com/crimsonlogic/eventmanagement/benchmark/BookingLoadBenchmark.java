@@ -0,0 +1,108 @@
+package com.crimsonlogic.eventmanagement.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Load test of the booking endpoint over HTTP with Tomcat on platform threads
+ * versus virtual threads.
+ * <p>
+ * Each operation fires {@code concurrency} booking requests at once and waits
+ * for all of them, so requests per second is the reported throughput times
+ * {@code concurrency}. Set {@code concurrency} above Tomcat's 200 platform
+ * workers to see the difference between the modes; with H2 in memory the
+ * database hardly blocks, so the gap is smaller than against PostgreSQL. The
+ * virtual mode needs JDK 21:
+ * {@code mvn -P benchmark verify -Djmh.args="BookingLoadBenchmark -p concurrency=1000"}
+ * <p>
+ * The comparison has not been measured yet: the only environment it has run
+ * in has JDK 17 and one CPU. Platform mode there, with 500 concurrent
+ * requests, managed about 0.12 waves per second, some 60 bookings per second
+ * (2 warmup and 3 measured 10 s iterations, error larger than the score).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookingLoadBenchmark {
+
+	@Param({ "platform", "virtual" })
+	private String threads;
+
+	@Param({ "500" })
+	private int concurrency;
+
+	private ConfigurableApplicationContext context;
+
+	private HttpClient client;
+
+	private String baseUrl;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		boolean virtual = threads.equals("virtual");
+		if (virtual && Runtime.version().feature() < 21) {
+			throw new IllegalStateException("Virtual threads need JDK 21, running on " + Runtime.version());
+		}
+		// Each mode with the settings it ships with: the virtual profile also fixes the connection pool
+		context = virtual ? BenchmarkData.startServer("--spring.profiles.active=virtual") : BenchmarkData.startServer();
+		baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+		client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public int bookTickets() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+		for (int i = 0; i < concurrency; i++) {
+			int event = random.nextInt(BenchmarkData.EVENTS);
+			URI uri = URI.create(baseUrl + "/api/bookings/book"
+					+ "?userId=" + BenchmarkData.userId(random.nextInt(BenchmarkData.USERS))
+					+ "&eventId=" + BenchmarkData.eventId(event)
+					+ "&ticketPriceId=" + BenchmarkData.ticketPriceId(event, random.nextInt(BenchmarkData.TICKET_PRICES_PER_EVENT))
+					+ "&numberOfTickets=" + (1 + random.nextInt(4)));
+			responses[i] = client.sendAsync(HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.noBody()).build(),
+					HttpResponse.BodyHandlers.discarding());
+		}
+		CompletableFuture.allOf(responses).join();
+
+		int created = 0;
+		for (CompletableFuture<?> response : responses) {
+			if (((HttpResponse<?>) response.join()).statusCode() == 201) {
+				created++;
+			}
+		}
+		if (created < concurrency) {
+			throw new IllegalStateException((concurrency - created) + " of " + concurrency + " bookings failed");
+		}
+		return created;
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.crimsonlogic.eventmanagement.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.crimsonlogic.eventmanagement.util.IDGenerator;
+import com.crimsonlogic.eventmanagement.util.SnowflakeIdStrategy;
+
+/**
+ * Throughput of primary key generation, single threaded and under contention
+ * from the request threads that create bookings and payments. The legacy
+ * UUID based scheme is kept as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+	private final SnowflakeIdStrategy snowflake = new SnowflakeIdStrategy(1);
+
+	@Benchmark
+	public String legacy() {
+		return IDGenerator.LEGACY.nextId("BKI-");
+	}
+
+	@Benchmark
+	@Threads(8)
+	public String legacy_Contended() {
+		return IDGenerator.LEGACY.nextId("BKI-");
+	}
+
+	@Benchmark
+	public String snowflake() {
+		return snowflake.nextId("BKI-");
+	}
+
+	@Benchmark
+	@Threads(8)
+	public String snowflake_Contended() {
+		return snowflake.nextId("BKI-");
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.crimsonlogic.eventmanagement.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.crimsonlogic.eventmanagement.cache.PrincipalCache;
+import com.crimsonlogic.eventmanagement.payload.UserSignInDto;
+import com.crimsonlogic.eventmanagement.service.AuthService;
+
+/**
+ * Login latency under concurrent sign-ins, as during a ticket drop. Sampling
+ * mode reports the latency distribution, so compare the p0.99 rows rather than
+ * the mean. The uncached variant evicts the principal first and so measures
+ * the single sign-in query. Seeded accounts start with legacy plaintext
+ * passwords and are rehashed on their first login, as after a migration, so
+ * the steady state includes a bcrypt check per login on the hashing pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LoginBenchmark {
+
+	private ConfigurableApplicationContext context;
+
+	private AuthService authService;
+
+	private PrincipalCache principalCache;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkData.start();
+		authService = context.getBean(AuthService.class);
+		principalCache = context.getBean(PrincipalCache.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Object signIn_Cached() {
+		return authService.signIn(randomUser());
+	}
+
+	@Benchmark
+	public Object signIn_Uncached() {
+		UserSignInDto signIn = randomUser();
+		principalCache.evict(signIn.getEmail());
+		return authService.signIn(signIn);
+	}
+
+	private static UserSignInDto randomUser() {
+		UserSignInDto signIn = new UserSignInDto();
+		signIn.setEmail(BenchmarkData.email(ThreadLocalRandom.current().nextInt(BenchmarkData.USERS)));
+		signIn.setPassword(BenchmarkData.PASSWORD);
+		return signIn;
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.crimsonlogic.eventmanagement.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.crimsonlogic.eventmanagement.entity.EventCategories;
+import com.crimsonlogic.eventmanagement.entity.Events;
+import com.crimsonlogic.eventmanagement.entity.UserAuthentication;
+import com.crimsonlogic.eventmanagement.entity.UserDetails;
+import com.crimsonlogic.eventmanagement.mapper.EventMapper;
+import com.crimsonlogic.eventmanagement.payload.EventDto;
+
+/**
+ * Compares the reflective ModelMapper path the services used to take with the
+ * hand-written event mapper, over a list of the size a listing endpoint returns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+	@Param({ "100", "1000" })
+	private int rows;
+
+	private final ModelMapper modelMapper = new ModelMapper();
+
+	private final EventMapper eventMapper = new EventMapper();
+
+	private List<Events> events;
+
+	@Setup
+	public void setUp() {
+		UserAuthentication auth = new UserAuthentication("URI-BENCH", "bench@example.com", "secret");
+		UserDetails user = new UserDetails("UDI-BENCH", "Bench User", "9999999999", null, LocalDate.of(1990, 1, 1), true,
+				new Timestamp(System.currentTimeMillis()), auth);
+		EventCategories category = new EventCategories("CAT-BENCH", "Music", "/images/music.png",
+				new Timestamp(System.currentTimeMillis()), null, true);
+
+		events = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			events.add(new Events("EVE-" + i, "Event " + i, "Description " + i, LocalDate.now().plusDays(i),
+					LocalTime.NOON, "/images/event" + i + ".png", new Timestamp(System.currentTimeMillis()), user, category));
+		}
+
+		// Let ModelMapper build its type maps before measuring, as it would after the first request
+		modelMapper.map(events.get(0), EventDto.class);
+	}
+
+	@Benchmark
+	public void eventsModelMapper(Blackhole blackhole) {
+		for (Events event : events) {
+			blackhole.consume(modelMapper.map(event, EventDto.class));
+		}
+	}
+
+	@Benchmark
+	public void eventsHandWritten(Blackhole blackhole) {
+		for (Events event : events) {
+			blackhole.consume(eventMapper.toDto(event));
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.crimsonlogic.eventmanagement.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.crimsonlogic.eventmanagement.payload.BatchBookingResultDto;
+import com.crimsonlogic.eventmanagement.payload.BookingDto;
+import com.crimsonlogic.eventmanagement.payload.BookingLineDto;
+import com.crimsonlogic.eventmanagement.payload.CatalogImportResultDto;
+import com.crimsonlogic.eventmanagement.payload.EventCatalogRowDto;
+import com.crimsonlogic.eventmanagement.service.BookingService;
+import com.crimsonlogic.eventmanagement.service.EventService;
+
+/**
+ * Compares the default settings with the {@code prod} profile on the write
+ * heavy batch paths and a plain read.
+ * <p>
+ * Against the in-memory H2 database this shows the cost of statement logging.
+ * The PostgreSQL driver settings (rewritten batch inserts, server-side prepared
+ * statements) only take effect against PostgreSQL:
+ * {@code mvn -P benchmark verify -Djmh.args="PersistenceProfileBenchmark -jvmArgsAppend -Dbench.datasource.url=jdbc:postgresql://localhost:5432/bench"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceProfileBenchmark {
+
+	private static final int BOOKING_LINES = 10;
+
+	private static final int IMPORT_EVENTS = 50;
+
+	@Param({ "default", "prod" })
+	private String profile;
+
+	private ConfigurableApplicationContext context;
+
+	private BookingService bookingService;
+
+	private EventService eventService;
+
+	private final AtomicLong imports = new AtomicLong();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkData.startProfile(profile);
+		bookingService = context.getBean(BookingService.class);
+		eventService = context.getBean(EventService.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public BatchBookingResultDto bookTicketsBatch() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		List<BookingLineDto> lines = new ArrayList<>(BOOKING_LINES);
+		for (int i = 0; i < BOOKING_LINES; i++) {
+			int event = random.nextInt(BenchmarkData.EVENTS);
+			lines.add(new BookingLineDto(BenchmarkData.eventId(event),
+					BenchmarkData.ticketPriceId(event, random.nextInt(BenchmarkData.TICKET_PRICES_PER_EVENT)), 1));
+		}
+		return bookingService.bookTicketsBatch(BenchmarkData.userId(random.nextInt(BenchmarkData.USERS)), lines, false);
+	}
+
+	@Benchmark
+	public CatalogImportResultDto importCatalog() {
+		// A ticket price and a sponsor for each of a run of events, inserted in batches. Names are
+		// unique per invocation, because the import skips entries an event already has
+		int first = ThreadLocalRandom.current().nextInt(BenchmarkData.EVENTS - IMPORT_EVENTS);
+		String name = "Late " + imports.incrementAndGet();
+		List<EventCatalogRowDto> rows = new ArrayList<>(IMPORT_EVENTS * 2);
+		for (int i = first; i < first + IMPORT_EVENTS; i++) {
+			rows.add(new EventCatalogRowDto(BenchmarkData.eventId(i), EventCatalogRowDto.TICKET_PRICE, name, 150.0, null));
+			rows.add(new EventCatalogRowDto(BenchmarkData.eventId(i), EventCatalogRowDto.SPONSOR, name, null,
+					"7777777777"));
+		}
+		return eventService.importCatalog(rows.iterator());
+	}
+
+	@Benchmark
+	public Page<BookingDto> getUserBookings() {
+		String userId = BenchmarkData.userId(ThreadLocalRandom.current().nextInt(BenchmarkData.USERS));
+		return bookingService.getUserBookings(userId, PageRequest.of(0, 20));
+	}
+
+}
@@ -0,0 +1,109 @@
+package com.crimsonlogic.eventmanagement.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.crimsonlogic.eventmanagement.cache.EventDetailsCache;
+import com.crimsonlogic.eventmanagement.payload.BookingDto;
+import com.crimsonlogic.eventmanagement.payload.EventDto;
+import com.crimsonlogic.eventmanagement.service.BookingService;
+import com.crimsonlogic.eventmanagement.service.EventService;
+
+/**
+ * Measures the booking and listing hot paths end to end through the Spring
+ * services, against the seeded H2 database from {@link BenchmarkData}.
+ * Results are reported as average time per call. Spring and Hibernate need a
+ * few seconds of warmup before the JIT settles, hence the longer warmup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+	private ConfigurableApplicationContext context;
+
+	private BookingService bookingService;
+
+	private EventService eventService;
+
+	private EventDetailsCache eventDetailsCache;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkData.start();
+		bookingService = context.getBean(BookingService.class);
+		eventService = context.getBean(EventService.class);
+		eventDetailsCache = context.getBean(EventDetailsCache.class);
+
+		// Load every event page once so the cached benchmark only measures hits
+		for (int i = 0; i < BenchmarkData.EVENTS; i++) {
+			eventService.getEventDetails(BenchmarkData.eventId(i));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public BookingDto bookTickets() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int event = random.nextInt(BenchmarkData.EVENTS);
+		return bookingService.bookTickets(BenchmarkData.userId(random.nextInt(BenchmarkData.USERS)),
+				BenchmarkData.eventId(event),
+				BenchmarkData.ticketPriceId(event, random.nextInt(BenchmarkData.TICKET_PRICES_PER_EVENT)),
+				1 + random.nextInt(4));
+	}
+
+	@Benchmark
+	public Page<BookingDto> getUserBookings() {
+		String userId = BenchmarkData.userId(ThreadLocalRandom.current().nextInt(BenchmarkData.USERS));
+		return bookingService.getUserBookings(userId, PageRequest.of(0, 20));
+	}
+
+	@Benchmark
+	public List<EventDto> getAllEventsByDate_FirstPage() {
+		return eventService.getAllEventsByDate(null, 6);
+	}
+
+	@Benchmark
+	public List<EventDto> getAllEventsByDate_NextPage() {
+		// Continue after an event from the upcoming half of the catalogue
+		int after = BenchmarkData.EVENTS / 2 + ThreadLocalRandom.current().nextInt(BenchmarkData.EVENTS / 2);
+		return eventService.getAllEventsByDate(BenchmarkData.eventId(after), 6);
+	}
+
+	@Benchmark
+	public EventDto getEventDetails_Cached() {
+		return eventService.getEventDetails(BenchmarkData.eventId(ThreadLocalRandom.current().nextInt(BenchmarkData.EVENTS)));
+	}
+
+	@Benchmark
+	public EventDto getEventDetails_Uncached() {
+		String eventId = BenchmarkData.eventId(ThreadLocalRandom.current().nextInt(BenchmarkData.EVENTS));
+		eventDetailsCache.evict(eventId);
+		return eventService.getEventDetails(eventId);
+	}
+
+}
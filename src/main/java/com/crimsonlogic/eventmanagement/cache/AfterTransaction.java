@@ -0,0 +1,32 @@
+package com.crimsonlogic.eventmanagement.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Repeats a cache eviction once the current transaction has finished.
+ * <p>
+ * An eviction made inside a transaction is not enough on its own: a read on
+ * another thread between the eviction and the commit still sees the old rows
+ * and puts them back for the whole TTL. Evicting again after completion closes
+ * that window, and after a rollback it drops anything this transaction cached
+ * from rows that were never committed.
+ */
+final class AfterTransaction {
+
+	private AfterTransaction() {
+	}
+
+	static void evict(Runnable eviction) {
+		eviction.run(); // Right away, so the writing transaction reads its own changes
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					eviction.run();
+				}
+			});
+		}
+	}
+
+}
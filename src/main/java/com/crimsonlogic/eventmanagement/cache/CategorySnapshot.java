@@ -0,0 +1,47 @@
+package com.crimsonlogic.eventmanagement.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import com.crimsonlogic.eventmanagement.payload.EventCategoryDto;
+
+import lombok.Value;
+
+/**
+ * The enabled categories as served to clients, built once and shared by every
+ * request until a category changes. The list is unmodifiable and its entries
+ * must not be changed either. The ETag is a hash of the content, so it stays
+ * the same across restarts and instances as long as the categories do.
+ */
+@Value
+public class CategorySnapshot {
+
+	List<EventCategoryDto> categories;
+	String etag;
+	long version;
+	long loadedAtNanos;
+
+	public static CategorySnapshot of(List<EventCategoryDto> categories, long version) {
+		return new CategorySnapshot(List.copyOf(categories), etagOf(categories), version, System.nanoTime());
+	}
+
+	private static String etagOf(List<EventCategoryDto> categories) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (EventCategoryDto category : categories) {
+				// Unit separators keep adjacent fields from running into each other
+				String row = category.getCategoryId() + '\u001f' + category.getCategoryName() + '\u001f'
+						+ category.getImagePath() + '\u001f' + category.getCreatedAt() + '\u001f'
+						+ category.getUpdatedAt() + '\u001e';
+				digest.update(row.getBytes(StandardCharsets.UTF_8));
+			}
+			return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+}
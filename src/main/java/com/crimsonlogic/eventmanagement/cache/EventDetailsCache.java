@@ -0,0 +1,69 @@
+package com.crimsonlogic.eventmanagement.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process read-through cache for event detail pages.
+ * <p>
+ * Static event data is held in a size and TTL bounded Caffeine cache and must be
+ * evicted by every write path that changes it; evictions inside a transaction
+ * are repeated once it completes. Seat counts are not cached here:
+ * they change with every booking and are read per request from the venue and
+ * the event's sales summary. Hit and miss statistics are published through
+ * Micrometer.
+ */
+@Slf4j
+@Component
+public class EventDetailsCache {
+
+	private final Cache<String, EventDetailsSnapshot> details;
+
+	public EventDetailsCache(@Value("${event.details.cache.maximum-size:10000}") long maximumSize,
+			@Value("${event.details.cache.ttl:10m}") Duration ttl, MeterRegistry meterRegistry) {
+		this.details = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, details, "eventDetails");
+	}
+
+	public EventDetailsSnapshot get(String eventId, Function<String, EventDetailsSnapshot> loader) {
+		return details.get(eventId, loader);
+	}
+
+	public EventDetailsSnapshot getIfPresent(String eventId) {
+		return details.getIfPresent(eventId);
+	}
+
+	/**
+	 * Evicts an event now and, when called in a transaction, again once it completes.
+	 */
+	public void evict(String eventId) {
+		log.debug("Evicting cached details for event: {}", eventId);
+		AfterTransaction.evict(() -> details.invalidate(eventId));
+	}
+
+	public void evictAll(Collection<String> eventIds) {
+		if (!eventIds.isEmpty()) {
+			log.debug("Evicting cached details for {} events", eventIds.size());
+			List<String> keys = List.copyOf(eventIds);
+			AfterTransaction.evict(() -> details.invalidateAll(keys));
+		}
+	}
+
+}
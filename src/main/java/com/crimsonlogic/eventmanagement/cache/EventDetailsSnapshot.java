@@ -0,0 +1,87 @@
+package com.crimsonlogic.eventmanagement.cache;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.crimsonlogic.eventmanagement.payload.EventDto;
+import com.crimsonlogic.eventmanagement.payload.SponsorDto;
+import com.crimsonlogic.eventmanagement.payload.TicketPriceDto;
+import com.crimsonlogic.eventmanagement.payload.VenueDto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * The rarely changing parts of an event page, cached together so a detail
+ * view does not have to go back to the database for each of them.
+ * <p>
+ * Holds DTOs rather than entities, so nothing cached belongs to a persistence
+ * context or reaches the organizer's account through {@code createdBy}. One
+ * snapshot is shared by every request for the event, so the getters return
+ * copies the caller is free to change.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventDetailsSnapshot {
+
+	// The event's own fields; venue, ticket prices and sponsors are held below
+	EventDto event;
+	VenueDto venue;
+	List<TicketPriceDto> ticketPrices;
+	List<SponsorDto> sponsors;
+
+	public static EventDetailsSnapshot of(EventDto event, VenueDto venue, List<TicketPriceDto> ticketPrices,
+			List<SponsorDto> sponsors) {
+		return new EventDetailsSnapshot(copy(event), venue != null ? copy(venue) : null,
+				ticketPrices.stream().map(EventDetailsSnapshot::copy).toList(),
+				sponsors.stream().map(EventDetailsSnapshot::copy).toList());
+	}
+
+	public EventDto getEvent() {
+		return copy(event);
+	}
+
+	public VenueDto getVenue() {
+		return venue != null ? copy(venue) : null;
+	}
+
+	public List<TicketPriceDto> getTicketPrices() {
+		return ticketPrices.stream().map(EventDetailsSnapshot::copy).collect(Collectors.toList());
+	}
+
+	public List<SponsorDto> getSponsors() {
+		return sponsors.stream().map(EventDetailsSnapshot::copy).collect(Collectors.toList());
+	}
+
+	private static EventDto copy(EventDto event) {
+		EventDto copy = new EventDto();
+		copy.setEventId(event.getEventId());
+		copy.setEventName(event.getEventName());
+		copy.setDescription(event.getDescription());
+		copy.setDate(event.getDate());
+		copy.setTime(event.getTime());
+		copy.setImagePath(event.getImagePath());
+		copy.setCreatedAt(event.getCreatedAt() != null ? (Timestamp) event.getCreatedAt().clone() : null);
+		copy.setCreatedBy(event.getCreatedBy());
+		copy.setCategoryId(event.getCategoryId());
+		return copy;
+	}
+
+	private static VenueDto copy(VenueDto venue) {
+		return new VenueDto(venue.getVenueId(), venue.getVenueLocation(), venue.getMapsLink(), venue.getCapacity(),
+				venue.getEventId());
+	}
+
+	private static TicketPriceDto copy(TicketPriceDto ticketPrice) {
+		return new TicketPriceDto(ticketPrice.getTicketPriceId(), ticketPrice.getPriceCategory(), ticketPrice.getPrice(),
+				ticketPrice.getEventId());
+	}
+
+	private static SponsorDto copy(SponsorDto sponsor) {
+		return new SponsorDto(sponsor.getSponsorId(), sponsor.getSponsorName(), sponsor.getContactNumber(),
+				sponsor.getEventId());
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.crimsonlogic.eventmanagement.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.crimsonlogic.eventmanagement.repository.UserAuthenticationRepository.SignInPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Short-lived cache of sign-in principals keyed by email, so a burst of logins
+ * for the same accounts does not query the database on every attempt.
+ * <p>
+ * Only existing accounts are cached; unknown emails always go to the database.
+ * Entries must be evicted whenever the password or the approval flag changes;
+ * an eviction inside a transaction is repeated once it completes. The short
+ * TTL bounds how stale an entry can get when another instance makes the change.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+	private final Cache<String, SignInPrincipal> principals;
+
+	public PrincipalCache(@Value("${auth.principal.cache.maximum-size:10000}") long maximumSize,
+			@Value("${auth.principal.cache.ttl:30s}") Duration ttl, MeterRegistry meterRegistry) {
+		this.principals = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, principals, "signInPrincipals");
+	}
+
+	public Optional<SignInPrincipal> get(String email, Function<String, Optional<SignInPrincipal>> loader) {
+		// A null from the mapping function is not stored, so misses are never cached
+		return Optional.ofNullable(principals.get(email, key -> loader.apply(key).orElse(null)));
+	}
+
+	public void evict(String email) {
+		if (email != null) {
+			log.debug("Evicting cached principal for: {}", email);
+			AfterTransaction.evict(() -> principals.invalidate(email));
+		}
+	}
+
+}
@@ -1,20 +1,41 @@
 package com.crimsonlogic.eventmanagement.controller;
 
+import com.crimsonlogic.eventmanagement.exception.InvalidInputException;
+import com.crimsonlogic.eventmanagement.payload.UserImportResultDto;
+import com.crimsonlogic.eventmanagement.payload.UserImportRowDto;
 import com.crimsonlogic.eventmanagement.payload.UserSignInDto;
 import com.crimsonlogic.eventmanagement.payload.UserSignUpDto;
 import com.crimsonlogic.eventmanagement.service.AuthService;
+import com.crimsonlogic.eventmanagement.util.UserImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "http://localhost:3001")
+@Slf4j
 public class AuthController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
+    private static final String CSV = "text/csv";
+
     @Autowired
     public AuthService authService; // Service for handling authentication logic
 
+    @Autowired
+    public ObjectMapper objectMapper; // Shared Jackson mapper used to read NDJSON imports
+
     /**
      * Handles user sign-in requests.
      *
@@ -51,4 +72,38 @@ public class AuthController {
         return ResponseEntity.ok(authService.signUpOrganizer(signUpDto));
     }
 
+    /**
+     * Imports customers from a CSV upload, e.g. when migrating from another system.
+     * The file is read as it arrives, so its size is not limited by memory.
+     *
+     * @param body The CSV file with a header row.
+     * @return A ResponseEntity containing the import summary and rejected rows.
+     */
+    @PostMapping(value = "/import", consumes = CSV)
+    public ResponseEntity<UserImportResultDto> importUsersCsv(InputStream body) {
+        return importUsers(() -> UserImportReader.fromCsv(new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Imports customers from an NDJSON upload, one user object per line.
+     *
+     * @param body The newline-delimited JSON file.
+     * @return A ResponseEntity containing the import summary and rejected rows.
+     */
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<UserImportResultDto> importUsersNdjson(InputStream body) {
+        return importUsers(() -> UserImportReader.fromNdjson(objectMapper,
+                new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
+    private ResponseEntity<UserImportResultDto> importUsers(Supplier<Iterator<UserImportRowDto>> rows) {
+        try {
+            return ResponseEntity.ok(authService.importUsers(rows.get())); // Return the import summary with a 200 status
+        } catch (InvalidInputException e) {
+            // No CSV header; malformed lines are reported as rejected rows instead
+            log.error("Error importing users: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+    }
+
 }
@@ -1,9 +1,14 @@
 package com.crimsonlogic.eventmanagement.controller;
 
 import com.crimsonlogic.eventmanagement.service.BookingService;
+import com.crimsonlogic.eventmanagement.payload.BatchBookingRequestDto;
+import com.crimsonlogic.eventmanagement.payload.BatchBookingResultDto;
 import com.crimsonlogic.eventmanagement.payload.BookingDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +22,10 @@ import java.util.Map;
 @Slf4j
 public class BookingController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     @Autowired
     public BookingService bookingService; // Service for handling booking logic
 
@@ -46,16 +55,49 @@ public class BookingController {
     }
 
     /**
-     * Retrieves all bookings for a specific user.
+     * Books several lines for one user in a single order.
+     * The result lists the created bookings and any rejected lines; when nothing
+     * could be booked it is returned with a 400 status so the client can show why.
+     *
+     * @param request The user, the lines to book and whether a partial order is acceptable.
+     * @return A ResponseEntity containing the BatchBookingResultDto and the HTTP status.
+     */
+    @PostMapping("/book/batch")
+    public ResponseEntity<BatchBookingResultDto> bookTicketsBatch(@RequestBody BatchBookingRequestDto request) {
+        try {
+            BatchBookingResultDto result = bookingService.bookTicketsBatch(request.getUserId(), request.getItems(),
+                    request.isAllowPartial());
+            HttpStatus status = result.getBookings().isEmpty() ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED;
+            return ResponseEntity.status(status).body(result);
+        } catch (RuntimeException e) {
+            // Log the error for debugging
+            log.error("Error booking tickets in batch: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null); // Return a 400 status on error
+        }
+    }
+
+    /**
+     * Retrieves bookings for a specific user, newest first.
+     * When page and size are omitted the full booking history is returned.
      *
      * @param userId The ID of the user whose bookings are to be retrieved.
-     * @return A ResponseEntity containing a list of BookingDto objects.
+     * @param page   The zero-based page number (optional).
+     * @param size   The page size (optional).
+     * @return A ResponseEntity containing a list of BookingDto objects and the total count header.
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<BookingDto>> getUserBookings(@PathVariable String userId) {
+    public ResponseEntity<List<BookingDto>> getUserBookings(@PathVariable String userId,
+                                                            @RequestParam(required = false) Integer page,
+                                                            @RequestParam(required = false) Integer size) {
+        Pageable pageable = (page != null || size != null)
+                ? PageRequest.of(page != null ? page : 0, size != null ? size : DEFAULT_PAGE_SIZE)
+                : Pageable.unpaged();
+
         // Fetch and return the user's bookings
-        List<BookingDto> bookings = bookingService.getUserBookings(userId);
-        return ResponseEntity.ok(bookings); // Return the bookings with a 200 status
+        Page<BookingDto> bookings = bookingService.getUserBookings(userId, pageable);
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(bookings.getTotalElements()))
+                .body(bookings.getContent()); // Return the bookings with a 200 status
     }
 
     /**
@@ -1,8 +1,10 @@
 package com.crimsonlogic.eventmanagement.controller;
 
+import com.crimsonlogic.eventmanagement.cache.CategorySnapshot;
 import com.crimsonlogic.eventmanagement.payload.EventCategoryDto;
 import com.crimsonlogic.eventmanagement.service.EventCategoryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,13 +30,20 @@ public class EventCategoryController {
     }
 
     /**
-     * Retrieves all event categories.
+     * Retrieves the enabled event categories.
+     * The response carries the snapshot's ETag and must be revalidated, so a
+     * client sending it back in If-None-Match gets a 304 until a category changes.
      *
-     * @return A list of EventCategoryDto objects representing all categories.
+     * @return A ResponseEntity containing the enabled categories and their ETag.
      */
     @GetMapping
-    public List<EventCategoryDto> getAllCategories() {
-        return categoryService.getAllCategories(); // Fetch and return all categories
+    public ResponseEntity<List<EventCategoryDto>> getAllCategories() {
+        CategorySnapshot snapshot = categoryService.getEnabledCategories(); // Fetch the enabled categories
+        // Spring answers a matching If-None-Match with 304 and no body
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getCategories());
     }
 
     /**
@@ -1,20 +1,39 @@
 package com.crimsonlogic.eventmanagement.controller;
 
+import com.crimsonlogic.eventmanagement.exception.InvalidInputException;
+import com.crimsonlogic.eventmanagement.payload.CatalogImportResultDto;
+import com.crimsonlogic.eventmanagement.payload.EventCatalogRowDto;
 import com.crimsonlogic.eventmanagement.payload.EventDto;
 import com.crimsonlogic.eventmanagement.payload.SponsorDto;
 import com.crimsonlogic.eventmanagement.payload.TicketPriceDto;
 import com.crimsonlogic.eventmanagement.payload.VenueDto;
 import com.crimsonlogic.eventmanagement.service.EventService;
+import com.crimsonlogic.eventmanagement.util.CatalogImportReader;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/events")
@@ -22,9 +41,20 @@ import java.util.List;
 @Slf4j
 public class EventController {
 
+    private static final int MAX_FEED_SIZE = 50;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private static final String CSV = "text/csv";
+
     @Autowired
     private EventService eventService; // Service for handling event logic
 
+    @Autowired
+    private ObjectMapper objectMapper; // Shared Jackson mapper used to write streamed events
+
     /**
      * Constructor for dependency injection.
      *
@@ -35,23 +65,55 @@ public class EventController {
     }
     
     /**
-     * Retrieves all events.
+     * Retrieves all events, optionally one page at a time.
      *
-     * @return A list of EventDto objects representing all events.
+     * @param page The zero-based page number (optional).
+     * @param size The page size (optional).
+     * @return A list of EventDto objects representing the requested events.
      */
     @GetMapping("/getallevents")
-    public List<EventDto> getAllEvents() {
-        return eventService.getAllEvents(); // Fetch and return all events
+    public List<EventDto> getAllEvents(@RequestParam(required = false) Integer page,
+                                       @RequestParam(required = false) Integer size) {
+        Pageable pageable = (page != null || size != null)
+                ? PageRequest.of(page != null ? page : 0, size != null ? size : DEFAULT_PAGE_SIZE, Sort.by("eventId"))
+                : Pageable.unpaged();
+        return eventService.getAllEvents(pageable); // Fetch and return the events
+    }
+
+    /**
+     * Streams the whole event catalog as newline-delimited JSON, one event per line.
+     *
+     * @return A ResponseEntity whose body writes events as they are read from the database.
+     */
+    @GetMapping(value = "/getallevents/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllEvents() {
+        ObjectWriter writer = objectMapper.writerFor(EventDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        StreamingResponseBody body = outputStream -> eventService.streamAllEvents(event -> {
+            try {
+                writer.writeValue(outputStream, event);
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
     }
 
     /**
-     * Retrieves all events sorted by date.
+     * Retrieves upcoming events sorted by date.
+     * Pass the ID of the last event received as {@code after} to fetch the next page.
      *
+     * @param after The ID of the last event from the previous page (optional).
+     * @param limit The maximum number of events to return.
      * @return A list of EventDto objects sorted by date.
      */
     @GetMapping
-    public List<EventDto> getAllEventsByDate() {
-        return eventService.getAllEventsByDate(); // Fetch events sorted by date
+    public List<EventDto> getAllEventsByDate(@RequestParam(required = false) String after,
+                                             @RequestParam(defaultValue = "6") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_FEED_SIZE));
+        return eventService.getAllEventsByDate(after, pageSize); // Fetch events sorted by date
     }
 
     /**
@@ -132,6 +194,69 @@ public class EventController {
         return ResponseEntity.status(HttpStatus.CREATED).build(); // Return a 201 status
     }
 
+    /**
+     * Adds many sponsors to a specific event in one request.
+     *
+     * @param eventId The ID of the event to which sponsors are being added.
+     * @param sponsors The list of SponsorDto objects to add.
+     * @return A ResponseEntity containing the created sponsors with a 201 status.
+     */
+    @PostMapping("/{eventId}/sponsors:batch")
+    public ResponseEntity<List<SponsorDto>> addSponsorsBatch(@PathVariable String eventId,
+                                                             @RequestBody List<SponsorDto> sponsors) {
+        List<SponsorDto> created = eventService.addSponsorsBatch(eventId, sponsors); // Add all sponsors at once
+        return ResponseEntity.status(HttpStatus.CREATED).body(created); // Return the created sponsors with a 201 status
+    }
+
+    /**
+     * Adds many ticket prices to a specific event in one request.
+     *
+     * @param eventId The ID of the event to which ticket prices are being added.
+     * @param ticketPrices The list of TicketPriceDto objects to add.
+     * @return A ResponseEntity containing the created ticket prices with a 201 status.
+     */
+    @PostMapping("/{eventId}/ticketPrices:batch")
+    public ResponseEntity<List<TicketPriceDto>> addTicketPricesBatch(@PathVariable String eventId,
+                                                                     @RequestBody List<TicketPriceDto> ticketPrices) {
+        List<TicketPriceDto> created = eventService.addTicketPricesBatch(eventId, ticketPrices); // Add all ticket prices at once
+        return ResponseEntity.status(HttpStatus.CREATED).body(created); // Return the created ticket prices with a 201 status
+    }
+
+    /**
+     * Imports ticket prices and sponsors for many events from a CSV upload.
+     * The file is read as it arrives, so its size is not limited by memory.
+     *
+     * @param body The CSV file with a header row.
+     * @return A ResponseEntity containing the import summary and rejected rows.
+     */
+    @PostMapping(value = "/import", consumes = CSV)
+    public ResponseEntity<CatalogImportResultDto> importCatalogCsv(InputStream body) {
+        return importCatalog(() -> CatalogImportReader.fromCsv(new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Imports ticket prices and sponsors for many events from an NDJSON upload,
+     * one row object per line.
+     *
+     * @param body The newline-delimited JSON file.
+     * @return A ResponseEntity containing the import summary and rejected rows.
+     */
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<CatalogImportResultDto> importCatalogNdjson(InputStream body) {
+        return importCatalog(() -> CatalogImportReader.fromNdjson(objectMapper,
+                new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
+    private ResponseEntity<CatalogImportResultDto> importCatalog(Supplier<Iterator<EventCatalogRowDto>> rows) {
+        try {
+            return ResponseEntity.ok(eventService.importCatalog(rows.get())); // Return the import summary with a 200 status
+        } catch (InvalidInputException e) {
+            // No CSV header; malformed lines are reported as rejected rows instead
+            log.error("Error importing catalog: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+    }
+
     /**
      * Adds venue information for a specific event.
      *
@@ -158,7 +283,8 @@ public class EventController {
     }
 
     /**
-     * Retrieves detailed information about a specific event.
+     * Retrieves detailed information about a specific event, including its
+     * venue, ticket prices, sponsors and seat counts, in one round trip.
      *
      * @param eventId The ID of the event to retrieve details for.
      * @return A ResponseEntity containing the EventDto with event details.
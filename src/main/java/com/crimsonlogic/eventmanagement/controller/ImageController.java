@@ -0,0 +1,244 @@
+package com.crimsonlogic.eventmanagement.controller;
+
+import com.crimsonlogic.eventmanagement.exception.ImageStorageException;
+import com.crimsonlogic.eventmanagement.service.ImageStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Serves stored images and their thumbnails under {@code /images}, the URLs the
+ * upload endpoints hand out.
+ * <p>
+ * Images stored since uploads became content-addressed are named after the
+ * SHA-256 of their bytes, so that hash is used as a strong ETag and the
+ * response may be cached forever. Older images keep their original names and
+ * are revalidated instead. Conditional GETs are answered with 304 and a single
+ * byte range with 206. The body is handed to Tomcat's sendfile where the
+ * connector supports it and otherwise copied with {@link FileChannel#transferTo},
+ * so the file is never read through a heap buffer by this code.
+ */
+@RestController
+@RequestMapping("/images")
+@Slf4j
+public class ImageController {
+
+    // Request attributes Tomcat uses to send a file body with sendfile once the response is committed
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile("[0-9a-f]{64}\\.[a-z]+");
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+            .getHeaderValue();
+
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+    // Cache-Control for an image whose thumbnail is not generated yet
+    private static final String PENDING_THUMBNAIL = CacheControl.maxAge(Duration.ofMinutes(1)).getHeaderValue();
+
+    @Autowired
+    private ImageStorageService imageStorageService; // Service resolving stored image names to files
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param imageStorageService The image storage service to be injected.
+     */
+    public ImageController(ImageStorageService imageStorageService) {
+        this.imageStorageService = imageStorageService;
+    }
+
+    /**
+     * Serves a stored image.
+     *
+     * @param fileName The image name from the URL returned by the upload.
+     * @param request  The request, read for conditional and range headers.
+     * @param response The response the image is written to.
+     */
+    @GetMapping("/{fileName}")
+    public void getImage(@PathVariable String fileName, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path image;
+        try {
+            image = imageStorageService.resolve(fileName);
+        } catch (ImageStorageException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        serve(image, fileName, "", cacheControlFor(fileName), request, response);
+    }
+
+    /**
+     * Serves the thumbnail of a stored image, or the image itself for a short
+     * while if its thumbnail is still being generated.
+     *
+     * @param fileName The image name from the URL returned by the upload.
+     * @param request  The request, read for conditional and range headers.
+     * @param response The response the thumbnail is written to.
+     */
+    @GetMapping("/thumbs/{fileName}")
+    public void getThumbnail(@PathVariable String fileName, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path thumbnail;
+        try {
+            thumbnail = imageStorageService.resolveThumbnail(fileName);
+            if (!Files.isRegularFile(thumbnail)) {
+                serve(imageStorageService.resolve(fileName), fileName, "", PENDING_THUMBNAIL, request, response);
+                return;
+            }
+        } catch (ImageStorageException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        serve(thumbnail, fileName, "-thumb", cacheControlFor(fileName), request, response);
+    }
+
+    private void serve(Path file, String fileName, String etagSuffix, String cacheControl, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        long length = Files.size(file);
+        String etag = etagFor(file, fileName, etagSuffix, length);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                start = length; // Fall through to 416 below
+            }
+            // HttpRange clamps the end to the file but leaves a start past it as it is
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(end - start + 1);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat writes the body itself, straight from the file to the socket
+            request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel source = FileChannel.open(file)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                long transferred = source.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break; // The file was truncated while being served
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static String cacheControlFor(String fileName) {
+        return CONTENT_ADDRESSED_NAME.matcher(fileName).matches() ? IMMUTABLE : REVALIDATE;
+    }
+
+    /**
+     * A content-addressed name is its own strong ETag. Older names can be
+     * overwritten in place, so their tag is weak and derived from the file's
+     * size and modification time.
+     */
+    private static String etagFor(Path file, String fileName, String suffix, long length) throws IOException {
+        if (CONTENT_ADDRESSED_NAME.matcher(fileName).matches()) {
+            return "\"" + fileName.substring(0, fileName.indexOf('.')) + suffix + "\"";
+        }
+        return "W/\"" + length + "-" + Files.getLastModifiedTime(file).toMillis() + suffix + "\"";
+    }
+
+    private static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        // If-None-Match uses weak comparison, so W/ prefixes are ignored on both sides
+        String opaqueTag = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /**
+     * Returns the single byte range to serve, or null to serve the whole file.
+     * Malformed and multi-part ranges are ignored, as is a range whose
+     * If-Range validator no longer matches the file by strong comparison.
+     */
+    private static HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && (etag.startsWith("W/") || !ifRange.trim().equals(etag))) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring malformed range header: {}", rangeHeader);
+            return null;
+        }
+    }
+}
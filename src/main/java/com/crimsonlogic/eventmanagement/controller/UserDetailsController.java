@@ -4,6 +4,9 @@ import com.crimsonlogic.eventmanagement.payload.UserDetailsDto;
 import com.crimsonlogic.eventmanagement.service.UserDetailsService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,6 +19,10 @@ import java.util.Map;
 @Slf4j
 public class UserDetailsController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     @Autowired
     public UserDetailsService userDetailsService; // Service for handling user details logic
 
@@ -91,14 +98,26 @@ public class UserDetailsController {
     }
 
     /**
-     * Retrieves a list of organizers.
+     * Retrieves a list of organizers, optionally filtered by approval status.
+     * When page and size are omitted all matching organizers are returned.
      *
-     * @return A ResponseEntity containing a list of UserDetailsDto representing organizers.
+     * @param approved true for approved organizers, false for the approval queue (optional).
+     * @param page     The zero-based page number (optional).
+     * @param size     The page size (optional).
+     * @return A ResponseEntity containing a list of UserDetailsDto representing organizers and the total count header.
      */
     @GetMapping("/organizers")
-    public ResponseEntity<List<UserDetailsDto>> getOrganizers() {
-        List<UserDetailsDto> organizers = userDetailsService.getOrganizers();
-        return ResponseEntity.ok(organizers); // Return list of organizers with a 200 status
+    public ResponseEntity<List<UserDetailsDto>> getOrganizers(@RequestParam(required = false) Boolean approved,
+                                                              @RequestParam(required = false) Integer page,
+                                                              @RequestParam(required = false) Integer size) {
+        Pageable pageable = (page != null || size != null)
+                ? PageRequest.of(page != null ? page : 0, size != null ? size : DEFAULT_PAGE_SIZE)
+                : Pageable.unpaged();
+
+        Page<UserDetailsDto> organizers = userDetailsService.getOrganizers(approved, pageable);
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(organizers.getTotalElements()))
+                .body(organizers.getContent()); // Return list of organizers with a 200 status
     }
 
     /**
@@ -0,0 +1,32 @@
+package com.crimsonlogic.eventmanagement.entity;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+
+/**
+ * Base for entities whose string ID is assigned by {@code IDGenerator} before
+ * saving. Spring Data cannot tell such an entity is new from its ID, so
+ * {@code save()} would merge it and run a SELECT before every INSERT; this
+ * tracks newness explicitly so new rows are persisted directly.
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity implements Persistable<String> {
+
+	@Transient
+	private boolean newEntity = true;
+
+	@Override
+	public boolean isNew() {
+		return newEntity;
+	}
+
+	@PostPersist
+	@PostLoad
+	void markNotNew() {
+		this.newEntity = false;
+	}
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
@@ -15,10 +16,11 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class BookingPayments {
+@EqualsAndHashCode(callSuper = false)
+public class BookingPayments extends AssignedIdEntity {
     
     @Id
-    @Column(name = "booking_payment_id", length = 10)
+    @Column(name = "booking_payment_id", length = 20)
     private String bookingPaymentId;
     
     @Column(name = "payment_amount")
@@ -30,4 +32,9 @@ public class BookingPayments {
     @OneToOne
     @JoinColumn(name = "payment_for_booking")
     private Bookings paymentForBooking;
+
+    @Override
+    public String getId() {
+        return bookingPaymentId;
+    }
 }
@@ -5,21 +5,24 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = @Index(name = "idx_bookings_made_by_date", columnList = "booking_made_by, booking_date"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Bookings {
+@EqualsAndHashCode(callSuper = false)
+public class Bookings extends AssignedIdEntity {
     
     @Id
-    @Column(name = "booking_id", length = 10)
+    @Column(name = "booking_id", length = 20)
     private String bookingId;
     
     @Column(name = "booking_date")
@@ -38,4 +41,9 @@ public class Bookings {
     @ManyToOne
     @JoinColumn(name = "booking_made_by")
     private UserDetails bookingMadeBy;
+
+    @Override
+    public String getId() {
+        return bookingId;
+    }
 }
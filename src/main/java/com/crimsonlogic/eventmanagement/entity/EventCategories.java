@@ -1,23 +1,30 @@
 package com.crimsonlogic.eventmanagement.entity;
 
 import java.sql.Timestamp;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "eventCategories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventCategories")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class EventCategories {
     
     @Id
-    @Column(name = "category_id", length = 10)
+    @Column(name = "category_id", length = 20)
     private String categoryId;
     
     @Column(name = "category_name", length = 50)
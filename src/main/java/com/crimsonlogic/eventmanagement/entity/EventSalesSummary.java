@@ -0,0 +1,41 @@
+package com.crimsonlogic.eventmanagement.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running ticket and revenue totals for one event, kept up to date by every
+ * booking and cancellation so dashboards read one row instead of summing
+ * all bookings. Revenue is what the event keeps: payments less refunds.
+ */
+@Entity
+@Table(name = "eventSalesSummary")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class EventSalesSummary extends AssignedIdEntity {
+
+	@Id
+	@Column(name = "summary_for_event", length = 20)
+	private String eventId;
+
+	@Column(name = "tickets_sold", nullable = false)
+	private long ticketsSold;
+
+	@Column(name = "revenue", precision = 19, scale = 2, nullable = false)
+	private BigDecimal revenue;
+
+	@Override
+	public String getId() {
+		return eventId;
+	}
+}
@@ -6,6 +6,7 @@ import java.time.LocalDate;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -14,14 +15,14 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = @Index(name = "idx_events_date_time", columnList = "date, time"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Events {
     
     @Id
-    @Column(name = "event_id", length = 10)
+    @Column(name = "event_id", length = 20)
     private String eventId;
     
     @Column(name = "event_name", length = 50)
@@ -19,7 +19,7 @@ import lombok.NoArgsConstructor;
 public class OrganizerPayments {
     
     @Id
-    @Column(name = "organizer_payment_id", length = 10)
+    @Column(name = "organizer_payment_id", length = 20)
     private String paymentId;
     
     @Column(name = "total_amount")
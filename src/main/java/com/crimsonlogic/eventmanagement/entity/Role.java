@@ -3,22 +3,25 @@ package com.crimsonlogic.eventmanagement.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "roles")
+@Table(name = "roles", indexes = @Index(name = "idx_roles_name_user", columnList = "role_name, role_for_user"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Role {
+@EqualsAndHashCode(callSuper = false)
+public class Role extends AssignedIdEntity {
     
     @Id
-    @Column(name = "role_id", length = 10)
+    @Column(name = "role_id", length = 20)
     private String roleId;
     
     @Column(name = "role_name", length = 50)
@@ -27,4 +30,9 @@ public class Role {
     @OneToOne
     @JoinColumn(name = "role_for_user")
     private UserAuthentication roleForUser;
+
+    @Override
+    public String getId() {
+        return roleId;
+    }
 }
@@ -1,24 +1,35 @@
 package com.crimsonlogic.eventmanagement.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Table(name = "sponsors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "sponsors")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Sponsors {
+@EqualsAndHashCode(callSuper = false)
+public class Sponsors extends AssignedIdEntity {
     
     @Id
-    @Column(name = "sponsor_id", length = 10)
+    @Column(name = "sponsor_id", length = 20)
     private String sponsorId;
     
     @Column(name = "sponsor_name", length = 50)
@@ -27,7 +38,15 @@ public class Sponsors {
     @Column(name = "contact_number", length = 10)
     private String contactNumber;
 
-    @ManyToOne
+    // Lazy, so a cache hit needs no query for the (uncached) event; only its ID is read
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "sponsor_for_event")
     private Events sponsorForEvent;
+
+    @Override
+    public String getId() {
+        return sponsorId;
+    }
 }
@@ -1,24 +1,35 @@
 package com.crimsonlogic.eventmanagement.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Table(name = "ticketPrice")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ticketPrices")
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class TicketPrice {
+@EqualsAndHashCode(callSuper = false)
+public class TicketPrice extends AssignedIdEntity {
     
     @Id
-    @Column(name = "ticket_price_id", length = 10)
+    @Column(name = "ticket_price_id", length = 20)
     private String ticketPriceId;
     
     @Column(name = "price_category", length = 50)
@@ -27,7 +38,15 @@ public class TicketPrice {
     @Column(name = "price")
     private double price;
 
-    @ManyToOne
+    // Lazy, so a cache hit needs no query for the (uncached) event; only its ID is read
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "ticket_for_event")
     private Events ticketForEvent;
+
+    @Override
+    public String getId() {
+        return ticketPriceId;
+    }
 }
@@ -3,25 +3,37 @@ package com.crimsonlogic.eventmanagement.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
-@Table(name = "userAuthentication")
+@Table(name = "userAuthentication", indexes = @Index(name = "uk_user_authentication_email", columnList = "email", unique = true))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class UserAuthentication {
+@EqualsAndHashCode(callSuper = false)
+public class UserAuthentication extends AssignedIdEntity {
     
     @Id
-    @Column(name = "user_id", length = 10)
+    @Column(name = "user_id", length = 20)
     private String userId;
     
     @Column(name = "email", length = 100)
     private String email;
     
-    @Column(name = "password", length = 30)
+    // Holds a bcrypt hash; legacy rows may still hold plaintext until their next sign-in.
+    // Kept out of toString so entities can be logged safely
+    @ToString.Exclude
+    @Column(name = "password", length = 100)
     private String password;
+
+    @Override
+    public String getId() {
+        return userId;
+    }
 }
@@ -11,6 +11,7 @@ import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
@@ -18,10 +19,11 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class UserDetails {
+@EqualsAndHashCode(callSuper = false)
+public class UserDetails extends AssignedIdEntity {
 	
     @Id
-    @Column(name = "user_details_id", length = 10)
+    @Column(name = "user_details_id", length = 20)
     private String userDetailsId;
     
     @Column(name = "full_name", length = 100)
@@ -45,4 +47,9 @@ public class UserDetails {
     @OneToOne
     @JoinColumn(name = "details_of_user")
     private UserAuthentication detailsOfUser;
+
+    @Override
+    public String getId() {
+        return userDetailsId;
+    }
 }
@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import lombok.AllArgsConstructor;
@@ -11,14 +12,14 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "venue")
+@Table(name = "venue", indexes = @Index(name = "idx_venue_event", columnList = "venue_for_event"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class Venue {
 	
 	@Id
-	@Column(name = "venue_id", length = 10)
+	@Column(name = "venue_id", length = 20)
 	private String venueId;
 	
 	@Column(name = "venue_location", length = 100)
@@ -27,10 +28,19 @@ public class Venue {
 	@Column(name = "maps_link", length = 255)
 	private String mapsLink;
 	
+	// Seats still available; decremented by every booking
 	@Column(name = "capacity")
 	private int capacity;
 
+	// Seats the venue was set up with; null for venues created before it was recorded
+	@Column(name = "total_capacity")
+	private Integer totalCapacity;
+
 	@OneToOne
 	@JoinColumn(name = "venue_for_event")
 	private Events venueForEvent;
+
+	public Venue(String venueId, String venueLocation, String mapsLink, int capacity, Events venueForEvent) {
+		this(venueId, venueLocation, mapsLink, capacity, capacity, venueForEvent);
+	}
 }
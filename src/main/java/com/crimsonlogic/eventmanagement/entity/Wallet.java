@@ -1,5 +1,7 @@
 package com.crimsonlogic.eventmanagement.entity;
 
+import java.math.BigDecimal;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
@@ -8,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
@@ -15,17 +18,24 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class Wallet {
+@EqualsAndHashCode(callSuper = false)
+public class Wallet extends AssignedIdEntity {
 	
 	@Id
-	@Column(name = "wallet_id", length = 10)
+	@Column(name = "wallet_id", length = 20)
 	private String walletId;
 	
-	@Column(name = "amount")
-	private double amount;
+	// Cached balance; every change goes through WalletService, which also appends a WalletLedgerEntry
+	@Column(name = "amount", precision = 19, scale = 2)
+	private BigDecimal amount;
 	
 	@OneToOne
 	@JoinColumn(name = "wallet_for_user")
 	private UserDetails walletForUser;
 
+	@Override
+	public String getId() {
+		return walletId;
+	}
+
 }
@@ -0,0 +1,61 @@
+package com.crimsonlogic.eventmanagement.entity;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * One append-only movement on a wallet. Credits are positive and debits
+ * negative, so the entries of a wallet always sum to its cached balance.
+ */
+@Entity
+@Table(name = "walletLedger", indexes = @Index(name = "idx_wallet_ledger_wallet_date", columnList = "ledger_for_wallet, created_at"))
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class WalletLedgerEntry extends AssignedIdEntity {
+
+	public static final String TOP_UP = "TOP_UP";
+
+	public static final String BOOKING = "BOOKING";
+
+	public static final String REFUND = "REFUND";
+
+	@Id
+	@Column(name = "ledger_entry_id", length = 20)
+	private String ledgerEntryId;
+
+	@Column(name = "amount", precision = 19, scale = 2, nullable = false)
+	private BigDecimal amount;
+
+	@Column(name = "entry_type", length = 20, nullable = false)
+	private String entryType;
+
+	// Booking ID for booking debits and refunds, null for top-ups
+	@Column(name = "reference", length = 20)
+	private String reference;
+
+	@Column(name = "created_at")
+	private Timestamp createdAt;
+
+	@ManyToOne
+	@JoinColumn(name = "ledger_for_wallet", nullable = false)
+	private Wallet ledgerForWallet;
+
+	@Override
+	public String getId() {
+		return ledgerEntryId;
+	}
+}
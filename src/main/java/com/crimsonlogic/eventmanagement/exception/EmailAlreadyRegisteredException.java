@@ -0,0 +1,14 @@
+package com.crimsonlogic.eventmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class EmailAlreadyRegisteredException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public EmailAlreadyRegisteredException(String message) {
+        super(message);
+    }
+}
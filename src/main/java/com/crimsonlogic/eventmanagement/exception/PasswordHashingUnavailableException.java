@@ -0,0 +1,15 @@
+package com.crimsonlogic.eventmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Surfaces as 503 so clients back off and retry instead of treating it as bad credentials
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.crimsonlogic.eventmanagement.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.crimsonlogic.eventmanagement.entity.EventCategories;
+import com.crimsonlogic.eventmanagement.payload.EventCategoryDto;
+
+/**
+ * Plain field-by-field mapping between categories and their DTO.
+ */
+@Component
+public class EventCategoryMapper {
+
+	public EventCategoryDto toDto(EventCategories category) {
+		return new EventCategoryDto(category.getCategoryId(), category.getCategoryName(), category.getImagePath(),
+				category.getCreatedAt(), category.getUpdatedAt(), category.isEnabled());
+	}
+
+	public EventCategories toEntity(EventCategoryDto dto) {
+		return new EventCategories(dto.getCategoryId(), dto.getCategoryName(), dto.getImagePath(), dto.getCreatedAt(),
+				dto.getUpdatedAt(), dto.isEnabled());
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.crimsonlogic.eventmanagement.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.crimsonlogic.eventmanagement.entity.Events;
+import com.crimsonlogic.eventmanagement.entity.Sponsors;
+import com.crimsonlogic.eventmanagement.entity.TicketPrice;
+import com.crimsonlogic.eventmanagement.entity.Venue;
+import com.crimsonlogic.eventmanagement.payload.EventDto;
+import com.crimsonlogic.eventmanagement.payload.SponsorDto;
+import com.crimsonlogic.eventmanagement.payload.TicketPriceDto;
+import com.crimsonlogic.eventmanagement.payload.VenueDto;
+
+/**
+ * Plain field-by-field mapping for the event aggregate. Used on list and detail
+ * paths in place of reflective mapping.
+ */
+@Component
+public class EventMapper {
+
+	public EventDto toDto(Events event) {
+		EventDto dto = new EventDto();
+		dto.setEventId(event.getEventId());
+		dto.setEventName(event.getEventName());
+		dto.setDescription(event.getDescription());
+		dto.setDate(event.getDate());
+		dto.setTime(event.getTime());
+		dto.setImagePath(event.getImagePath());
+		dto.setCreatedAt(event.getCreatedAt());
+		if (event.getCreatedBy() != null) {
+			dto.setCreatedBy(event.getCreatedBy().getUserDetailsId());
+		}
+		if (event.getEventCategory() != null) {
+			dto.setCategoryId(event.getEventCategory().getCategoryId());
+		}
+		return dto;
+	}
+
+	// Category and creator are resolved by the service, so only the plain fields are copied
+	public Events toEntity(EventDto dto) {
+		Events event = new Events();
+		event.setEventId(dto.getEventId());
+		event.setEventName(dto.getEventName());
+		event.setDescription(dto.getDescription());
+		event.setDate(dto.getDate());
+		event.setTime(dto.getTime());
+		event.setImagePath(dto.getImagePath());
+		event.setCreatedAt(dto.getCreatedAt());
+		return event;
+	}
+
+	public TicketPriceDto toDto(TicketPrice ticketPrice) {
+		return new TicketPriceDto(ticketPrice.getTicketPriceId(), ticketPrice.getPriceCategory(), ticketPrice.getPrice(),
+				eventIdOf(ticketPrice.getTicketForEvent()));
+	}
+
+	public VenueDto toDto(Venue venue) {
+		// The capacity the venue was set up with, which unlike the remaining seats does not change per booking
+		int capacity = venue.getTotalCapacity() != null ? venue.getTotalCapacity() : venue.getCapacity();
+		return new VenueDto(venue.getVenueId(), venue.getVenueLocation(), venue.getMapsLink(), capacity,
+				eventIdOf(venue.getVenueForEvent()));
+	}
+
+	public SponsorDto toDto(Sponsors sponsor) {
+		return new SponsorDto(sponsor.getSponsorId(), sponsor.getSponsorName(), sponsor.getContactNumber(),
+				eventIdOf(sponsor.getSponsorForEvent()));
+	}
+
+	private static String eventIdOf(Events event) {
+		return event != null ? event.getEventId() : null;
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.crimsonlogic.eventmanagement.monitoring;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, which
+ * happens when they block inside a {@code synchronized} block or a native
+ * frame. A pinned request holds one of the few carrier threads for as long as
+ * it blocks, so a library that pins on I/O quietly caps throughput at the
+ * carrier count.
+ * <p>
+ * Pinning longer than {@code virtual-threads.pinning.threshold} is logged with
+ * the top of its stack and counted in the {@code jvm.threads.virtual.pinned}
+ * metric. Uses the JDK 21 {@code jdk.VirtualThreadPinned} JFR event and only
+ * runs when virtual threads are enabled.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private static final int LOGGED_FRAMES = 8;
+
+	private final Duration threshold;
+
+	private final Counter pinnedCounter;
+
+	private RecordingStream recording;
+
+	public VirtualThreadPinningMonitor(@Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold,
+			MeterRegistry meterRegistry) {
+		this.threshold = threshold;
+		this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+				.description("Virtual threads pinned to their carrier for longer than the threshold")
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		if (Runtime.version().feature() < 21) {
+			log.warn("Virtual threads are enabled but the JVM is {}, which has no virtual threads", Runtime.version());
+			return;
+		}
+		recording = new RecordingStream();
+		recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		recording.onEvent(PINNED_EVENT, this::onPinned);
+		recording.startAsync();
+		log.info("Reporting virtual threads pinned for longer than {}", threshold);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (recording != null) {
+			recording.close();
+		}
+	}
+
+	private void onPinned(RecordedEvent event) {
+		pinnedCounter.increment();
+		log.warn("Virtual thread pinned for {} ms at:\n\t{}", event.getDuration().toMillis(), topFrames(event));
+	}
+
+	private static String topFrames(RecordedEvent event) {
+		if (event.getStackTrace() == null) {
+			return "(no stack trace)";
+		}
+		List<RecordedFrame> frames = event.getStackTrace().getFrames();
+		return frames.stream()
+				.limit(LOGGED_FRAMES)
+				.map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+						+ ":" + frame.getLineNumber())
+				.collect(Collectors.joining("\n\t"));
+	}
+
+}
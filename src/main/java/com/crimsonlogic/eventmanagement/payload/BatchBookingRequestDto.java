@@ -0,0 +1,19 @@
+package com.crimsonlogic.eventmanagement.payload;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchBookingRequestDto {
+
+	private String userId;
+	private List<BookingLineDto> items;
+	// false: any invalid line cancels the whole order; true: valid lines are booked and the rest reported
+	private boolean allowPartial;
+
+}
@@ -0,0 +1,18 @@
+package com.crimsonlogic.eventmanagement.payload;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchBookingResultDto {
+
+	private List<BookingDto> bookings;
+	private List<BookingLineFailureDto> failures;
+	private double totalPrice;
+
+}
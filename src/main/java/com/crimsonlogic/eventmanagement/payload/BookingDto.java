@@ -1,8 +1,10 @@
 package com.crimsonlogic.eventmanagement.payload;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class BookingDto {
 	
 	private String bookingId;
@@ -15,5 +17,19 @@ public class BookingDto {
 	private double totalPrice;
 	private String fullName;
 	private String location;
+
+	// Used by the booking history projection query
+	public BookingDto(String bookingId, String eventId, String userId, String eventName, int noOfTickets,
+			String bookingStatus, double totalPrice, String fullName, String location) {
+		this.bookingId = bookingId;
+		this.eventId = eventId;
+		this.userId = userId;
+		this.eventName = eventName;
+		this.noOfTickets = noOfTickets;
+		this.bookingStatus = bookingStatus;
+		this.totalPrice = totalPrice;
+		this.fullName = fullName;
+		this.location = location;
+	}
 	
 }
@@ -0,0 +1,16 @@
+package com.crimsonlogic.eventmanagement.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingLineDto {
+
+	private String eventId;
+	private String ticketPriceId;
+	private int numberOfTickets;
+
+}
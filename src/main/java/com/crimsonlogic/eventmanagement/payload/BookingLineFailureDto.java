@@ -0,0 +1,18 @@
+package com.crimsonlogic.eventmanagement.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingLineFailureDto {
+
+	// Position of the line in the request
+	private int index;
+	private String eventId;
+	private String ticketPriceId;
+	private String reason;
+
+}
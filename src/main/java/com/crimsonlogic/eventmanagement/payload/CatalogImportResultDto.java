@@ -0,0 +1,20 @@
+package com.crimsonlogic.eventmanagement.payload;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogImportResultDto {
+
+	private int ticketPricesAdded;
+	private int sponsorsAdded;
+	private long rowsRejected;
+	// The first rejected rows only; see EventServiceImpl.MAX_REPORTED_FAILURES
+	private List<ImportFailureDto> failures;
+
+}
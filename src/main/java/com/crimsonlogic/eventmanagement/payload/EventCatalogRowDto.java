@@ -0,0 +1,25 @@
+package com.crimsonlogic.eventmanagement.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of a catalog import: a ticket price or a sponsor for an existing event.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventCatalogRowDto {
+
+	public static final String TICKET_PRICE = "TICKET_PRICE";
+	public static final String SPONSOR = "SPONSOR";
+
+	private String eventId;
+	private String type;
+	// Price category or sponsor name
+	private String name;
+	private Double price;
+	private String contactNumber;
+
+}
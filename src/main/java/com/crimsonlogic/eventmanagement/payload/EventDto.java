@@ -30,5 +30,6 @@ public class EventDto {
     
     private int totalCapacity;
     private int bookedTickets;
+    private int remainingSeats;
 	
 }
@@ -0,0 +1,16 @@
+package com.crimsonlogic.eventmanagement.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportFailureDto {
+
+	// One-based position of the record in the file, not counting the header
+	private long row;
+	private String reason;
+
+}
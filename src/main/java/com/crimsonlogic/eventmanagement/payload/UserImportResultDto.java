@@ -0,0 +1,19 @@
+package com.crimsonlogic.eventmanagement.payload;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResultDto {
+
+	private int usersAdded;
+	private long rowsRejected;
+	// The first rejected rows only, so a bad file of millions of rows cannot exhaust memory
+	private List<ImportFailureDto> failures;
+
+}
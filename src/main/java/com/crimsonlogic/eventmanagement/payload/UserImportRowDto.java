@@ -0,0 +1,27 @@
+package com.crimsonlogic.eventmanagement.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * One customer from a bulk import. The password may be plaintext or an
+ * existing bcrypt hash; plaintext is hashed before it is stored.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRowDto {
+
+	private String email;
+	@ToString.Exclude
+	private String password;
+	private String firstName;
+	private String lastName;
+	private String contactNumber;
+	private String alternateNumber;
+	// ISO date, e.g. 1990-01-31
+	private String dateOfBirth;
+
+}
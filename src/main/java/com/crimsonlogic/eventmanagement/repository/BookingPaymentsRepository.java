@@ -11,7 +11,4 @@ import com.crimsonlogic.eventmanagement.entity.Bookings;
 public interface BookingPaymentsRepository extends JpaRepository<BookingPayments, String> {
 
 	BookingPayments findByPaymentForBooking(Bookings booking);
-
-	@Query("SELECT SUM(bp.paymentAmount) FROM BookingPayments bp JOIN bp.paymentForBooking b WHERE b.bookingForEvent.eventId = :eventId")
-	Double sumPaymentsByEventId(String eventId);
 }
@@ -2,24 +2,54 @@ package com.crimsonlogic.eventmanagement.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.crimsonlogic.eventmanagement.entity.Bookings;
 import com.crimsonlogic.eventmanagement.entity.Events;
+import com.crimsonlogic.eventmanagement.payload.BookingDto;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Bookings, String> {
 
-	int countByBookingForEvent(Events event);
-
 	List<Bookings> findByBookingMadeBy_UserDetailsId(String userId);
 
 	List<Bookings> findByBookingForEvent(Events event);
 
-	@Query("SELECT SUM(b.noOfTickets) FROM Bookings b WHERE b.bookingForEvent.eventId = :eventId")
-	Long sumTicketsByEventId(@Param("eventId") String eventId);
+	// Compare-and-set on the status: of two concurrent cancels only one updates the row
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Bookings b SET b.bookingStatus = 'CANCELLED' WHERE b.bookingId = :bookingId AND b.bookingStatus = 'CONFIRMED'")
+	int cancelIfConfirmed(@Param("bookingId") String bookingId);
+
+	// Full scan of an event's bookings, only used to seed its sales summary
+	@Query("SELECT SUM(CASE WHEN b.bookingStatus = 'CONFIRMED' THEN b.noOfTickets ELSE 0 END) AS confirmedTickets, "
+			+ "SUM(CASE WHEN b.bookingStatus = 'CONFIRMED' THEN bp.paymentAmount ELSE 0.0 END) AS confirmedPayments, "
+			+ "SUM(CASE WHEN b.bookingStatus = 'CANCELLED' THEN bp.paymentAmount ELSE 0.0 END) AS cancelledPayments "
+			+ "FROM Bookings b LEFT JOIN BookingPayments bp ON bp.paymentForBooking = b "
+			+ "WHERE b.bookingForEvent.eventId = :eventId")
+	SalesTotals sumSalesByEventId(@Param("eventId") String eventId);
+
+	interface SalesTotals {
+		Long getConfirmedTickets();
+
+		Double getConfirmedPayments();
+
+		Double getCancelledPayments();
+	}
+
+	// Booking history in one statement: event, payment and venue are joined instead of loaded per row
+	@Query(value = "SELECT new com.crimsonlogic.eventmanagement.payload.BookingDto(b.bookingId, e.eventId, u.userDetailsId, "
+			+ "e.eventName, b.noOfTickets, b.bookingStatus, COALESCE(bp.paymentAmount, 0.0), u.fullName, v.venueLocation) "
+			+ "FROM Bookings b JOIN b.bookingForEvent e JOIN b.bookingMadeBy u "
+			+ "LEFT JOIN BookingPayments bp ON bp.paymentForBooking = b "
+			+ "LEFT JOIN Venue v ON v.venueForEvent = e "
+			+ "WHERE u.userDetailsId = :userId ORDER BY b.bookingDate DESC, b.bookingId",
+			countQuery = "SELECT COUNT(b) FROM Bookings b WHERE b.bookingMadeBy.userDetailsId = :userId")
+	Page<BookingDto> findBookingSummariesByUserId(@Param("userId") String userId, Pageable pageable);
 
 }
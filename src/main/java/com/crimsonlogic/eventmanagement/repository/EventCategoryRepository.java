@@ -1,10 +1,15 @@
 package com.crimsonlogic.eventmanagement.repository;
 
 import com.crimsonlogic.eventmanagement.entity.EventCategories;
+
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface EventCategoryRepository extends JpaRepository<EventCategories, String> {
-	
+
+	List<EventCategories> findByIsEnabledTrueOrderByCategoryNameAsc();
+
 }
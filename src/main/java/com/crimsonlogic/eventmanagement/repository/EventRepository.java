@@ -2,14 +2,52 @@ package com.crimsonlogic.eventmanagement.repository;
 
 import com.crimsonlogic.eventmanagement.entity.Events;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface EventRepository extends JpaRepository<Events, String> {
 
 	List<Events> findByCreatedBy_UserDetailsId(String userDetailsId);
+
+	// First page of the upcoming feed, served by the (date, time) index. Events without a time sort as
+	// midnight, so the order is the same on every database and the keyset below can continue from them
+	@Query("SELECT e FROM Events e LEFT JOIN FETCH e.createdBy LEFT JOIN FETCH e.eventCategory "
+			+ "WHERE e.date > :today ORDER BY e.date, COALESCE(e.time, {t '00:00:00'}), e.eventId")
+	List<Events> findUpcomingEvents(@Param("today") LocalDate today, Pageable pageable);
+
+	// Keyset continuation: rows strictly after the (date, time, eventId) of the last event the client saw.
+	// afterTime must not be null; pass midnight for an event without a time
+	@Query("SELECT e FROM Events e LEFT JOIN FETCH e.createdBy LEFT JOIN FETCH e.eventCategory "
+			+ "WHERE e.date > :today AND (e.date > :afterDate OR (e.date = :afterDate "
+			+ "AND (COALESCE(e.time, {t '00:00:00'}) > :afterTime "
+			+ "OR (COALESCE(e.time, {t '00:00:00'}) = :afterTime AND e.eventId > :afterId)))) "
+			+ "ORDER BY e.date, COALESCE(e.time, {t '00:00:00'}), e.eventId")
+	List<Events> findUpcomingEventsAfter(@Param("today") LocalDate today, @Param("afterDate") LocalDate afterDate,
+			@Param("afterTime") LocalTime afterTime, @Param("afterId") String afterId, Pageable pageable);
+
+	// Cursor over the whole catalog; must be consumed inside a read-only transaction so the fetch size is honoured
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	@Query("SELECT e FROM Events e LEFT JOIN FETCH e.createdBy LEFT JOIN FETCH e.eventCategory ORDER BY e.eventId")
+	Stream<Events> streamAllEvents();
+
+	// Which of the given events exist, checked in one primary key lookup
+	@Query("SELECT e.eventId FROM Events e WHERE e.eventId IN :eventIds")
+	Set<String> findExistingEventIds(@Param("eventIds") Collection<String> eventIds);
 	
 }
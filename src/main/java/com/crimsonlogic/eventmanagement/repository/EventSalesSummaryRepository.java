@@ -0,0 +1,24 @@
+package com.crimsonlogic.eventmanagement.repository;
+
+import java.math.BigDecimal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.crimsonlogic.eventmanagement.entity.EventSalesSummary;
+
+@Repository
+public interface EventSalesSummaryRepository extends JpaRepository<EventSalesSummary, String> {
+
+	// Applies a signed change in place; returns 0 when the event has no summary row yet
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE EventSalesSummary s SET s.ticketsSold = s.ticketsSold + :tickets, s.revenue = s.revenue + :revenue "
+			+ "WHERE s.eventId = :eventId")
+	int addSales(@Param("eventId") String eventId, @Param("tickets") long tickets, @Param("revenue") BigDecimal revenue);
+
+}
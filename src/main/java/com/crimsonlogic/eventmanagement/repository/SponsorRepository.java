@@ -1,15 +1,30 @@
 package com.crimsonlogic.eventmanagement.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.crimsonlogic.eventmanagement.entity.Sponsors;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface SponsorRepository extends JpaRepository<Sponsors, String>{
 
+	// Served from the query cache until a sponsor is written; see hibernate-cache.conf
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	List<Sponsors> findBySponsorForEvent_EventId(String eventId);
 
+	// "eventId|name" of the sponsors the given events already have, so a re-run import skips them
+	@Query("SELECT CONCAT(s.sponsorForEvent.eventId, '|', s.sponsorName) FROM Sponsors s "
+			+ "WHERE s.sponsorForEvent.eventId IN :eventIds")
+	Set<String> findCatalogKeys(@Param("eventIds") Collection<String> eventIds);
+
 }
@@ -1,15 +1,62 @@
 package com.crimsonlogic.eventmanagement.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.crimsonlogic.eventmanagement.entity.TicketPrice;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface TicketPriceRepository extends JpaRepository<TicketPrice, String> {
 
+	// Served from the query cache until a ticket price is written; see hibernate-cache.conf
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	List<TicketPrice> findByTicketForEvent_EventId(String eventId);
 
+	// "eventId|category" of the ticket prices the given events already have, so a re-run import skips them
+	@Query("SELECT CONCAT(tp.ticketForEvent.eventId, '|', tp.priceCategory) FROM TicketPrice tp "
+			+ "WHERE tp.ticketForEvent.eventId IN :eventIds")
+	Set<String> findCatalogKeys(@Param("eventIds") Collection<String> eventIds);
+
+	// Everything bookTickets needs to validate and price a booking, in one round trip
+	@Query("SELECT tp.price AS price, e.eventName AS eventName, v.venueLocation AS venueLocation, v.capacity AS capacity "
+			+ "FROM TicketPrice tp JOIN tp.ticketForEvent e LEFT JOIN Venue v ON v.venueForEvent = e "
+			+ "WHERE tp.ticketPriceId = :ticketPriceId AND e.eventId = :eventId")
+	Optional<BookingQuote> findBookingQuote(@Param("eventId") String eventId, @Param("ticketPriceId") String ticketPriceId);
+
+	// Set-based variant of findBookingQuote for batch orders
+	@Query("SELECT tp.ticketPriceId AS ticketPriceId, e.eventId AS eventId, tp.price AS price, e.eventName AS eventName, "
+			+ "v.venueLocation AS venueLocation, v.capacity AS capacity "
+			+ "FROM TicketPrice tp JOIN tp.ticketForEvent e LEFT JOIN Venue v ON v.venueForEvent = e "
+			+ "WHERE tp.ticketPriceId IN :ticketPriceIds")
+	List<BookingLineQuote> findBookingQuotes(@Param("ticketPriceIds") Collection<String> ticketPriceIds);
+
+	interface BookingQuote {
+
+		double getPrice();
+
+		String getEventName();
+
+		String getVenueLocation();
+
+		Integer getCapacity();
+	}
+
+	interface BookingLineQuote extends BookingQuote {
+
+		String getTicketPriceId();
+
+		String getEventId();
+	}
+
 }
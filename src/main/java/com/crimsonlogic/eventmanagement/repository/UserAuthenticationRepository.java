@@ -2,10 +2,16 @@ package com.crimsonlogic.eventmanagement.repository;
 
 import com.crimsonlogic.eventmanagement.entity.UserAuthentication;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserAuthenticationRepository extends JpaRepository<UserAuthentication, String> {
@@ -13,5 +19,41 @@ public interface UserAuthenticationRepository extends JpaRepository<UserAuthenti
 	UserAuthentication findByEmail(String email);
 	
 	Optional<UserAuthentication> findByUserId(String userId);
+
+	boolean existsByEmail(String email);
+
+	// Which of the given emails are already registered, checked in one lookup on the unique email index
+	@Query("SELECT ua.email FROM UserAuthentication ua WHERE ua.email IN :emails")
+	Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+	// Everything signIn needs in one round trip, driven from the unique email index
+	@Query("SELECT ua.userId AS userId, ua.email AS email, ua.password AS password, "
+			+ "ud.userDetailsId AS userDetailsId, ud.isApproved AS approved, r.roleName AS roleName "
+			+ "FROM UserAuthentication ua LEFT JOIN UserDetails ud ON ud.detailsOfUser = ua "
+			+ "LEFT JOIN Role r ON r.roleForUser = ua WHERE ua.email = :email")
+	Optional<SignInPrincipal> findSignInPrincipal(@Param("email") String email);
+
+	// Conditional on the old value, so a rehash on sign-in never overwrites a concurrent password change
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE UserAuthentication ua SET ua.password = :newPassword "
+			+ "WHERE ua.userId = :userId AND ua.password = :oldPassword")
+	int updatePassword(@Param("userId") String userId, @Param("oldPassword") String oldPassword,
+			@Param("newPassword") String newPassword);
+
+	interface SignInPrincipal {
+
+		String getUserId();
+
+		String getEmail();
+
+		String getPassword();
+
+		String getUserDetailsId();
+
+		Boolean getApproved();
+
+		String getRoleName();
+	}
 	
 }
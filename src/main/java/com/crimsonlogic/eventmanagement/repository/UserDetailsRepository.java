@@ -1,12 +1,37 @@
 package com.crimsonlogic.eventmanagement.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.crimsonlogic.eventmanagement.entity.UserDetails;
+import com.crimsonlogic.eventmanagement.payload.UserDetailsDto;
 
 @Repository
 public interface UserDetailsRepository extends JpaRepository<UserDetails, String> {
 
 	UserDetails findByDetailsOfUser_UserId(String userId);
+
+	// Users holding a role, driven from the roles(role_name, role_for_user) index
+	@Query(value = "SELECT new com.crimsonlogic.eventmanagement.payload.UserDetailsDto(ud.userDetailsId, ud.fullName, "
+			+ "ud.contactNumber, ud.alternateNumber, CAST(ud.dateOfBirth AS String), ud.isApproved, ua.email, 0.0) "
+			+ "FROM Role r JOIN r.roleForUser ua JOIN UserDetails ud ON ud.detailsOfUser = ua "
+			+ "WHERE r.roleName = :roleName ORDER BY ud.fullName, ud.userDetailsId",
+			countQuery = "SELECT COUNT(ud) FROM Role r JOIN r.roleForUser ua JOIN UserDetails ud ON ud.detailsOfUser = ua "
+			+ "WHERE r.roleName = :roleName")
+	Page<UserDetailsDto> findByRoleName(@Param("roleName") String roleName, Pageable pageable);
+
+	// Same as findByRoleName, narrowed to approved or not-yet-approved users (a null flag counts as not approved)
+	@Query(value = "SELECT new com.crimsonlogic.eventmanagement.payload.UserDetailsDto(ud.userDetailsId, ud.fullName, "
+			+ "ud.contactNumber, ud.alternateNumber, CAST(ud.dateOfBirth AS String), ud.isApproved, ua.email, 0.0) "
+			+ "FROM Role r JOIN r.roleForUser ua JOIN UserDetails ud ON ud.detailsOfUser = ua "
+			+ "WHERE r.roleName = :roleName AND COALESCE(ud.isApproved, FALSE) = :approved "
+			+ "ORDER BY ud.fullName, ud.userDetailsId",
+			countQuery = "SELECT COUNT(ud) FROM Role r JOIN r.roleForUser ua JOIN UserDetails ud ON ud.detailsOfUser = ua "
+			+ "WHERE r.roleName = :roleName AND COALESCE(ud.isApproved, FALSE) = :approved")
+	Page<UserDetailsDto> findByRoleNameAndApproval(@Param("roleName") String roleName,
+			@Param("approved") boolean approved, Pageable pageable);
 }
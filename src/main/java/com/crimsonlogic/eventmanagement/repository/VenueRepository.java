@@ -1,13 +1,43 @@
 package com.crimsonlogic.eventmanagement.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.crimsonlogic.eventmanagement.entity.Events;
 import com.crimsonlogic.eventmanagement.entity.Venue;
 
 @Repository
 public interface VenueRepository extends JpaRepository<Venue, String> {
 
-	Venue findByVenueForEvent(Events event);
+	Venue findByVenueForEvent_EventId(String eventId);
+
+	// Seats of an event in one indexed lookup: remaining and total from its venue, tickets sold from its sales summary
+	@Query("SELECT v.capacity AS remainingSeats, v.totalCapacity AS totalCapacity, s.ticketsSold AS ticketsSold "
+			+ "FROM Venue v LEFT JOIN EventSalesSummary s ON s.eventId = v.venueForEvent.eventId "
+			+ "WHERE v.venueForEvent.eventId = :eventId")
+	Optional<SeatAvailability> findSeatAvailability(@Param("eventId") String eventId);
+
+	interface SeatAvailability {
+		int getRemainingSeats();
+
+		Integer getTotalCapacity();
+
+		Long getTicketsSold();
+	}
+
+	// Conditional decrement: the row is only touched while enough seats remain, so concurrent bookings cannot oversell
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Venue v SET v.capacity = v.capacity - :seats WHERE v.venueForEvent.eventId = :eventId AND v.capacity >= :seats")
+	int reserveSeats(@Param("eventId") String eventId, @Param("seats") int seats);
+
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Venue v SET v.capacity = v.capacity + :seats WHERE v.venueForEvent.eventId = :eventId")
+	int releaseSeats(@Param("eventId") String eventId, @Param("seats") int seats);
 }
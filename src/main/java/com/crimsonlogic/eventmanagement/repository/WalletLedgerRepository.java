@@ -0,0 +1,21 @@
+package com.crimsonlogic.eventmanagement.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.crimsonlogic.eventmanagement.entity.WalletLedgerEntry;
+
+@Repository
+public interface WalletLedgerRepository extends JpaRepository<WalletLedgerEntry, String> {
+
+	List<WalletLedgerEntry> findByLedgerForWallet_WalletIdOrderByCreatedAtDesc(String walletId);
+
+	// Reconciliation only; balance reads use the cached Wallet.amount
+	@Query("SELECT COALESCE(SUM(l.amount), 0) FROM WalletLedgerEntry l WHERE l.ledgerForWallet.walletId = :walletId")
+	BigDecimal sumByWalletId(@Param("walletId") String walletId);
+}
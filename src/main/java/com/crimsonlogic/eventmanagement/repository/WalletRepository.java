@@ -1,7 +1,14 @@
 package com.crimsonlogic.eventmanagement.repository;
 
+import java.math.BigDecimal;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.crimsonlogic.eventmanagement.entity.UserDetails;
 import com.crimsonlogic.eventmanagement.entity.Wallet;
@@ -11,4 +18,21 @@ public interface WalletRepository extends JpaRepository<Wallet, String>{
 
 	Wallet findByWalletForUser(UserDetails user); 
 
+	@Query("SELECT w.walletId FROM Wallet w WHERE w.walletForUser.userDetailsId = :userDetailsId")
+	Optional<String> findWalletIdByUserDetailsId(@Param("userDetailsId") String userDetailsId);
+
+	@Query("SELECT w.amount FROM Wallet w WHERE w.walletForUser.userDetailsId = :userDetailsId")
+	Optional<BigDecimal> findBalanceByUserDetailsId(@Param("userDetailsId") String userDetailsId);
+
+	// Conditional debit: the row is only touched while the balance covers the amount, so concurrent debits cannot overdraw
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Wallet w SET w.amount = w.amount - :amount WHERE w.walletId = :walletId AND w.amount >= :amount")
+	int debit(@Param("walletId") String walletId, @Param("amount") BigDecimal amount);
+
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Wallet w SET w.amount = w.amount + :amount WHERE w.walletId = :walletId")
+	int credit(@Param("walletId") String walletId, @Param("amount") BigDecimal amount);
+
 }
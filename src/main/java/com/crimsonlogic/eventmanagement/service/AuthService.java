@@ -1,5 +1,9 @@
 package com.crimsonlogic.eventmanagement.service;
 
+import java.util.Iterator;
+
+import com.crimsonlogic.eventmanagement.payload.UserImportResultDto;
+import com.crimsonlogic.eventmanagement.payload.UserImportRowDto;
 import com.crimsonlogic.eventmanagement.payload.UserSignInDto;
 import com.crimsonlogic.eventmanagement.payload.UserSignUpDto;
 
@@ -10,5 +14,7 @@ public interface AuthService {
 	Object signUp(UserSignUpDto signUpDto);
 
 	Object signUpOrganizer(UserSignUpDto signUpDto);
+
+	UserImportResultDto importUsers(Iterator<UserImportRowDto> rows);
 	
 }
\ No newline at end of file
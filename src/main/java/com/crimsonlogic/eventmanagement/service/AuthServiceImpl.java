@@ -1,18 +1,26 @@
 package com.crimsonlogic.eventmanagement.service;
 
+import com.crimsonlogic.eventmanagement.cache.PrincipalCache;
 import com.crimsonlogic.eventmanagement.entity.Role;
 import com.crimsonlogic.eventmanagement.entity.UserAuthentication;
 import com.crimsonlogic.eventmanagement.entity.UserDetails;
 import com.crimsonlogic.eventmanagement.entity.Wallet;
+import com.crimsonlogic.eventmanagement.exception.EmailAlreadyRegisteredException;
 import com.crimsonlogic.eventmanagement.exception.InvalidCredentialsException;
+import com.crimsonlogic.eventmanagement.exception.InvalidInputException;
+import com.crimsonlogic.eventmanagement.exception.PasswordHashingUnavailableException;
 import com.crimsonlogic.eventmanagement.exception.PasswordsDoNotMatchException;
 import com.crimsonlogic.eventmanagement.exception.UserNotApprovedException;
 import com.crimsonlogic.eventmanagement.exception.UserNotFoundException;
+import com.crimsonlogic.eventmanagement.payload.ImportFailureDto;
+import com.crimsonlogic.eventmanagement.payload.UserImportResultDto;
+import com.crimsonlogic.eventmanagement.payload.UserImportRowDto;
 import com.crimsonlogic.eventmanagement.payload.UserResponseDto;
 import com.crimsonlogic.eventmanagement.payload.UserSignInDto;
 import com.crimsonlogic.eventmanagement.payload.UserSignUpDto;
 import com.crimsonlogic.eventmanagement.repository.RoleRepository;
 import com.crimsonlogic.eventmanagement.repository.UserAuthenticationRepository;
+import com.crimsonlogic.eventmanagement.repository.UserAuthenticationRepository.SignInPrincipal;
 import com.crimsonlogic.eventmanagement.repository.UserDetailsRepository;
 import com.crimsonlogic.eventmanagement.repository.WalletRepository;
 import com.crimsonlogic.eventmanagement.util.IDGenerator;
@@ -20,14 +28,41 @@ import com.crimsonlogic.eventmanagement.util.IDGenerator;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
 import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class AuthServiceImpl implements AuthService {
 
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
+    // Rejected import rows reported individually; the rest are only counted
+    public static final int MAX_REPORTED_FAILURES = 1000;
+
+    private static final int MAX_EMAIL_LENGTH = 100;
+
+    private static final int MAX_PASSWORD_LENGTH = 100;
+
+    private static final int MAX_FULL_NAME_LENGTH = 100;
+
+    private static final int MAX_CONTACT_NUMBER_LENGTH = 10;
+
     @Autowired
     private UserAuthenticationRepository userAuthRepo;
 
@@ -40,35 +75,47 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private WalletRepository walletRepo;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     /**
      * Handles user sign-in functionality.
+     * The account, its details and its role are read with a single query and kept
+     * briefly in the principal cache, so repeated logins skip the database.
+     * Legacy plaintext passwords and outdated hashes are rehashed once they match.
      *
      * @param signInDto Data Transfer Object containing sign-in information.
      * @return UserResponseDto containing user information if sign-in is successful.
      * @throws UserNotFoundException if the user is not found.
      * @throws InvalidCredentialsException if the password is incorrect.
      * @throws UserNotApprovedException if the user is not approved.
+     * @throws PasswordHashingUnavailableException if password checks are saturated.
      */
     @Override
     public Object signIn(UserSignInDto signInDto) {
         log.info("Attempting to sign in with email: {}", signInDto.getEmail());
-        UserAuthentication user = userAuthRepo.findByEmail(signInDto.getEmail());
+        SignInPrincipal user = principalCache.get(signInDto.getEmail(), userAuthRepo::findSignInPrincipal)
+                .orElse(null);
 
         // Check if user exists
         if (user != null) {
-            log.info("User found: {}", user);
+            log.info("User found: {}", user.getUserId());
             // Validate password
-            if (user.getPassword().equals(signInDto.getPassword())) {
-                UserDetails userDetails = userDetailsRepo.findByDetailsOfUser_UserId(user.getUserId());
-                Role role = roleRepo.findByRoleForUser(user);
+            if (passwordHashingService.matches(signInDto.getPassword(), user.getPassword())) {
+                upgradePassword(user, signInDto.getPassword());
 
                 // Check if user details exist
-                if (userDetails != null) {
-                    // Check if user is approved
-                    if (userDetails.getIsApproved()) {
-                        log.info("User details: {}", userDetails);
-                        return new UserResponseDto(user.getEmail(), role.getRoleName(), user.getUserId(),
-                                userDetails.getUserDetailsId());
+                if (user.getUserDetailsId() != null) {
+                    // Check if user is approved (organizers awaiting approval have no flag yet)
+                    if (Boolean.TRUE.equals(user.getApproved())) {
+                        return new UserResponseDto(user.getEmail(), user.getRoleName(), user.getUserId(),
+                                user.getUserDetailsId());
                     } else {
                         log.warn("User is not approved for email: {}", user.getEmail());
                         throw new UserNotApprovedException("User is not approved");
@@ -89,95 +136,327 @@ public class AuthServiceImpl implements AuthService {
 
     /**
      * Handles user sign-up functionality.
+     * The account, its details, role and wallet are written in one transaction,
+     * so a failed registration leaves nothing behind. The password is hashed
+     * before the transaction starts, so no connection is held while hashing.
      *
      * @param signUpDto Data Transfer Object containing sign-up information.
      * @return A success message if registration is successful.
      * @throws PasswordsDoNotMatchException if passwords do not match.
+     * @throws EmailAlreadyRegisteredException if the email is already registered.
      */
     @Override
     public Object signUp(UserSignUpDto signUpDto) {
-        // Check if passwords match
-        if (!signUpDto.getPassword().equals(signUpDto.getConfirmPassword())) {
-            throw new PasswordsDoNotMatchException("Passwords do not match");
-        }
+        checkNewAccount(signUpDto);
+        String passwordHash = passwordHashingService.hash(signUpDto.getPassword());
 
-        // Create new user authentication entry
-        UserAuthentication userAuth = new UserAuthentication();
-        userAuth.setUserId(IDGenerator.generateUserID());
-        userAuth.setEmail(signUpDto.getEmail());
-        userAuth.setPassword(signUpDto.getPassword());
-        userAuthRepo.save(userAuth);
+        register(signUpDto.getEmail(), () -> {
+            // Create new user authentication entry
+            UserAuthentication userAuth = newUserAuthentication(signUpDto.getEmail(), passwordHash);
+            userAuthRepo.save(userAuth);
 
-        // Create new user details entry
-        UserDetails userDetails = new UserDetails();
-        userDetails.setUserDetailsId(IDGenerator.generateUserDetailID());
-        userDetails.setFullName(signUpDto.getFirstName() + " " + signUpDto.getLastName());
-        userDetails.setContactNumber(signUpDto.getContactNumber());
-        userDetails.setAlternateNumber(signUpDto.getAlternateNumber());
-        userDetails.setDateOfBirth(signUpDto.getDateOfBirth());
-        userDetails.setCreatedAt(new Timestamp(System.currentTimeMillis()));
-        userDetails.setIsApproved(true); // Automatically approved for standard users
-        userDetails.setDetailsOfUser(userAuth);
-        userDetailsRepo.save(userDetails);
+            // Create new user details entry, automatically approved for standard users
+            UserDetails userDetails = newUserDetails(signUpDto.getFirstName(), signUpDto.getLastName(),
+                    signUpDto.getContactNumber(), signUpDto.getAlternateNumber(), signUpDto.getDateOfBirth(), true,
+                    userAuth);
+            userDetailsRepo.save(userDetails);
 
-        // Assign default role to user
-        Role role = new Role();
-        role.setRoleId(IDGenerator.generateRoleID());
-        role.setRoleName("customer"); // Default role
-        role.setRoleForUser(userAuth);
-        roleRepo.save(role);
+            // Assign default role to user
+            roleRepo.save(newRole("customer", userAuth));
 
-        // Create wallet for the user
-        Wallet wallet = new Wallet();
-        wallet.setWalletId(IDGenerator.generateWalletID());
-        wallet.setWalletForUser(userDetails);
-        wallet.setAmount(0); // Initialize with zero balance
-        walletRepo.save(wallet);
+            // Create wallet for the user
+            walletRepo.save(newWallet(userDetails));
+        });
 
         return "User registered successfully!";
     }
 
     /**
-     * Handles organizer sign-up functionality.
+     * Handles organizer sign-up functionality, in one transaction like {@link #signUp}.
      *
      * @param signUpDto Data Transfer Object containing sign-up information for organizers.
      * @return A success message if registration is successful.
      * @throws PasswordsDoNotMatchException if passwords do not match.
+     * @throws EmailAlreadyRegisteredException if the email is already registered.
      */
     @Override
     public Object signUpOrganizer(UserSignUpDto signUpDto) {
+        checkNewAccount(signUpDto);
+        String passwordHash = passwordHashingService.hash(signUpDto.getPassword());
+
+        register(signUpDto.getEmail(), () -> {
+            // Create new user authentication entry
+            UserAuthentication userAuth = newUserAuthentication(signUpDto.getEmail(), passwordHash);
+            userAuthRepo.save(userAuth);
+
+            // Create new user details entry, pending approval for organizers
+            userDetailsRepo.save(newUserDetails(signUpDto.getFirstName(), signUpDto.getLastName(),
+                    signUpDto.getContactNumber(), signUpDto.getAlternateNumber(), signUpDto.getDateOfBirth(), null,
+                    userAuth));
+
+            // Assign role of organizer
+            roleRepo.save(newRole("organizer", userAuth));
+        });
+
+        return "Organizer registered successfully!";
+    }
+
+    /**
+     * Imports customers from a streamed file, e.g. when migrating an existing
+     * customer base. Rows are processed in chunks: each chunk checks its emails
+     * with one query and writes its accounts, details, roles and wallets in JDBC
+     * batches in its own transaction, so memory use does not grow with the file.
+     * Invalid rows, lines that do not parse and already registered emails are
+     * skipped and reported, which makes it safe to re-run an interrupted import. Only the first
+     * {@link #MAX_REPORTED_FAILURES} rejected rows are listed; all are counted.
+     * <p>
+     * Plaintext passwords are hashed on the hashing pool before they are stored,
+     * at the import cost; each user's first sign-in rehashes at the full cost.
+     * Passwords that are already bcrypt hashes are stored as given.
+     *
+     * @param rows The rows of the file, read lazily.
+     * @return How many users were added, how many rows were rejected and the first of them.
+     */
+    @Override
+    public UserImportResultDto importUsers(Iterator<UserImportRowDto> rows) {
+        UserImportResultDto result = new UserImportResultDto(0, 0, new ArrayList<>());
+        List<UserImportRowDto> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        // Lines that did not parse, by position in the chunk, so they are reported in file order with the rest
+        Map<Integer, String> malformedRows = new HashMap<>();
+        long firstRow = 1;
+        while (rows.hasNext()) {
+            try {
+                chunk.add(rows.next());
+            } catch (InvalidInputException e) {
+                malformedRows.put(chunk.size(), e.getMessage());
+                chunk.add(null);
+            }
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                importUsersChunk(chunk, malformedRows, firstRow, result);
+                firstRow += chunk.size();
+                chunk.clear();
+                malformedRows.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importUsersChunk(chunk, malformedRows, firstRow, result);
+        }
+
+        log.info("User import added {} users, {} rows rejected", result.getUsersAdded(), result.getRowsRejected());
+        return result;
+    }
+
+    private void importUsersChunk(List<UserImportRowDto> chunk, Map<Integer, String> malformedRows, long firstRow,
+            UserImportResultDto result) {
+        Set<String> emails = chunk.stream()
+                .filter(Objects::nonNull)
+                .map(UserImportRowDto::getEmail)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        // Grows as rows are accepted, so duplicates within the file are rejected too
+        Set<String> registeredEmails = new HashSet<>(emails.isEmpty() ? Set.of() : userAuthRepo.findExistingEmails(emails));
+
+        List<UserAuthentication> userAuths = new ArrayList<>();
+        List<UserDetails> userDetails = new ArrayList<>();
+        List<Role> roles = new ArrayList<>();
+        List<Wallet> wallets = new ArrayList<>();
+        List<Long> importedRows = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            UserImportRowDto row = chunk.get(i);
+            String reason = malformedRows.containsKey(i) ? malformedRows.get(i)
+                    : validateImportRow(row, registeredEmails);
+            if (reason != null) {
+                reject(result, firstRow + i, reason);
+                continue;
+            }
+            registeredEmails.add(row.getEmail());
+
+            UserAuthentication userAuth = newUserAuthentication(row.getEmail(), row.getPassword()); // Hashed below
+            UserDetails details = newUserDetails(row.getFirstName(), row.getLastName(), row.getContactNumber(),
+                    row.getAlternateNumber(), parseDate(row.getDateOfBirth()), true, userAuth);
+            userAuths.add(userAuth);
+            userDetails.add(details);
+            roles.add(newRole("customer", userAuth));
+            wallets.add(newWallet(details));
+            importedRows.add(firstRow + i);
+        }
+        if (userAuths.isEmpty()) {
+            return;
+        }
+
+        // Hashed outside the transaction, so no connection is held while the pool works
+        List<String> hashes = passwordHashingService.hashForImport(userAuths.stream()
+                .map(UserAuthentication::getPassword)
+                .collect(Collectors.toList()));
+        for (int i = 0; i < userAuths.size(); i++) {
+            userAuths.get(i).setPassword(hashes.get(i));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userAuthRepo.saveAll(userAuths);
+                userDetailsRepo.saveAll(userDetails);
+                roleRepo.saveAll(roles);
+                walletRepo.saveAll(wallets);
+            });
+            result.setUsersAdded(result.getUsersAdded() + userAuths.size());
+        } catch (DataIntegrityViolationException e) {
+            // Most likely a sign-up took one of these emails since the check; a re-run imports the rest
+            log.warn("User import chunk starting at row {} was rolled back: {}", firstRow, e.getMessage());
+            importedRows.forEach(row -> reject(result, row,
+                    "Not imported: the database rejected this chunk, re-run the import."));
+        }
+    }
+
+    private static void reject(UserImportResultDto result, long row, String reason) {
+        result.setRowsRejected(result.getRowsRejected() + 1);
+        if (result.getFailures().size() < MAX_REPORTED_FAILURES) {
+            result.getFailures().add(new ImportFailureDto(row, reason));
+        }
+    }
+
+    /**
+     * Checks an import row before it is written, so one bad row cannot fail the import.
+     *
+     * @return Why the row is rejected, or null if it can be imported.
+     */
+    private String validateImportRow(UserImportRowDto row, Set<String> registeredEmails) {
+        if (row == null) {
+            return "Row is empty.";
+        }
+        if (row.getEmail() == null || !row.getEmail().contains("@")) {
+            return "A valid email is required.";
+        }
+        if (row.getEmail().length() > MAX_EMAIL_LENGTH) {
+            return "Email must be at most " + MAX_EMAIL_LENGTH + " characters.";
+        }
+        if (registeredEmails.contains(row.getEmail())) {
+            return "Email is already registered: " + row.getEmail();
+        }
+        if (row.getPassword() == null || row.getPassword().isBlank()) {
+            return "Password is required.";
+        }
+        if (row.getPassword().length() > MAX_PASSWORD_LENGTH) {
+            return "Password must be at most " + MAX_PASSWORD_LENGTH + " characters.";
+        }
+        if (row.getFirstName() == null) {
+            return "First name is required.";
+        }
+        if (fullName(row.getFirstName(), row.getLastName()).length() > MAX_FULL_NAME_LENGTH) {
+            return "Full name must be at most " + MAX_FULL_NAME_LENGTH + " characters.";
+        }
+        if (isTooLong(row.getContactNumber(), MAX_CONTACT_NUMBER_LENGTH)
+                || isTooLong(row.getAlternateNumber(), MAX_CONTACT_NUMBER_LENGTH)) {
+            return "Contact numbers must be at most " + MAX_CONTACT_NUMBER_LENGTH + " characters.";
+        }
+        try {
+            parseDate(row.getDateOfBirth());
+        } catch (DateTimeParseException e) {
+            return "Date of birth must be a date like 1990-01-31.";
+        }
+        return null;
+    }
+
+    private static boolean isTooLong(String value, int maxLength) {
+        return value != null && value.length() > maxLength;
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value == null ? null : LocalDate.parse(value);
+    }
+
+    // Rejects a registration early, before any hashing or writes
+    private void checkNewAccount(UserSignUpDto signUpDto) {
         // Check if passwords match
         if (!signUpDto.getPassword().equals(signUpDto.getConfirmPassword())) {
             throw new PasswordsDoNotMatchException("Passwords do not match");
         }
 
-        // Create new user authentication entry
+        // Check the unique email index up front rather than failing halfway through the inserts
+        if (userAuthRepo.existsByEmail(signUpDto.getEmail())) {
+            throw new EmailAlreadyRegisteredException("Email is already registered");
+        }
+    }
+
+    /**
+     * Runs a registration's inserts in one transaction. They are flushed
+     * together at commit, so a concurrent sign-up for the same email is only
+     * caught there by the unique email index.
+     */
+    private void register(String email, Runnable inserts) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> inserts.run());
+        } catch (DataIntegrityViolationException e) {
+            if (userAuthRepo.existsByEmail(email)) {
+                throw new EmailAlreadyRegisteredException("Email is already registered");
+            }
+            throw e;
+        }
+    }
+
+    private static UserAuthentication newUserAuthentication(String email, String password) {
         UserAuthentication userAuth = new UserAuthentication();
         userAuth.setUserId(IDGenerator.generateUserID());
-        userAuth.setEmail(signUpDto.getEmail());
-        userAuth.setPassword(signUpDto.getPassword());
-        userAuthRepo.save(userAuth);
+        userAuth.setEmail(email);
+        userAuth.setPassword(password);
+        return userAuth;
+    }
 
-        // Create new user details entry
+    private static UserDetails newUserDetails(String firstName, String lastName, String contactNumber,
+            String alternateNumber, LocalDate dateOfBirth, Boolean approved, UserAuthentication userAuth) {
         UserDetails userDetails = new UserDetails();
         userDetails.setUserDetailsId(IDGenerator.generateUserDetailID());
-        userDetails.setFullName(signUpDto.getFirstName() + " " + signUpDto.getLastName());
-        userDetails.setContactNumber(signUpDto.getContactNumber());
-        userDetails.setAlternateNumber(signUpDto.getAlternateNumber());
-        userDetails.setDateOfBirth(signUpDto.getDateOfBirth());
+        userDetails.setFullName(fullName(firstName, lastName));
+        userDetails.setContactNumber(contactNumber);
+        userDetails.setAlternateNumber(alternateNumber);
+        userDetails.setDateOfBirth(dateOfBirth);
         userDetails.setCreatedAt(new Timestamp(System.currentTimeMillis()));
-        userDetails.setIsApproved(null); // Pending approval for organizers
+        userDetails.setIsApproved(approved);
         userDetails.setDetailsOfUser(userAuth);
-        userDetailsRepo.save(userDetails);
+        return userDetails;
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        return lastName == null ? firstName : firstName + " " + lastName;
+    }
 
-        // Assign role of organizer
+    private static Role newRole(String roleName, UserAuthentication userAuth) {
         Role role = new Role();
         role.setRoleId(IDGenerator.generateRoleID());
-        role.setRoleName("organizer");
+        role.setRoleName(roleName);
         role.setRoleForUser(userAuth);
-        roleRepo.save(role);
+        return role;
+    }
 
-        return "Organizer registered successfully!";
+    private static Wallet newWallet(UserDetails userDetails) {
+        Wallet wallet = new Wallet();
+        wallet.setWalletId(IDGenerator.generateWalletID());
+        wallet.setWalletForUser(userDetails);
+        wallet.setAmount(BigDecimal.ZERO); // Initialize with zero balance
+        return wallet;
+    }
+
+    /**
+     * Replaces a legacy plaintext password or an outdated hash after a successful sign-in.
+     * The sign-in itself never fails because of this; a busy hashing pool just
+     * leaves the upgrade for the next sign-in.
+     *
+     * @param user The principal that just signed in.
+     * @param rawPassword The password it signed in with.
+     */
+    private void upgradePassword(SignInPrincipal user, String rawPassword) {
+        if (!passwordHashingService.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            String hash = passwordHashingService.hash(rawPassword);
+            if (userAuthRepo.updatePassword(user.getUserId(), user.getPassword(), hash) > 0) {
+                log.info("Rehashed password for userId: {}", user.getUserId());
+            }
+            principalCache.evict(user.getEmail());
+        } catch (PasswordHashingUnavailableException e) {
+            log.warn("Skipping password rehash for userId: {}", user.getUserId());
+        }
     }
 
 }
@@ -3,13 +3,20 @@ package com.crimsonlogic.eventmanagement.service;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.crimsonlogic.eventmanagement.payload.BatchBookingResultDto;
 import com.crimsonlogic.eventmanagement.payload.BookingDto;
+import com.crimsonlogic.eventmanagement.payload.BookingLineDto;
 
 public interface BookingService {
 
 	BookingDto bookTickets(String userId, String eventId, String ticketPriceId, int numberOfTickets);
 
-	List<BookingDto> getUserBookings(String userId);
+	BatchBookingResultDto bookTicketsBatch(String userId, List<BookingLineDto> items, boolean allowPartial);
+
+	Page<BookingDto> getUserBookings(String userId, Pageable pageable);
 
 	void cancelBooking(String bookingId);
 
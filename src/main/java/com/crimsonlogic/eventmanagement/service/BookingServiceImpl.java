@@ -2,44 +2,56 @@ package com.crimsonlogic.eventmanagement.service;
 
 import com.crimsonlogic.eventmanagement.entity.Bookings;
 import com.crimsonlogic.eventmanagement.entity.BookingPayments;
-import com.crimsonlogic.eventmanagement.entity.Events;
-import com.crimsonlogic.eventmanagement.entity.TicketPrice;
-import com.crimsonlogic.eventmanagement.entity.Venue;
-import com.crimsonlogic.eventmanagement.entity.Wallet;
+import com.crimsonlogic.eventmanagement.entity.EventSalesSummary;
+import com.crimsonlogic.eventmanagement.entity.WalletLedgerEntry;
 import com.crimsonlogic.eventmanagement.entity.UserDetails;
+import com.crimsonlogic.eventmanagement.payload.BatchBookingResultDto;
 import com.crimsonlogic.eventmanagement.payload.BookingDto;
+import com.crimsonlogic.eventmanagement.payload.BookingLineDto;
+import com.crimsonlogic.eventmanagement.payload.BookingLineFailureDto;
 import com.crimsonlogic.eventmanagement.repository.BookingPaymentsRepository;
 import com.crimsonlogic.eventmanagement.repository.BookingRepository;
 import com.crimsonlogic.eventmanagement.repository.EventRepository;
 import com.crimsonlogic.eventmanagement.repository.TicketPriceRepository;
-import com.crimsonlogic.eventmanagement.repository.VenueRepository;
-import com.crimsonlogic.eventmanagement.repository.WalletRepository;
+import com.crimsonlogic.eventmanagement.repository.TicketPriceRepository.BookingLineQuote;
+import com.crimsonlogic.eventmanagement.repository.TicketPriceRepository.BookingQuote;
 import com.crimsonlogic.eventmanagement.repository.UserDetailsRepository;
 import com.crimsonlogic.eventmanagement.util.IDGenerator;
 import com.crimsonlogic.eventmanagement.exception.BookingNotFoundException;
 import com.crimsonlogic.eventmanagement.exception.EventNotFoundException;
 import com.crimsonlogic.eventmanagement.exception.InsufficientCapacityException;
-import com.crimsonlogic.eventmanagement.exception.InsufficientWalletBalanceException;
 import com.crimsonlogic.eventmanagement.exception.InvalidBookingStatusException;
 import com.crimsonlogic.eventmanagement.exception.TicketPriceNotFoundException;
 import com.crimsonlogic.eventmanagement.exception.UserNotFoundException;
 
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class BookingServiceImpl implements BookingService {
 
+    private static final int MAX_BATCH_LINES = 500;
+
+    // Share of the payment returned to the wallet when a booking is cancelled
+    public static final BigDecimal REFUND_RATE = new BigDecimal("0.5");
+
     @Autowired
     private BookingRepository bookingRepository;
 
@@ -49,23 +61,26 @@ public class BookingServiceImpl implements BookingService {
     @Autowired
     private EventRepository eventRepository;
 
-    @Autowired
-    private VenueRepository venueRepository;
-
     @Autowired
     private TicketPriceRepository ticketPriceRepository;
 
     @Autowired
-    private WalletRepository walletRepository;
+    private WalletService walletService;
 
     @Autowired
     private UserDetailsRepository userDetailsRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private EventSalesService eventSalesService;
 
     /**
      * Books tickets for a specific event for a user.
+     * Runs as one transaction: everything is validated first, then seats and wallet
+     * balance are taken by conditional updates and the booking, payment and ledger
+     * rows are inserted together at commit. Any failure rolls the whole booking back.
      *
      * @param userId        The ID of the user booking the tickets.
      * @param eventId       The ID of the event for which tickets are being booked.
@@ -74,6 +89,7 @@ public class BookingServiceImpl implements BookingService {
      * @return BookingDto containing booking details.
      */
     @Override
+    @Transactional
     public BookingDto bookTickets(String userId, String eventId, String ticketPriceId, int numberOfTickets) {
         // Validate required fields
         if (userId == null || userId.isEmpty()) {
@@ -90,34 +106,36 @@ public class BookingServiceImpl implements BookingService {
         UserDetails user = userDetailsRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
 
-        log.info("User Full Name: {}", user.getFullName());
+        // Price, event name and venue in one query; the ticket price must belong to the event
+        BookingQuote quote = ticketPriceRepository.findBookingQuote(eventId, ticketPriceId)
+                .orElseThrow(() -> eventRepository.existsById(eventId)
+                        ? new TicketPriceNotFoundException("Ticket price not found for the selected category.")
+                        : new EventNotFoundException("Event not found with ID: " + eventId));
 
-        // Fetch event details
-        Events event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EventNotFoundException("Event not found with ID: " + eventId));
-
-        // Check venue capacity
-        Venue venue = venueRepository.findByVenueForEvent(event);
-        if (venue == null || venue.getCapacity() < numberOfTickets) {
+        // Check venue capacity; the reservation below re-checks it atomically
+        if (quote.getCapacity() == null || quote.getCapacity() < numberOfTickets) {
             throw new InsufficientCapacityException("Not enough capacity available for the venue.");
         }
 
-        log.info("Venue location: {}", venue.getVenueLocation());
+        double totalPrice = numberOfTickets * quote.getPrice(); // Calculate total price
+        String bookingId = IDGenerator.generateBookingID();
+
+        // Reduce Venue Capacity atomically so concurrent bookings cannot oversell
+        seatInventoryService.reserveSeats(eventId, numberOfTickets);
+
+        // Deduct from User Wallet; fails with InsufficientWalletBalanceException if the balance is too low
+        walletService.debit(userId, BigDecimal.valueOf(totalPrice), WalletLedgerEntry.BOOKING, bookingId);
 
         // Create Booking
         Bookings booking = new Bookings();
-        booking.setBookingId(IDGenerator.generateBookingID());
+        booking.setBookingId(bookingId);
         booking.setBookingDate(new Timestamp(System.currentTimeMillis())); // Set current timestamp
         booking.setBookingStatus("CONFIRMED"); // Initial status
         booking.setNoOfTickets(numberOfTickets); // Set the number of tickets booked
-        booking.setBookingForEvent(event); // Link to the event
+        booking.setBookingForEvent(eventRepository.getReferenceById(eventId)); // Link to the event without loading it
         booking.setBookingMadeBy(user); // Link to the user
         bookingRepository.save(booking); // Save the booking
 
-        // Fetch ticket price based on the selected category
-        double ticketPrice = getTicketPrice(eventId, ticketPriceId);
-        double totalPrice = numberOfTickets * ticketPrice; // Calculate total price
-
         // Create Booking Payment
         BookingPayments bookingPayment = new BookingPayments();
         bookingPayment.setBookingPaymentId(IDGenerator.generateBookingPaymentID());
@@ -126,139 +144,205 @@ public class BookingServiceImpl implements BookingService {
         bookingPayment.setPaymentForBooking(booking); // Link payment to the booking
         bookingPaymentsRepository.save(bookingPayment); // Save the payment
 
-        // Reduce Venue Capacity
-        venue.setCapacity(venue.getCapacity() - numberOfTickets);
-        venueRepository.save(venue); // Update the venue's capacity
-
-        // Deduct from User Wallet
-        Wallet wallet = walletRepository.findByWalletForUser(user);
-        if (wallet.getAmount() < totalPrice) {
-            throw new InsufficientWalletBalanceException("Insufficient wallet balance for user: " + userId);
-        }
-        wallet.setAmount(wallet.getAmount() - totalPrice); // Deduct the total price from wallet
-        walletRepository.save(wallet); // Save updated wallet
+        eventSalesService.recordSale(eventId, numberOfTickets, BigDecimal.valueOf(totalPrice)); // Update the event's running totals
 
-        log.info("Tickets booked successfully for user: {} for event: {}. Booking ID: {}", userId, eventId,
-                booking.getBookingId());
+        log.info("Tickets booked successfully for user: {} for event: {}. Booking ID: {}", userId, eventId, bookingId);
 
-        // Map to BookingDto and return it
-        BookingDto responseDto = modelMapper.map(booking, BookingDto.class);
-        responseDto.setTotalPrice(totalPrice); // Set total price in response DTO
-        responseDto.setBookingId(booking.getBookingId()); // Set booking ID in response DTO
-        responseDto.setFullName(user.getFullName()); // Set user's full name
-        responseDto.setLocation(venue.getVenueLocation()); // Set venue location
-
-        log.info("BookingDto: {}", responseDto); // Log the response DTO
-
-        return responseDto; // Return the response DTO
+        return new BookingDto(bookingId, eventId, userId, quote.getEventName(), numberOfTickets, booking.getBookingStatus(),
+                totalPrice, user.getFullName(), quote.getVenueLocation());
     }
 
     /**
-     * Retrieves the price for a specific ticket category.
+     * Books several lines, possibly across events and price tiers, for one user.
+     * All lines are priced and checked with set-based reads first: one query for the
+     * user, one for the wallet balance and one for every ticket price, event and venue.
+     * Seats are then reserved with one conditional update per event, the wallet is
+     * debited once for the whole order and the bookings and payments are inserted
+     * in JDBC batches.
+     * <p>
+     * Without {@code allowPartial} any invalid line cancels the order and nothing is
+     * written. With it, valid lines are booked and the others reported as failures.
+     * A seat or balance race lost after validation rolls back the whole order.
      *
-     * @param eventId       The ID of the event.
-     * @param ticketPriceId The ID of the ticket price category.
-     * @return The price of the ticket.
-     */
-    private double getTicketPrice(String eventId, String ticketPriceId) {
-        TicketPrice ticketPrice = ticketPriceRepository.findById(ticketPriceId)
-                .orElseThrow(() -> new TicketPriceNotFoundException("Ticket price not found for the selected category."));
-        return ticketPrice.getPrice(); // Return the ticket price
-    }
-
-    /**
-     * Retrieves all bookings made by a specific user.
-     *
-     * @param userId The ID of the user whose bookings are to be retrieved.
-     * @return A list of BookingDto containing booking details.
+     * @param userId       The ID of the user booking the tickets.
+     * @param items        The lines to book.
+     * @param allowPartial Whether valid lines may be booked when others fail.
+     * @return The created bookings, the rejected lines and the amount charged.
      */
     @Override
-    public List<BookingDto> getUserBookings(String userId) {
+    @Transactional
+    public BatchBookingResultDto bookTicketsBatch(String userId, List<BookingLineDto> items, boolean allowPartial) {
         // Validate required fields
         if (userId == null || userId.isEmpty()) {
             throw new IllegalArgumentException("User ID is required.");
         }
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one booking line is required.");
+        }
+        if (items.size() > MAX_BATCH_LINES) {
+            throw new IllegalArgumentException("A batch can contain at most " + MAX_BATCH_LINES + " lines.");
+        }
 
-        // Fetch user details
+        // Fetch user details and balance
         UserDetails user = userDetailsRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+        BigDecimal balance = walletService.getBalance(userId);
+
+        // Price, event and venue for every line in one query
+        Set<String> ticketPriceIds = items.stream().map(BookingLineDto::getTicketPriceId).filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, BookingLineQuote> quotes = ticketPriceRepository.findBookingQuotes(ticketPriceIds).stream()
+                .collect(Collectors.toMap(BookingLineQuote::getTicketPriceId, Function.identity()));
+
+        // Validate every line against the quotes, capacity per event and the running total
+        List<Integer> accepted = new ArrayList<>();
+        List<BookingLineFailureDto> failures = new ArrayList<>();
+        Map<String, Integer> seatsByEvent = new LinkedHashMap<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < items.size(); i++) {
+            BookingLineDto line = items.get(i);
+            BookingLineQuote quote = quotes.get(line.getTicketPriceId());
+            String reason = null;
+            if (line.getNumberOfTickets() <= 0) {
+                reason = "Number of tickets must be greater than zero.";
+            } else if (quote == null || !quote.getEventId().equals(line.getEventId())) {
+                reason = "Ticket price not found for the selected category.";
+            } else {
+                int seats = seatsByEvent.getOrDefault(line.getEventId(), 0) + line.getNumberOfTickets();
+                BigDecimal lineTotal = BigDecimal.valueOf(line.getNumberOfTickets() * quote.getPrice());
+                if (quote.getCapacity() == null || quote.getCapacity() < seats) {
+                    reason = "Not enough capacity available for the venue.";
+                } else if (total.add(lineTotal).compareTo(balance) > 0) {
+                    reason = "Insufficient wallet balance.";
+                } else {
+                    seatsByEvent.put(line.getEventId(), seats);
+                    total = total.add(lineTotal);
+                    accepted.add(i);
+                }
+            }
+            if (reason != null) {
+                failures.add(new BookingLineFailureDto(i, line.getEventId(), line.getTicketPriceId(), reason));
+            }
+        }
 
-        log.info("Fetching bookings for user: {}", user.getFullName());
-
-        // Fetch bookings made by the user
-        List<Bookings> userBookings = bookingRepository.findByBookingMadeBy_UserDetailsId(userId);
+        if (accepted.isEmpty() || (!allowPartial && !failures.isEmpty())) {
+            log.warn("Batch booking for user: {} rejected, {} of {} lines invalid", userId, failures.size(), items.size());
+            return new BatchBookingResultDto(List.of(), failures, 0.0); // Nothing has been written
+        }
 
-        if (userBookings.isEmpty()) {
-            log.warn("No bookings found for user: {}", user.getFullName());
-            return Collections.emptyList(); // Return empty list if no bookings
+        // Reduce Venue Capacity atomically, one update per event
+        seatsByEvent.forEach((eventId, seats) -> seatInventoryService.reserveSeats(eventId, seats));
+
+        // Create Bookings and Payments
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Bookings> bookings = new ArrayList<>(accepted.size());
+        List<BookingPayments> payments = new ArrayList<>(accepted.size());
+        Map<String, BigDecimal> amountsByBooking = new LinkedHashMap<>();
+        Map<String, BigDecimal> revenueByEvent = new HashMap<>();
+        List<BookingDto> responses = new ArrayList<>(accepted.size());
+        for (int i : accepted) {
+            BookingLineDto line = items.get(i);
+            BookingLineQuote quote = quotes.get(line.getTicketPriceId());
+            double linePrice = line.getNumberOfTickets() * quote.getPrice();
+
+            Bookings booking = new Bookings(IDGenerator.generateBookingID(), now, "CONFIRMED", line.getNumberOfTickets(),
+                    eventRepository.getReferenceById(line.getEventId()), user);
+            bookings.add(booking);
+            payments.add(new BookingPayments(IDGenerator.generateBookingPaymentID(), linePrice, "SUCCESS", booking));
+            amountsByBooking.put(booking.getBookingId(), BigDecimal.valueOf(linePrice));
+            revenueByEvent.merge(line.getEventId(), BigDecimal.valueOf(linePrice), BigDecimal::add);
+
+            BookingDto responseDto = new BookingDto(booking.getBookingId(), line.getEventId(), userId, quote.getEventName(),
+                    line.getNumberOfTickets(), booking.getBookingStatus(), linePrice, user.getFullName(),
+                    quote.getVenueLocation());
+            responseDto.setTicketPriceId(line.getTicketPriceId());
+            responses.add(responseDto);
         }
 
-        // Create a list to hold BookingDto responses
-        List<BookingDto> bookingDtos = new ArrayList<>();
+        // Deduct the whole order from the User Wallet in one update
+        walletService.debit(userId, amountsByBooking, WalletLedgerEntry.BOOKING);
 
-        // Iterate through bookings and map them to BookingDto
-        for (Bookings booking : userBookings) {
-            BookingDto bookingDto = modelMapper.map(booking, BookingDto.class);
+        bookingRepository.saveAll(bookings);
+        bookingPaymentsRepository.saveAll(payments);
+        seatsByEvent.forEach((eventId, seats) -> eventSalesService.recordSale(eventId, seats, revenueByEvent.get(eventId)));
 
-            // Set the full name
-            bookingDto.setFullName(user.getFullName());
+        log.info("Batch of {} bookings created for user: {}, {} lines rejected", bookings.size(), userId, failures.size());
 
-            // Fetch event name using eventId from the booking
-            Events event = booking.getBookingForEvent(); // Assuming this gets the related event
-            if (event != null) {
-                bookingDto.setEventName(event.getEventName()); // Set event name in the DTO
-                bookingDto.setEventId(event.getEventId()); // Set eventId if needed
-            }
+        return new BatchBookingResultDto(responses, failures, total.doubleValue());
+    }
 
-            // Fetch the amount paid from BookingPayments
-            BookingPayments payment = bookingPaymentsRepository.findByPaymentForBooking(booking);
-            if (payment != null) {
-                bookingDto.setTotalPrice(payment.getPaymentAmount()); // Set total amount paid
-            }
+    /**
+     * Retrieves bookings made by a specific user, newest first.
+     * Event name, payment amount and venue location are resolved by a single
+     * projection query instead of per-booking lookups.
+     *
+     * @param userId   The ID of the user whose bookings are to be retrieved.
+     * @param pageable The page to return, or {@link Pageable#unpaged()} for the full history.
+     * @return A page of BookingDto containing booking details.
+     */
+    @Override
+    public Page<BookingDto> getUserBookings(String userId, Pageable pageable) {
+        // Validate required fields
+        if (userId == null || userId.isEmpty()) {
+            throw new IllegalArgumentException("User ID is required.");
+        }
 
-            bookingDtos.add(bookingDto); // Add the booking DTO to the list
+        // Make sure the user exists
+        if (!userDetailsRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found with ID: " + userId);
         }
 
-        log.info("Bookings fetched successfully for user: {}", user.getFullName());
+        log.info("Fetching bookings for user: {}", userId);
+
+        Page<BookingDto> bookings = bookingRepository.findBookingSummariesByUserId(userId, pageable);
 
-        return bookingDtos; // Return the list of booking DTOs
+        if (bookings.isEmpty()) {
+            log.warn("No bookings found for user: {}", userId);
+        }
+
+        return bookings; // Return the page of booking DTOs
     }
 
     /**
      * Cancels a booking by its ID.
+     * Status change, seat release and refund commit or roll back together.
+     * The status changes in one conditional UPDATE, so of two concurrent
+     * cancels only one releases the seats and refunds the payment.
      *
      * @param bookingId The ID of the booking to be canceled.
      */
     @Override
+    @Transactional
     public void cancelBooking(String bookingId) {
         // Fetch the booking by ID
         Bookings booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new BookingNotFoundException("Booking not found with ID: " + bookingId));
 
-        // Check if the booking is confirmed
-        if (!"CONFIRMED".equals(booking.getBookingStatus())) {
+        // Change booking status to "CANCELLED" only if it is still confirmed
+        if (bookingRepository.cancelIfConfirmed(bookingId) == 0) {
             throw new InvalidBookingStatusException("Only confirmed bookings can be cancelled.");
         }
 
-        // Change booking status to "CANCELLED"
-        booking.setBookingStatus("CANCELLED");
-        bookingRepository.save(booking); // Save the updated booking
-
-        // Increase venue capacity
-        Venue venue = venueRepository.findByVenueForEvent(booking.getBookingForEvent());
-        venue.setCapacity(venue.getCapacity() + booking.getNoOfTickets()); // Add the cancelled tickets back to capacity
-        venueRepository.save(venue); // Save updated venue capacity
+        // Add the cancelled tickets back to the venue capacity
+        seatInventoryService.releaseSeats(booking.getBookingForEvent().getEventId(), booking.getNoOfTickets());
 
         // Refund 50% of the payment to the user's wallet
         BookingPayments payment = bookingPaymentsRepository.findByPaymentForBooking(booking);
-        Wallet wallet = walletRepository.findByWalletForUser(booking.getBookingMadeBy());
-        double refundAmount = payment.getPaymentAmount() * 0.5; // Calculate refund amount
-        wallet.setAmount(wallet.getAmount() + refundAmount); // Add refund to user's wallet
-        walletRepository.save(wallet); // Save updated wallet
+        BigDecimal refundAmount = BigDecimal.valueOf(payment.getPaymentAmount()).multiply(REFUND_RATE); // Calculate refund amount
+        if (refundAmount.signum() > 0) {
+            walletService.credit(booking.getBookingMadeBy().getUserDetailsId(), refundAmount, WalletLedgerEntry.REFUND,
+                    bookingId); // Add refund to user's wallet
+        }
+
+        // Released tickets and the refund come off the event's running totals
+        eventSalesService.recordCancellation(booking.getBookingForEvent().getEventId(), booking.getNoOfTickets(), refundAmount);
     }
 
     /**
      * Retrieves total revenue and total tickets sold for a specific event.
+     * Both come from the event's running sales summary, so the cost does not grow
+     * with the number of bookings. Cancelled tickets are not counted and only the
+     * non-refunded part of their payment is included in the revenue.
      *
      * @param eventId The ID of the event.
      * @return A map containing total revenue and total tickets sold.
@@ -270,16 +354,13 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Event ID is required.");
         }
 
-        // Fetch total payments for the event
-        Double totalRevenue = bookingPaymentsRepository.sumPaymentsByEventId(eventId);
-
-        // Fetch the total number of tickets sold for the event
-        Long totalTicketsSold = bookingRepository.sumTicketsByEventId(eventId);
+        // Fetch the running totals for the event
+        EventSalesSummary summary = eventSalesService.getSummary(eventId);
 
         // Create a response map
         Map<String, Object> response = new HashMap<>();
-        response.put("totalRevenue", totalRevenue != null ? totalRevenue : 0.0); // Default to 0.0 if null
-        response.put("totalTicketsSold", totalTicketsSold != null ? totalTicketsSold : 0L); // Default to 0L if null
+        response.put("totalRevenue", summary.getRevenue().doubleValue());
+        response.put("totalTicketsSold", summary.getTicketsSold());
 
         return response; // Return the response map
     }
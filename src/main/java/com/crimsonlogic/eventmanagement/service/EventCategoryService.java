@@ -1,9 +1,8 @@
 package com.crimsonlogic.eventmanagement.service;
 
+import com.crimsonlogic.eventmanagement.cache.CategorySnapshot;
 import com.crimsonlogic.eventmanagement.payload.EventCategoryDto;
 
-import java.util.List;
-
 import org.springframework.web.multipart.MultipartFile;
 
 public interface EventCategoryService {
@@ -12,7 +11,7 @@ public interface EventCategoryService {
 
 	EventCategoryDto updateCategory(String id, EventCategoryDto categoryDto, MultipartFile imageFile);
 
-	List<EventCategoryDto> getAllCategories();
+	CategorySnapshot getEnabledCategories();
 
 	void deleteCategory(String id);
 
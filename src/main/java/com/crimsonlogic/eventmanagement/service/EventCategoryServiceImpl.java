@@ -1,23 +1,22 @@
 package com.crimsonlogic.eventmanagement.service;
 
+import com.crimsonlogic.eventmanagement.cache.CategorySnapshot;
+import com.crimsonlogic.eventmanagement.mapper.EventCategoryMapper;
 import com.crimsonlogic.eventmanagement.payload.EventCategoryDto;
 import com.crimsonlogic.eventmanagement.entity.EventCategories;
 import com.crimsonlogic.eventmanagement.repository.EventCategoryRepository;
 import com.crimsonlogic.eventmanagement.service.EventCategoryService;
 import com.crimsonlogic.eventmanagement.util.IDGenerator;
 import com.crimsonlogic.eventmanagement.exception.CategoryNotFoundException;
-import com.crimsonlogic.eventmanagement.exception.ImageStorageException;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
 import java.sql.Timestamp;
-import java.util.List;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,28 +26,47 @@ public class EventCategoryServiceImpl implements EventCategoryService {
     private EventCategoryRepository categoryRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private EventCategoryMapper categoryMapper;
 
-    // Path for storing images, loaded from application properties
-    @Value("${image.storage.path}")
-    private String imageStoragePath;
+    @Autowired
+    public ImageStorageService imageStorageService;
+
+    // How long a snapshot is served before it is reloaded, for changes made by other instances
+    @Value("${event.categories.cache.ttl:5m}")
+    private Duration snapshotTtl = Duration.ofMinutes(5);
+
+    // Bumped after every committed category write; a snapshot of an older version is rebuilt on the next read
+    private final AtomicLong categoryVersion = new AtomicLong();
+
+    private volatile CategorySnapshot enabledCategories;
 
     // Constructor for dependency injection
-    public EventCategoryServiceImpl(EventCategoryRepository categoryRepository, ModelMapper modelMapper) {
+    public EventCategoryServiceImpl(EventCategoryRepository categoryRepository, EventCategoryMapper categoryMapper) {
         this.categoryRepository = categoryRepository;
-        this.modelMapper = modelMapper;
+        this.categoryMapper = categoryMapper;
     }
 
     /**
-     * Retrieves all event categories.
+     * Retrieves the enabled event categories, sorted by name.
+     * The list is served from an in-memory snapshot that is rebuilt on the
+     * first read after a category is created, updated or deleted on this
+     * instance, and after the snapshot TTL so changes made elsewhere show up.
      *
-     * @return A list of EventCategoryDto representing all categories.
+     * @return The snapshot of enabled categories with its ETag.
      */
     @Override
-    public List<EventCategoryDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(category -> modelMapper.map(category, EventCategoryDto.class)) // Convert to DTO
-                .collect(Collectors.toList());
+    public CategorySnapshot getEnabledCategories() {
+        CategorySnapshot snapshot = enabledCategories;
+        long version = categoryVersion.get();
+        if (snapshot == null || snapshot.getVersion() != version
+                || System.nanoTime() - snapshot.getLoadedAtNanos() > snapshotTtl.toNanos()) {
+            // Read the version before the rows: a write in between leaves this snapshot outdated, not wrong
+            snapshot = CategorySnapshot.of(categoryRepository.findByIsEnabledTrueOrderByCategoryNameAsc().stream()
+                    .map(category -> categoryMapper.toDto(category)) // Convert to DTO
+                    .collect(Collectors.toList()), version);
+            enabledCategories = snapshot;
+        }
+        return snapshot;
     }
 
     /**
@@ -61,7 +79,7 @@ public class EventCategoryServiceImpl implements EventCategoryService {
     @Override
     public EventCategoryDto createCategory(EventCategoryDto categoryDto, MultipartFile imageFile) {
         // Map DTO to entity
-        EventCategories category = modelMapper.map(categoryDto, EventCategories.class);
+        EventCategories category = categoryMapper.toEntity(categoryDto);
 
         // Set ID, creation timestamp, enabled status, and updated timestamp
         category.setCategoryId(IDGenerator.generateCategoryID());
@@ -70,40 +88,13 @@ public class EventCategoryServiceImpl implements EventCategoryService {
         category.setUpdatedAt(null);
 
         // Save the image file and store the relative path
-        String imagePath = saveImageFile(imageFile);
+        String imagePath = imageStorageService.store(imageFile);
         category.setImagePath(imagePath); // Store relative path to the image
 
         // Save the category entity to the repository
         category = categoryRepository.save(category);
-        return modelMapper.map(category, EventCategoryDto.class); // Convert back to DTO for return
-    }
-
-    /**
-     * Saves the uploaded image file to the server.
-     *
-     * @param imageFile The image file to be saved.
-     * @return The public URL of the saved image.
-     * @throws ImageStorageException if the image file could not be saved.
-     */
-    public String saveImageFile(MultipartFile imageFile) {
-        try {
-            // Define the directory path for storing images
-            String folderPath = "D:/Training 2024/reactexamples/event-management/public/images"; // Adjust as needed
-            File folder = new File(folderPath);
-            if (!folder.exists()) {
-                folder.mkdirs(); // Create the directory if it doesn't exist
-            }
-
-            // Create a unique filename to prevent collisions
-            String fileName = "image_" + imageFile.getOriginalFilename();
-            File destinationFile = new File(folder, fileName);
-            imageFile.transferTo(destinationFile); // Save the file to the destination
-
-            // Return the public URL for accessing the image
-            return "/images/" + fileName; // Accessible from the React app
-        } catch (IOException e) {
-            throw new ImageStorageException("Failed to store image file: " + e.getMessage());
-        }
+        categoryVersion.incrementAndGet();
+        return categoryMapper.toDto(category); // Convert back to DTO for return
     }
 
     /**
@@ -126,13 +117,14 @@ public class EventCategoryServiceImpl implements EventCategoryService {
 
         // If a new image file is provided, save it
         if (imageFile != null && !imageFile.isEmpty()) {
-            String imagePath = saveImageFile(imageFile);
+            String imagePath = imageStorageService.store(imageFile);
             category.setImagePath(imagePath);
         }
 
         // Save the updated category entity
         category = categoryRepository.save(category);
-        return modelMapper.map(category, EventCategoryDto.class); // Convert to DTO for return
+        categoryVersion.incrementAndGet();
+        return categoryMapper.toDto(category); // Convert to DTO for return
     }
 
     /**
@@ -148,5 +140,6 @@ public class EventCategoryServiceImpl implements EventCategoryService {
             throw new CategoryNotFoundException("Cannot delete. Category not found with ID: " + id);
         }
         categoryRepository.deleteById(id); // Delete the category
+        categoryVersion.incrementAndGet();
     }
 }
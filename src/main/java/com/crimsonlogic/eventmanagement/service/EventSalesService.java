@@ -0,0 +1,17 @@
+package com.crimsonlogic.eventmanagement.service;
+
+import java.math.BigDecimal;
+
+import com.crimsonlogic.eventmanagement.entity.EventSalesSummary;
+
+public interface EventSalesService {
+
+	void createSummary(String eventId);
+
+	void recordSale(String eventId, int numberOfTickets, BigDecimal amount);
+
+	void recordCancellation(String eventId, int numberOfTickets, BigDecimal refundAmount);
+
+	EventSalesSummary getSummary(String eventId);
+
+}
@@ -0,0 +1,155 @@
+package com.crimsonlogic.eventmanagement.service;
+
+import com.crimsonlogic.eventmanagement.entity.EventSalesSummary;
+import com.crimsonlogic.eventmanagement.repository.BookingRepository;
+import com.crimsonlogic.eventmanagement.repository.BookingRepository.SalesTotals;
+import com.crimsonlogic.eventmanagement.repository.EventRepository;
+import com.crimsonlogic.eventmanagement.repository.EventSalesSummaryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Keeps per-event sales totals up to date in the booking transaction.
+ * <p>
+ * Each booking or cancellation applies its delta with one UPDATE on the event's
+ * summary row. That row is locked only as long as the event's venue row, which
+ * the same transaction already holds, so it adds no contention. Events without
+ * a summary yet, such as those booked before summaries existed, are seeded
+ * once from their bookings by their next sale or cancellation, in a separate
+ * transaction: the seed sees only committed bookings, and every uncommitted one
+ * applies its own delta after it. Reads never write; until then they compute
+ * the totals from the bookings.
+ */
+@Slf4j
+@Service
+public class EventSalesServiceImpl implements EventSalesService {
+
+    @Autowired
+    private EventSalesSummaryRepository eventSalesSummaryRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final TransactionTemplate seedTransaction;
+
+    public EventSalesServiceImpl(PlatformTransactionManager transactionManager) {
+        this.seedTransaction = new TransactionTemplate(transactionManager);
+        this.seedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Starts an empty summary for a new event, so its first booking updates the
+     * row in place instead of seeding it in a second transaction. That seed
+     * needs a second pooled connection while the booking holds one, which can
+     * starve a fixed-size pool under load.
+     *
+     * @param eventId The ID of the new event.
+     */
+    @Override
+    @Transactional
+    public void createSummary(String eventId) {
+        eventSalesSummaryRepository.save(new EventSalesSummary(eventId, 0, BigDecimal.ZERO));
+    }
+
+    /**
+     * Adds a confirmed booking to the event's totals.
+     *
+     * @param eventId         The ID of the booked event.
+     * @param numberOfTickets The number of tickets sold.
+     * @param amount          The amount paid.
+     */
+    @Override
+    @Transactional
+    public void recordSale(String eventId, int numberOfTickets, BigDecimal amount) {
+        applyDelta(eventId, numberOfTickets, normalize(amount));
+    }
+
+    /**
+     * Takes a cancelled booking's tickets and refund off the event's totals.
+     * The part of the payment that is not refunded stays in the revenue.
+     *
+     * @param eventId         The ID of the event.
+     * @param numberOfTickets The number of tickets released.
+     * @param refundAmount    The amount refunded to the user.
+     */
+    @Override
+    @Transactional
+    public void recordCancellation(String eventId, int numberOfTickets, BigDecimal refundAmount) {
+        applyDelta(eventId, -numberOfTickets, normalize(refundAmount).negate());
+    }
+
+    /**
+     * Returns the running totals for an event. An event without a summary row
+     * gets totals computed from its bookings, without storing them: a read
+     * must not take a second pooled connection to insert the row.
+     *
+     * @param eventId The ID of the event.
+     * @return The event's summary, or an empty one if the event does not exist.
+     */
+    @Override
+    public EventSalesSummary getSummary(String eventId) {
+        return eventSalesSummaryRepository.findById(eventId)
+                .orElseGet(() -> summarizeBookings(eventId));
+    }
+
+    private void applyDelta(String eventId, long tickets, BigDecimal revenue) {
+        if (eventSalesSummaryRepository.addSales(eventId, tickets, revenue) == 0) {
+            seed(eventId);
+            if (eventSalesSummaryRepository.addSales(eventId, tickets, revenue) == 0) {
+                log.warn("No sales summary could be created for event: {}", eventId);
+            }
+        }
+    }
+
+    /**
+     * Creates an event's summary from its committed bookings.
+     */
+    private void seed(String eventId) {
+        try {
+            seedTransaction.executeWithoutResult(status -> {
+                if (!eventRepository.existsById(eventId)) {
+                    return; // Nothing to summarise
+                }
+                eventSalesSummaryRepository.saveAndFlush(summarizeBookings(eventId));
+                log.info("Seeded sales summary for event: {}", eventId);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Sales summary for event {} was seeded concurrently", eventId); // The other seed is used instead
+        }
+    }
+
+    /**
+     * Totals an event's bookings. Confirmed bookings count in full; cancelled
+     * ones only keep the part that was not refunded.
+     */
+    private EventSalesSummary summarizeBookings(String eventId) {
+        SalesTotals totals = bookingRepository.sumSalesByEventId(eventId);
+        BigDecimal retained = BigDecimal.ONE.subtract(BookingServiceImpl.REFUND_RATE);
+        BigDecimal revenue = valueOf(totals.getConfirmedPayments())
+                .add(valueOf(totals.getCancelledPayments()).multiply(retained));
+        long tickets = totals.getConfirmedTickets() != null ? totals.getConfirmedTickets() : 0L;
+        return new EventSalesSummary(eventId, tickets, normalize(revenue));
+    }
+
+    private static BigDecimal valueOf(Double amount) {
+        return amount != null ? BigDecimal.valueOf(amount) : BigDecimal.ZERO;
+    }
+
+    private static BigDecimal normalize(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP);
+    }
+}
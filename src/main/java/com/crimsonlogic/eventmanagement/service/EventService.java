@@ -1,16 +1,23 @@
 package com.crimsonlogic.eventmanagement.service;
 
+import com.crimsonlogic.eventmanagement.payload.CatalogImportResultDto;
+import com.crimsonlogic.eventmanagement.payload.EventCatalogRowDto;
 import com.crimsonlogic.eventmanagement.payload.EventDto;
 import com.crimsonlogic.eventmanagement.payload.SponsorDto;
 import com.crimsonlogic.eventmanagement.payload.TicketPriceDto;
 import com.crimsonlogic.eventmanagement.payload.VenueDto;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface EventService {
-	List<EventDto> getAllEvents();
+	List<EventDto> getAllEvents(Pageable pageable);
+
+	void streamAllEvents(Consumer<EventDto> consumer);
 
 	EventDto createEvent(String userDetailsId, EventDto eventDto, MultipartFile imageFile);
 
@@ -18,6 +25,12 @@ public interface EventService {
 
 	void addTicketPrices(String eventId, TicketPriceDto ticketPrices);
 
+	List<SponsorDto> addSponsorsBatch(String eventId, List<SponsorDto> sponsors);
+
+	List<TicketPriceDto> addTicketPricesBatch(String eventId, List<TicketPriceDto> ticketPrices);
+
+	CatalogImportResultDto importCatalog(Iterator<EventCatalogRowDto> rows);
+
 	void addVenue(String eventId, VenueDto venue);
 
 	List<TicketPriceDto> getTicketPricesForEvent(String eventId);
@@ -30,6 +43,6 @@ public interface EventService {
 
 	List<EventDto> getEventsByOrganizer(String userDetailsId);
 
-	List<EventDto> getAllEventsByDate();
+	List<EventDto> getAllEventsByDate(String afterEventId, int limit);
 
 }
@@ -1,6 +1,12 @@
 package com.crimsonlogic.eventmanagement.service;
 
+import com.crimsonlogic.eventmanagement.cache.EventDetailsCache;
+import com.crimsonlogic.eventmanagement.cache.EventDetailsSnapshot;
+import com.crimsonlogic.eventmanagement.mapper.EventMapper;
+import com.crimsonlogic.eventmanagement.payload.CatalogImportResultDto;
+import com.crimsonlogic.eventmanagement.payload.EventCatalogRowDto;
 import com.crimsonlogic.eventmanagement.payload.EventDto;
+import com.crimsonlogic.eventmanagement.payload.ImportFailureDto;
 import com.crimsonlogic.eventmanagement.payload.SponsorDto;
 import com.crimsonlogic.eventmanagement.payload.TicketPriceDto;
 import com.crimsonlogic.eventmanagement.payload.VenueDto;
@@ -10,39 +16,70 @@ import com.crimsonlogic.eventmanagement.entity.Sponsors;
 import com.crimsonlogic.eventmanagement.entity.TicketPrice;
 import com.crimsonlogic.eventmanagement.entity.UserDetails;
 import com.crimsonlogic.eventmanagement.entity.Venue;
-import com.crimsonlogic.eventmanagement.repository.BookingRepository;
 import com.crimsonlogic.eventmanagement.repository.EventCategoryRepository;
 import com.crimsonlogic.eventmanagement.repository.EventRepository;
 import com.crimsonlogic.eventmanagement.repository.SponsorRepository;
 import com.crimsonlogic.eventmanagement.repository.TicketPriceRepository;
 import com.crimsonlogic.eventmanagement.repository.UserDetailsRepository;
 import com.crimsonlogic.eventmanagement.repository.VenueRepository;
+import com.crimsonlogic.eventmanagement.repository.VenueRepository.SeatAvailability;
 import com.crimsonlogic.eventmanagement.service.EventService;
 import com.crimsonlogic.eventmanagement.util.IDGenerator;
 import com.crimsonlogic.eventmanagement.exception.EventNotFoundException;
+import com.crimsonlogic.eventmanagement.exception.InvalidInputException;
 import com.crimsonlogic.eventmanagement.exception.UserNotFoundException;
 import com.crimsonlogic.eventmanagement.exception.CategoryNotFoundException;
-import com.crimsonlogic.eventmanagement.exception.ImageStorageException;
 
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class EventServiceImpl implements EventService {
 
+    // Rows written and committed together during a catalog import
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
+    // Rejected rows listed in an import result; the rest are only counted
+    public static final int MAX_REPORTED_FAILURES = 1000;
+
+    private static final int MAX_NAME_LENGTH = 50;
+
+    private static final int MAX_CONTACT_NUMBER_LENGTH = 10;
+
     @Autowired
     private EventRepository eventRepository;
 
@@ -62,46 +99,124 @@ public class EventServiceImpl implements EventService {
     public VenueRepository venueRepository;
 
     @Autowired
-    public BookingRepository bookingsRepository;
+    public EventSalesService eventSalesService;
+
+    @Autowired
+    public EventDetailsCache eventDetailsCache;
+
+    // Runs the lookups of an event page concurrently; see configureDetailsExecutor
+    public Executor detailsExecutor;
+
+    private ThreadPoolTaskExecutor detailsPool;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private EventMapper eventMapper;
 
-    // Path for storing images, loaded from application properties
-    @Value("${image.storage.path}")
-    private String imageStoragePath;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ImageStorageService imageStorageService;
 
     // Constructor for dependency injection
-    public EventServiceImpl(EventRepository eventRepository, ModelMapper modelMapper) {
+    public EventServiceImpl(EventRepository eventRepository, EventMapper eventMapper) {
         this.eventRepository = eventRepository;
-        this.modelMapper = modelMapper;
+        this.eventMapper = eventMapper;
     }
 
     /**
-     * Retrieves all events from the repository.
+     * Sets up the pool that loads an event page's lookups concurrently.
+     * Each lookup holds a pooled connection while it runs, so the pool is kept
+     * to a fraction of the connection pool and has no queue: when all its
+     * threads are busy the lookup runs on the calling thread instead, as it
+     * would without the fan-out, rather than waiting behind other pages.
      *
-     * @return A list of EventDto representing all events.
+     * @param poolSize Threads for the lookups; 0 for a quarter of the connection pool.
+     * @param connections The size of the connection pool.
+     */
+    @Autowired
+    public void configureDetailsExecutor(@Value("${event.details.pool-size:0}") int poolSize,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connections) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, connections / 4);
+        detailsPool = new ThreadPoolTaskExecutor();
+        detailsPool.setCorePoolSize(threads);
+        detailsPool.setMaxPoolSize(threads);
+        detailsPool.setQueueCapacity(0);
+        detailsPool.setThreadNamePrefix("event-details-");
+        detailsPool.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        detailsPool.initialize();
+        detailsExecutor = detailsPool;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (detailsPool != null) {
+            detailsPool.shutdown();
+        }
+    }
+
+    /**
+     * Retrieves events from the repository one page at a time.
+     *
+     * @param pageable The page to return, or {@link Pageable#unpaged()} for all events.
+     * @return A list of EventDto representing the requested events.
      */
     @Override
-    public List<EventDto> getAllEvents() {
-        return eventRepository.findAll().stream()
-                .map(event -> modelMapper.map(event, EventDto.class)) // Convert entity to DTO
+    public List<EventDto> getAllEvents(Pageable pageable) {
+        return eventRepository.findAll(pageable).stream()
+                .map(event -> eventMapper.toDto(event)) // Convert entity to DTO
                 .collect(Collectors.toList());
     }
 
     /**
-     * Retrieves upcoming events, limited to the next 6 events.
+     * Streams every event to the consumer without materialising the catalog.
+     * Rows are read through a JDBC cursor and detached once mapped, so heap
+     * usage stays flat regardless of the catalog size.
+     *
+     * @param consumer Receives each event as it is read.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllEvents(Consumer<EventDto> consumer) {
+        try (Stream<Events> events = eventRepository.streamAllEvents()) {
+            events.forEach(event -> {
+                consumer.accept(eventMapper.toDto(event)); // Convert entity to DTO
+                entityManager.detach(event); // Let the persistence context forget rows already written
+            });
+        }
+    }
+
+    /**
+     * Retrieves upcoming events ordered by date and time. Filtering, ordering and
+     * the row limit are applied by the database, and paging continues from the
+     * last event the client has already seen instead of using an offset.
      *
+     * @param afterEventId The ID of the last event on the previous page, or null for the first page.
+     * @param limit The maximum number of events to return.
      * @return A list of EventDto representing upcoming events.
      */
     @Override
-    public List<EventDto> getAllEventsByDate() {
+    public List<EventDto> getAllEventsByDate(String afterEventId, int limit) {
         LocalDate now = LocalDate.now();
-        return eventRepository.findAll().stream()
-                .filter(event -> event.getDate().isAfter(now)) // Filter for future events
-                .sorted((e1, e2) -> e1.getDate().compareTo(e2.getDate())) // Sort by date
-                .limit(6) // Limit to 6 events
-                .map(event -> modelMapper.map(event, EventDto.class)) // Convert to DTO
+        Pageable page = PageRequest.of(0, limit);
+
+        List<Events> events;
+        if (afterEventId == null || afterEventId.isEmpty()) {
+            events = eventRepository.findUpcomingEvents(now, page);
+        } else {
+            Events cursor = eventRepository.findById(afterEventId)
+                    .orElseThrow(() -> new EventNotFoundException("Event not found with ID: " + afterEventId));
+            // The feed sorts events without a time as midnight
+            LocalTime afterTime = cursor.getTime() != null ? cursor.getTime() : LocalTime.MIDNIGHT;
+            events = eventRepository.findUpcomingEventsAfter(now, cursor.getDate(), afterTime,
+                    cursor.getEventId(), page);
+        }
+
+        return events.stream()
+                .map(event -> eventMapper.toDto(event)) // Convert to DTO
                 .collect(Collectors.toList());
     }
 
@@ -115,7 +230,7 @@ public class EventServiceImpl implements EventService {
     public List<EventDto> getEventsByOrganizer(String userDetailsId) {
         List<Events> events = eventRepository.findByCreatedBy_UserDetailsId(userDetailsId);
         return events.stream()
-                .map(event -> modelMapper.map(event, EventDto.class)) // Convert to DTO
+                .map(event -> eventMapper.toDto(event)) // Convert to DTO
                 .collect(Collectors.toList());
     }
 
@@ -130,7 +245,7 @@ public class EventServiceImpl implements EventService {
     @Override
     public EventDto createEvent(String userDetailsId, EventDto eventDto, MultipartFile imageFile) {
         // Map DTO to entity
-        Events event = modelMapper.map(eventDto, Events.class);
+        Events event = eventMapper.toEntity(eventDto);
 
         // Fetch the user who is creating the event
         UserDetails user = userDetailsRepository.findById(userDetailsId)
@@ -149,41 +264,15 @@ public class EventServiceImpl implements EventService {
         }
 
         // Save the image file and store the relative path
-        String imagePath = saveImageFile(imageFile);
+        String imagePath = imageStorageService.store(imageFile);
         event.setImagePath(imagePath);
 
         log.info("Event object before saving: {}", event);
         event = eventRepository.save(event); // Save event to repository
+        eventSalesService.createSummary(event.getEventId());
         log.info("Event successfully created: {}", event);
 
-        return modelMapper.map(event, EventDto.class); // Convert back to DTO for return
-    }
-
-    /**
-     * Saves the uploaded image file to the server.
-     *
-     * @param imageFile The image file to be saved.
-     * @return The public URL of the saved image.
-     * @throws ImageStorageException if the image file could not be saved.
-     */
-    public String saveImageFile(MultipartFile imageFile) {
-        try {
-            // Define the directory path for storing images
-            String folderPath = "D:/Training 2024/reactexamples/event-management/public/images";
-            File folder = new File(folderPath);
-            if (!folder.exists()) {
-                folder.mkdirs(); // Create directory if it doesn't exist
-            }
-
-            // Create a unique filename to prevent collisions
-            String fileName = "event_" + imageFile.getOriginalFilename();
-            File destinationFile = new File(folder, fileName);
-            imageFile.transferTo(destinationFile); // Save the file to the destination
-
-            return "/images/" + fileName; // Return the public URL for accessing the image
-        } catch (IOException e) {
-            throw new ImageStorageException("Failed to store image file: " + e.getMessage());
-        }
+        return eventMapper.toDto(event); // Convert back to DTO for return
     }
 
     /**
@@ -203,12 +292,8 @@ public class EventServiceImpl implements EventService {
         }
 
         log.info("Received sponsors for eventId {}: {}", eventId, list);
-        Sponsors sponsor = new Sponsors();
-        sponsor.setSponsorId(IDGenerator.generateSponsorID()); // Generate a unique sponsor ID
-        sponsor.setSponsorName(list.getSponsorName());
-        sponsor.setContactNumber(list.getContactNumber());
-        sponsor.setSponsorForEvent(event); // Associate the sponsor with the event
-        sponsorRepository.save(sponsor); // Save sponsor to repository
+        sponsorRepository.save(newSponsor(list.getSponsorName(), list.getContactNumber(), event)); // Save sponsor to repository
+        eventDetailsCache.evict(eventId); // Cached sponsor list is now out of date
     }
 
     /**
@@ -228,12 +313,244 @@ public class EventServiceImpl implements EventService {
         }
 
         log.info("Received ticket prices for eventId {}: {}", eventId, ticketPrices);
+        ticketPriceRepository.save(newTicketPrice(ticketPrices.getPriceCategory(), ticketPrices.getPrice(), event)); // Save ticket price to repository
+        eventDetailsCache.evict(eventId); // Cached ticket prices are now out of date
+    }
+
+    /**
+     * Adds many sponsors to one event in a single request.
+     * The event is loaded once and the sponsors are inserted in JDBC batches.
+     *
+     * @param eventId The ID of the event to which sponsors are being added.
+     * @param sponsors The sponsors to add.
+     * @return The created sponsors with their generated IDs.
+     */
+    @Override
+    @Transactional
+    public List<SponsorDto> addSponsorsBatch(String eventId, List<SponsorDto> sponsors) {
+        Events event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("Event not found with ID: " + eventId));
+
+        if (sponsors == null || sponsors.isEmpty()) {
+            log.warn("Received no sponsors for eventId: {}", eventId);
+            return List.of(); // Nothing to add
+        }
+
+        List<Sponsors> entities = sponsors.stream()
+                .filter(Objects::nonNull)
+                .map(dto -> newSponsor(dto.getSponsorName(), dto.getContactNumber(), event))
+                .collect(Collectors.toList());
+        sponsorRepository.saveAll(entities); // Insert all sponsors in batches
+        eventDetailsCache.evict(eventId); // Cached sponsor list is now out of date
+        log.info("Added {} sponsors to eventId: {}", entities.size(), eventId);
+
+        return entities.stream()
+                .map(sponsor -> eventMapper.toDto(sponsor)) // Convert to DTO
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds many ticket prices to one event in a single request.
+     * The event is loaded once and the ticket prices are inserted in JDBC batches.
+     *
+     * @param eventId The ID of the event to which ticket prices are being added.
+     * @param ticketPrices The ticket prices to add.
+     * @return The created ticket prices with their generated IDs.
+     */
+    @Override
+    @Transactional
+    public List<TicketPriceDto> addTicketPricesBatch(String eventId, List<TicketPriceDto> ticketPrices) {
+        Events event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("Event not found with ID: " + eventId));
+
+        if (ticketPrices == null || ticketPrices.isEmpty()) {
+            log.warn("Received no ticket prices for eventId: {}", eventId);
+            return List.of(); // Nothing to add
+        }
+
+        List<TicketPrice> entities = ticketPrices.stream()
+                .filter(Objects::nonNull)
+                .map(dto -> newTicketPrice(dto.getPriceCategory(), dto.getPrice(), event))
+                .collect(Collectors.toList());
+        ticketPriceRepository.saveAll(entities); // Insert all ticket prices in batches
+        eventDetailsCache.evict(eventId); // Cached ticket prices are now out of date
+        log.info("Added {} ticket prices to eventId: {}", entities.size(), eventId);
+
+        return entities.stream()
+                .map(ticketPrice -> eventMapper.toDto(ticketPrice)) // Convert to DTO
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Imports ticket prices and sponsors for many events from a streamed file.
+     * Rows are processed in chunks: each chunk checks its events and their
+     * existing entries with one query each and inserts its rows in JDBC batches
+     * in its own transaction. No connection is held while the file is read, and
+     * memory use does not grow with the file. Invalid rows, lines that do not
+     * parse and entries the event already has (same type and name) are skipped
+     * and reported, which makes it safe to re-run an interrupted import. Only the first
+     * {@link #MAX_REPORTED_FAILURES} rejected rows are listed; all are counted.
+     *
+     * @param rows The rows of the file, read lazily.
+     * @return How many ticket prices and sponsors were added, how many rows were rejected and the first of them.
+     */
+    @Override
+    public CatalogImportResultDto importCatalog(Iterator<EventCatalogRowDto> rows) {
+        CatalogImportResultDto result = new CatalogImportResultDto(0, 0, 0, new ArrayList<>());
+        List<EventCatalogRowDto> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        // Lines that did not parse, by position in the chunk, so they are reported in file order with the rest
+        Map<Integer, String> malformedRows = new HashMap<>();
+        long firstRow = 1;
+        while (rows.hasNext()) {
+            try {
+                chunk.add(rows.next());
+            } catch (InvalidInputException e) {
+                malformedRows.put(chunk.size(), e.getMessage());
+                chunk.add(null);
+            }
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                importCatalogChunk(chunk, malformedRows, firstRow, result);
+                firstRow += chunk.size();
+                chunk.clear();
+                malformedRows.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importCatalogChunk(chunk, malformedRows, firstRow, result);
+        }
+
+        log.info("Catalog import added {} ticket prices and {} sponsors, {} rows rejected",
+                result.getTicketPricesAdded(), result.getSponsorsAdded(), result.getRowsRejected());
+        return result;
+    }
+
+    private void importCatalogChunk(List<EventCatalogRowDto> chunk, Map<Integer, String> malformedRows, long firstRow,
+            CatalogImportResultDto result) {
+        Set<String> eventIds = chunk.stream()
+                .filter(Objects::nonNull)
+                .map(EventCatalogRowDto::getEventId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> existingEventIds = new HashSet<>();
+        List<TicketPrice> ticketPrices = new ArrayList<>();
+        List<Sponsors> sponsors = new ArrayList<>();
+        List<Long> importedRows = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!eventIds.isEmpty()) {
+                    existingEventIds.addAll(eventRepository.findExistingEventIds(eventIds));
+                }
+                // Grow as rows are accepted, so entries repeated within the file are skipped too
+                Set<String> ticketPriceKeys = new HashSet<>(
+                        existingEventIds.isEmpty() ? Set.of() : ticketPriceRepository.findCatalogKeys(existingEventIds));
+                Set<String> sponsorKeys = new HashSet<>(
+                        existingEventIds.isEmpty() ? Set.of() : sponsorRepository.findCatalogKeys(existingEventIds));
+
+                for (int i = 0; i < chunk.size(); i++) {
+                    EventCatalogRowDto row = chunk.get(i);
+                    String reason = malformedRows.containsKey(i) ? malformedRows.get(i)
+                            : validateCatalogRow(row, existingEventIds);
+                    if (reason == null) {
+                        reason = checkNotImported(row, ticketPriceKeys, sponsorKeys);
+                    }
+                    if (reason != null) {
+                        reject(result, firstRow + i, reason);
+                        continue;
+                    }
+
+                    Events event = eventRepository.getReferenceById(row.getEventId()); // Existence already checked
+                    if (EventCatalogRowDto.TICKET_PRICE.equals(row.getType())) {
+                        ticketPrices.add(newTicketPrice(row.getName(), row.getPrice(), event));
+                    } else {
+                        sponsors.add(newSponsor(row.getName(), row.getContactNumber(), event));
+                    }
+                    importedRows.add(firstRow + i);
+                }
+
+                ticketPriceRepository.saveAll(ticketPrices);
+                sponsorRepository.saveAll(sponsors);
+            });
+            result.setTicketPricesAdded(result.getTicketPricesAdded() + ticketPrices.size());
+            result.setSponsorsAdded(result.getSponsorsAdded() + sponsors.size());
+        } catch (DataIntegrityViolationException e) {
+            // Most likely one of these events was deleted since the check; a re-run imports the rest
+            log.warn("Catalog import chunk starting at row {} was rolled back: {}", firstRow, e.getMessage());
+            importedRows.forEach(row -> reject(result, row,
+                    "Not imported: the database rejected this chunk, re-run the import."));
+        }
+        eventDetailsCache.evictAll(existingEventIds); // Cached details are now out of date
+    }
+
+    private static void reject(CatalogImportResultDto result, long row, String reason) {
+        result.setRowsRejected(result.getRowsRejected() + 1);
+        if (result.getFailures().size() < MAX_REPORTED_FAILURES) {
+            result.getFailures().add(new ImportFailureDto(row, reason));
+        }
+    }
+
+    /**
+     * Skips an entry the event already has, e.g. from an earlier run of the same file.
+     *
+     * @return Why the row is rejected, or null if it is new.
+     */
+    private static String checkNotImported(EventCatalogRowDto row, Set<String> ticketPriceKeys, Set<String> sponsorKeys) {
+        boolean ticketPrice = EventCatalogRowDto.TICKET_PRICE.equals(row.getType());
+        Set<String> keys = ticketPrice ? ticketPriceKeys : sponsorKeys;
+        if (!keys.add(row.getEventId() + "|" + row.getName())) {
+            return "Already imported: the event has a " + (ticketPrice ? "ticket price" : "sponsor") + " named "
+                    + row.getName() + ".";
+        }
+        return null;
+    }
+
+    /**
+     * Checks a catalog row before it is written, so one bad row cannot fail the import.
+     *
+     * @return Why the row is rejected, or null if it can be imported.
+     */
+    private String validateCatalogRow(EventCatalogRowDto row, Set<String> existingEventIds) {
+        if (row == null) {
+            return "Row is empty.";
+        }
+        if (row.getEventId() == null || !existingEventIds.contains(row.getEventId())) {
+            return "Event not found with ID: " + row.getEventId();
+        }
+        if (row.getName() == null || row.getName().isBlank()) {
+            return "Name is required.";
+        }
+        if (row.getName().length() > MAX_NAME_LENGTH) {
+            return "Name must be at most " + MAX_NAME_LENGTH + " characters.";
+        }
+        if (EventCatalogRowDto.TICKET_PRICE.equals(row.getType())) {
+            if (row.getPrice() == null || row.getPrice() < 0) {
+                return "Price must be a number of zero or more.";
+            }
+        } else if (EventCatalogRowDto.SPONSOR.equals(row.getType())) {
+            if (row.getContactNumber() != null && row.getContactNumber().length() > MAX_CONTACT_NUMBER_LENGTH) {
+                return "Contact number must be at most " + MAX_CONTACT_NUMBER_LENGTH + " characters.";
+            }
+        } else {
+            return "Type must be " + EventCatalogRowDto.TICKET_PRICE + " or " + EventCatalogRowDto.SPONSOR + ".";
+        }
+        return null;
+    }
+
+    private static TicketPrice newTicketPrice(String priceCategory, double price, Events event) {
         TicketPrice ticketPrice = new TicketPrice();
         ticketPrice.setTicketPriceId(IDGenerator.generateTicketPriceID()); // Generate a unique ticket price ID
-        ticketPrice.setPriceCategory(ticketPrices.getPriceCategory());
-        ticketPrice.setPrice(ticketPrices.getPrice());
+        ticketPrice.setPriceCategory(priceCategory);
+        ticketPrice.setPrice(price);
         ticketPrice.setTicketForEvent(event); // Associate the ticket price with the event
-        ticketPriceRepository.save(ticketPrice); // Save ticket price to repository
+        return ticketPrice;
+    }
+
+    private static Sponsors newSponsor(String sponsorName, String contactNumber, Events event) {
+        Sponsors sponsor = new Sponsors();
+        sponsor.setSponsorId(IDGenerator.generateSponsorID()); // Generate a unique sponsor ID
+        sponsor.setSponsorName(sponsorName);
+        sponsor.setContactNumber(contactNumber);
+        sponsor.setSponsorForEvent(event); // Associate the sponsor with the event
+        return sponsor;
     }
 
     /**
@@ -252,9 +569,11 @@ public class EventServiceImpl implements EventService {
             venue.setVenueId(IDGenerator.generateVenueID()); // Generate a unique venue ID
             venue.setVenueLocation(venueDto.getVenueLocation());
             venue.setMapsLink(venueDto.getMapsLink());
-            venue.setCapacity(venueDto.getCapacity());
+            venue.setCapacity(venueDto.getCapacity()); // All seats are available to start with
+            venue.setTotalCapacity(venueDto.getCapacity());
             venue.setVenueForEvent(event); // Associate the venue with the event
             venueRepository.save(venue); // Save venue to repository
+            eventDetailsCache.evict(eventId); // Cached venue is now out of date
         }
     }
 
@@ -266,12 +585,7 @@ public class EventServiceImpl implements EventService {
      */
     @Override
     public List<TicketPriceDto> getTicketPricesForEvent(String eventId) {
-        Events event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EventNotFoundException("Event not found with ID: " + eventId));
-
-        return ticketPriceRepository.findByTicketForEvent_EventId(eventId).stream()
-                .map(ticketPrice -> modelMapper.map(ticketPrice, TicketPriceDto.class)) // Convert to DTO
-                .collect(Collectors.toList());
+        return getEventSnapshot(eventId).getTicketPrices();
     }
 
     /**
@@ -282,10 +596,7 @@ public class EventServiceImpl implements EventService {
      */
     @Override
     public VenueDto getVenueForEvent(String eventId) {
-        Events event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EventNotFoundException("Event not found with ID: " + eventId));
-        Venue venue = venueRepository.findByVenueForEvent(event);
-        return venue != null ? modelMapper.map(venue, VenueDto.class) : null; // Convert to DTO if found
+        return getEventSnapshot(eventId).getVenue();
     }
 
     /**
@@ -296,29 +607,100 @@ public class EventServiceImpl implements EventService {
      */
     @Override
     public List<SponsorDto> getSponsorsForEvent(String eventId) {
-        return sponsorRepository.findBySponsorForEvent_EventId(eventId).stream()
-                .map(sponsor -> modelMapper.map(sponsor, SponsorDto.class)) // Convert to DTO
-                .collect(Collectors.toList());
+        return getEventSnapshot(eventId).getSponsors();
     }
 
     /**
-     * Retrieves detailed information about a specific event.
+     * Retrieves an event with everything its page shows: venue, ticket prices,
+     * sponsors and seat counts, in one call.
+     * Static event data comes from the details cache. Seat counts change with
+     * every booking, so they are read fresh with one indexed lookup of the
+     * venue and the event's sales summary: total capacity, tickets sold
+     * (cancellations excluded) and remaining seats. On a cache miss the lookups
+     * run at once while the details pool has free threads, so the call takes
+     * about as long as the slowest one; otherwise they run one after another.
      *
      * @param eventId The ID of the event for which to retrieve details.
      * @return The EventDto containing details about the event.
+     * @throws EventNotFoundException if the event does not exist.
      */
     @Override
     public EventDto getEventDetails(String eventId) {
+        EventDetailsSnapshot snapshot = eventDetailsCache.getIfPresent(eventId);
+        Optional<SeatAvailability> seats;
+        if (snapshot != null) {
+            seats = venueRepository.findSeatAvailability(eventId);
+        } else {
+            CompletableFuture<Optional<SeatAvailability>> pendingSeats = CompletableFuture
+                    .supplyAsync(() -> venueRepository.findSeatAvailability(eventId), detailsExecutor);
+            snapshot = getEventSnapshot(eventId);
+            seats = join(pendingSeats);
+        }
+
+        EventDto eventDto = snapshot.getEvent(); // A copy, so the cached snapshot is left as it is
+        eventDto.setVenue(snapshot.getVenue());
+        eventDto.setTicketPrices(snapshot.getTicketPrices());
+        eventDto.setSponsors(snapshot.getSponsors());
+
+        seats.ifPresent(seat -> {
+            // Events never booked since sales summaries were introduced are totalled from their bookings
+            long ticketsSold = seat.getTicketsSold() != null ? seat.getTicketsSold()
+                    : eventSalesService.getSummary(eventId).getTicketsSold();
+            // Venues created before the original capacity was stored: every sold ticket came out of it
+            int totalCapacity = seat.getTotalCapacity() != null ? seat.getTotalCapacity()
+                    : seat.getRemainingSeats() + (int) ticketsSold;
+
+            eventDto.setTotalCapacity(totalCapacity);
+            eventDto.setBookedTickets((int) ticketsSold);
+            eventDto.setRemainingSeats(seat.getRemainingSeats());
+        });
+
+        return eventDto; // Return detailed event information
+    }
+
+    /**
+     * Returns the cached static data for an event, loading it on a miss.
+     *
+     * @param eventId The ID of the event.
+     * @return The cached snapshot of the event, its venue, ticket prices and sponsors.
+     * @throws EventNotFoundException if the event does not exist.
+     */
+    private EventDetailsSnapshot getEventSnapshot(String eventId) {
+        return eventDetailsCache.get(eventId, this::loadEventSnapshot);
+    }
+
+    /**
+     * Loads an event's venue, ticket prices and sponsors concurrently while the
+     * event itself is read on the calling thread. The lookups are independent
+     * and each uses its own connection only for as long as its query runs.
+     * Only their DTOs are cached, not the entities.
+     */
+    private EventDetailsSnapshot loadEventSnapshot(String eventId) {
+        CompletableFuture<Venue> venue = CompletableFuture
+                .supplyAsync(() -> venueRepository.findByVenueForEvent_EventId(eventId), detailsExecutor);
+        CompletableFuture<List<TicketPrice>> ticketPrices = CompletableFuture
+                .supplyAsync(() -> ticketPriceRepository.findByTicketForEvent_EventId(eventId), detailsExecutor);
+        CompletableFuture<List<Sponsors>> sponsors = CompletableFuture
+                .supplyAsync(() -> sponsorRepository.findBySponsorForEvent_EventId(eventId), detailsExecutor);
+
         Events event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new EventNotFoundException("Event not found with ID: " + eventId));
-        Venue venue = venueRepository.findByVenueForEvent(event);
+        Venue loadedVenue = join(venue);
+        VenueDto venueDto = loadedVenue != null ? eventMapper.toDto(loadedVenue) : null;
+        return EventDetailsSnapshot.of(eventMapper.toDto(event), venueDto,
+                join(ticketPrices).stream().map(ticketPrice -> eventMapper.toDto(ticketPrice)).toList(),
+                join(sponsors).stream().map(sponsor -> eventMapper.toDto(sponsor)).toList());
+    }
 
-        EventDto eventDto = modelMapper.map(event, EventDto.class); // Convert to DTO
-        if (venue != null) {
-            eventDto.setTotalCapacity(venue.getCapacity()); // Set total capacity from venue
-            eventDto.setBookedTickets(bookingsRepository.countByBookingForEvent(event)); // Count booked tickets
+    // Waits for a lookup, rethrowing its own exception rather than the CompletionException wrapping it
+    private static <T> T join(CompletableFuture<T> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
-
-        return eventDto; // Return detailed event information
     }
 }
@@ -0,0 +1,15 @@
+package com.crimsonlogic.eventmanagement.service;
+
+import java.nio.file.Path;
+
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ImageStorageService {
+
+	String store(MultipartFile imageFile);
+
+	Path resolve(String fileName);
+
+	Path resolveThumbnail(String fileName);
+
+}
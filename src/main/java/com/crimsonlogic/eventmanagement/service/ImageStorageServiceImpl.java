@@ -0,0 +1,168 @@
+package com.crimsonlogic.eventmanagement.service;
+
+import com.crimsonlogic.eventmanagement.exception.ImageStorageException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Stores uploaded images under the configured {@code image.storage.path}.
+ * <p>
+ * Files are named after the SHA-256 of their content, so the same image uploaded
+ * twice is stored once and two different images with the same original name no
+ * longer overwrite each other. The upload is streamed to a temporary file in the
+ * storage directory through a {@link FileChannel}, hashing as it goes, and then
+ * moved into place; it is never held in memory as a whole. Thumbnails for newly
+ * stored images are generated in the background.
+ */
+@Slf4j
+@Service
+public class ImageStorageServiceImpl implements ImageStorageService {
+
+    private static final Set<String> ALLOWED_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "webp");
+
+    // Upper bound on the bytes moved per transferFrom call
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+
+    private final Path storageRoot;
+
+    @Autowired
+    public ImageThumbnailService imageThumbnailService;
+
+    public ImageStorageServiceImpl(@Value("${image.storage.path}") String storagePath) {
+        this.storageRoot = Paths.get(storagePath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Saves the uploaded image file under a content-addressed name.
+     *
+     * @param imageFile The image file to be saved.
+     * @return The public URL of the saved image.
+     * @throws ImageStorageException if the file is empty, not a supported image type or could not be saved.
+     */
+    @Override
+    public String store(MultipartFile imageFile) {
+        if (imageFile == null || imageFile.isEmpty()) {
+            throw new ImageStorageException("Image file is empty");
+        }
+        String extension = extensionOf(imageFile.getOriginalFilename());
+
+        Path temp = null;
+        try {
+            Files.createDirectories(storageRoot);
+            // Keep the temporary file on the same file system so the final move is atomic
+            temp = Files.createTempFile(storageRoot, "upload-", ".tmp");
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(imageFile.getInputStream(), digest);
+                    ReadableByteChannel source = Channels.newChannel(in);
+                    FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                    position += transferred;
+                }
+            }
+
+            String fileName = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+            Path destination = storageRoot.resolve(fileName);
+            if (Files.exists(destination)) {
+                log.debug("Image {} is already stored, discarding duplicate upload", fileName);
+                return "/images/" + fileName;
+            }
+
+            try {
+                Files.move(temp, destination, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // A concurrent upload of the same content got there first
+                return "/images/" + fileName;
+            }
+            temp = null;
+
+            imageThumbnailService.generateThumbnail(destination);
+            return "/images/" + fileName; // Accessible from the React app
+        } catch (IOException e) {
+            throw new ImageStorageException("Failed to store image file: " + e.getMessage());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Resolves a stored image name to its file, refusing names that would
+     * escape the storage directory.
+     *
+     * @param fileName The name returned as the last segment of {@link #store}'s URL.
+     * @return The path of the stored image, which may not exist.
+     * @throws ImageStorageException if the name does not refer to a file in the storage directory.
+     */
+    @Override
+    public Path resolve(String fileName) {
+        return resolveIn(storageRoot, fileName);
+    }
+
+    /**
+     * Resolves a stored image name to its thumbnail, which may not have been
+     * generated yet.
+     *
+     * @param fileName The name of the stored image.
+     * @return The path of the image's thumbnail, which may not exist.
+     * @throws ImageStorageException if the name does not refer to a file in the storage directory.
+     */
+    @Override
+    public Path resolveThumbnail(String fileName) {
+        return resolveIn(storageRoot.resolve(ImageThumbnailServiceImpl.THUMBNAIL_DIRECTORY), fileName);
+    }
+
+    private static Path resolveIn(Path directory, String fileName) {
+        Path resolved = directory.resolve(fileName).normalize();
+        if (!directory.equals(resolved.getParent())) {
+            throw new ImageStorageException("Invalid image name: " + fileName);
+        }
+        return resolved;
+    }
+
+    private static String extensionOf(String originalFilename) {
+        int dot = originalFilename == null ? -1 : originalFilename.lastIndexOf('.');
+        String extension = dot < 0 ? "" : originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (!ALLOWED_EXTENSIONS.contains(extension)) {
+            throw new ImageStorageException("Unsupported image type: " + originalFilename);
+        }
+        return extension;
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary upload {}: {}", temp, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.crimsonlogic.eventmanagement.service;
+
+import java.nio.file.Path;
+
+public interface ImageThumbnailService {
+
+	void generateThumbnail(Path image);
+
+}
@@ -0,0 +1,127 @@
+package com.crimsonlogic.eventmanagement.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+/**
+ * Writes a scaled-down copy of each stored image to a {@code thumbs} directory
+ * next to it, off the request thread.
+ * <p>
+ * The work runs on a small pool owned by this service and bounded in both
+ * threads and queue length, so a burst of uploads cannot pile up unbounded
+ * decoding work. When the queue is full the thumbnail is skipped rather than
+ * made on the uploading request thread. Thumbnails are named like their image,
+ * so an existing one is never redone. Formats ImageIO cannot read, such as
+ * WebP, are left without a thumbnail.
+ */
+@Slf4j
+@Service
+public class ImageThumbnailServiceImpl implements ImageThumbnailService {
+
+    public static final String THUMBNAIL_DIRECTORY = "thumbs";
+
+    private final int thumbnailWidth;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public ImageThumbnailServiceImpl(@Value("${image.thumbnail.width:320}") int thumbnailWidth,
+            @Value("${image.thumbnail.pool-size:2}") int poolSize,
+            @Value("${image.thumbnail.queue-capacity:100}") int queueCapacity) {
+        this.thumbnailWidth = thumbnailWidth;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-thumbnail-");
+        executor.setRejectedExecutionHandler(
+                (task, pool) -> log.warn("Thumbnail queue is full, skipping thumbnail generation"));
+        executor.initialize();
+    }
+
+    /**
+     * Queues thumbnail generation for a stored image and returns immediately.
+     *
+     * @param image The stored image file.
+     */
+    @Override
+    public void generateThumbnail(Path image) {
+        executor.execute(() -> writeThumbnail(image));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Generates the thumbnail for a stored image if it does not exist yet.
+     * Failures are logged and leave the image without a thumbnail.
+     *
+     * @param image The stored image file.
+     */
+    public void writeThumbnail(Path image) {
+        Path thumbnail = image.resolveSibling(THUMBNAIL_DIRECTORY).resolve(image.getFileName());
+        if (Files.exists(thumbnail)) {
+            return;
+        }
+
+        String fileName = image.getFileName().toString();
+        String format = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        try {
+            BufferedImage source = ImageIO.read(image.toFile());
+            if (source == null) {
+                log.debug("No thumbnail for {}: format not readable", fileName);
+                return;
+            }
+
+            BufferedImage scaled = scale(source, format);
+            Files.createDirectories(thumbnail.getParent());
+            Path temp = Files.createTempFile(thumbnail.getParent(), "thumb-", ".tmp");
+            try {
+                if (!ImageIO.write(scaled, format, temp.toFile())) {
+                    log.debug("No thumbnail for {}: format not writable", fileName);
+                    return;
+                }
+                Files.move(temp, thumbnail, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to generate thumbnail for {}: {}", fileName, e.getMessage());
+        }
+    }
+
+    private BufferedImage scale(BufferedImage source, String format) {
+        int width = Math.min(thumbnailWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        // JPEG has no alpha channel, so draw onto an opaque image for it
+        boolean opaque = format.equals("jpg") || format.equals("jpeg");
+        BufferedImage scaled = new BufferedImage(width, height,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+}
@@ -0,0 +1,15 @@
+package com.crimsonlogic.eventmanagement.service;
+
+import java.util.List;
+
+public interface PasswordHashingService {
+
+	String hash(String rawPassword);
+
+	List<String> hashForImport(List<String> rawPasswords);
+
+	boolean matches(String rawPassword, String storedPassword);
+
+	boolean needsRehash(String storedPassword);
+
+}
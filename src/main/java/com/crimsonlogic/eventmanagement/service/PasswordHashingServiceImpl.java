@@ -0,0 +1,247 @@
+package com.crimsonlogic.eventmanagement.service;
+
+import com.crimsonlogic.eventmanagement.exception.PasswordHashingUnavailableException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * Hashes and verifies passwords with bcrypt on a dedicated pool.
+ * <p>
+ * Every hash is deliberately expensive, so the work runs on a pool bounded in
+ * threads and queue length rather than on the request threads. When the queue
+ * is full, or a hash waits longer than the timeout, the caller gets a
+ * {@link PasswordHashingUnavailableException} instead of piling up more work.
+ * <p>
+ * Unless a cost is configured, it is calibrated at startup to the highest
+ * value whose hash still takes no longer than the target time on this machine,
+ * and never below {@link #MIN_COST}. Rows still holding a legacy plaintext
+ * password, or a hash of a lower cost, are reported by {@link #needsRehash} so
+ * sign-in can upgrade them. Bulk imports hash at a separate, usually lower,
+ * import cost, which the same check raises on each user's first sign-in.
+ */
+@Slf4j
+@Service
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    public static final int MIN_COST = 10;
+
+    public static final int MAX_COST = 16;
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+    private final BCryptPasswordEncoder encoder;
+
+    private final BCryptPasswordEncoder importEncoder;
+
+    private final int cost;
+
+    private final int threads;
+
+    private final Duration timeout;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public PasswordHashingServiceImpl(@Value("${password.hashing.cost:0}") int cost,
+            @Value("${password.hashing.target:100ms}") Duration target,
+            @Value("${password.hashing.pool-size:0}") int poolSize,
+            @Value("${password.hashing.queue-capacity:200}") int queueCapacity,
+            @Value("${password.hashing.timeout:5s}") Duration timeout,
+            @Value("${password.hashing.import-cost:10}") int importCost) {
+        this.cost = cost > 0 ? cost : calibrate(target);
+        this.encoder = new BCryptPasswordEncoder(this.cost);
+        this.importEncoder = new BCryptPasswordEncoder(Math.min(importCost, this.cost));
+        this.timeout = timeout;
+
+        // Hashing is CPU bound, so by default one thread per core
+        this.threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.initialize();
+
+        log.info("Hashing passwords with bcrypt cost {} on {} threads", this.cost, threads);
+    }
+
+    /**
+     * Picks the bcrypt cost for this machine. Each step up doubles the work, so
+     * one timed hash at the minimum cost is enough to extrapolate from.
+     *
+     * @param target The time a single hash should take at most.
+     * @return The calibrated cost, between {@link #MIN_COST} and {@link #MAX_COST}.
+     */
+    public static int calibrate(Duration target) {
+        String salt = BCrypt.gensalt(MIN_COST);
+        BCrypt.hashpw("calibration", salt); // Warm up before timing
+
+        long start = System.nanoTime();
+        BCrypt.hashpw("calibration", salt);
+        long elapsed = System.nanoTime() - start;
+
+        int cost = MIN_COST;
+        while (cost < MAX_COST && elapsed * 2 <= target.toNanos()) {
+            cost++;
+            elapsed *= 2;
+        }
+        log.info("Calibrated bcrypt cost {} for a {} ms target", cost, target.toMillis());
+        return cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Hashes a password on the hashing pool.
+     *
+     * @param rawPassword The password as entered by the user.
+     * @return The bcrypt hash, including its salt and cost.
+     * @throws PasswordHashingUnavailableException if the pool is saturated.
+     */
+    @Override
+    public String hash(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * Hashes the passwords of imported users at the import cost, spread over the
+     * hashing pool. At most one hash per pool thread is queued at a time, so
+     * sign-ins wait behind a single hash rather than the whole import; when the
+     * queue is full the caller hashes instead. Values that are already bcrypt
+     * hashes, e.g. from a system that used bcrypt too, are kept as they are.
+     *
+     * @param rawPasswords The passwords, in row order.
+     * @return The hashes, in the same order.
+     */
+    @Override
+    public List<String> hashForImport(List<String> rawPasswords) {
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        for (int from = 0; from < rawPasswords.size(); from += threads) {
+            List<Future<String>> window = new ArrayList<>(threads);
+            for (String rawPassword : rawPasswords.subList(from, Math.min(rawPasswords.size(), from + threads))) {
+                window.add(submitOrRun(() -> isHash(rawPassword) ? rawPassword : importEncoder.encode(rawPassword)));
+            }
+            for (Future<String> hash : window) {
+                hashes.add(await(hash));
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Checks a password against the stored value, which may still be a legacy
+     * plaintext password.
+     *
+     * @param rawPassword The password as entered by the user.
+     * @param storedPassword The value from the password column.
+     * @return true if the password matches.
+     * @throws PasswordHashingUnavailableException if the pool is saturated.
+     */
+    @Override
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null || storedPassword == null) {
+            return false;
+        }
+        if (!isHash(storedPassword)) {
+            // Legacy plaintext row; compared in constant time until sign-in rehashes it
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return submit(() -> encoder.matches(rawPassword, storedPassword));
+    }
+
+    /**
+     * @param storedPassword The value from the password column.
+     * @return true for legacy plaintext passwords and hashes of a lower cost than the current one.
+     */
+    @Override
+    public boolean needsRehash(String storedPassword) {
+        return storedPassword != null && (!isHash(storedPassword) || encoder.upgradeEncoding(storedPassword));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static boolean isHash(String storedPassword) {
+        return BCRYPT_HASH.matcher(storedPassword).matches();
+    }
+
+    private Future<String> submitOrRun(Callable<String> task) {
+        try {
+            return executor.submit(task);
+        } catch (TaskRejectedException e) {
+            FutureTask<String> inline = new FutureTask<>(task);
+            inline.run();
+            return inline;
+        }
+    }
+
+    // Waits without the sign-in timeout: an import is expected to take a while
+    private static String await(Future<String> hash) {
+        try {
+            return hash.get();
+        } catch (InterruptedException e) {
+            hash.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Password hashing was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (TaskRejectedException e) {
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new PasswordHashingUnavailableException("Too many sign-in requests, please try again shortly");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Password hashing did not finish within {} ms", timeout.toMillis());
+            throw new PasswordHashingUnavailableException("Too many sign-in requests, please try again shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Password hashing was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.crimsonlogic.eventmanagement.service;
+
+public interface SeatInventoryService {
+
+	void reserveSeats(String eventId, int numberOfTickets);
+
+	void releaseSeats(String eventId, int numberOfTickets);
+
+}
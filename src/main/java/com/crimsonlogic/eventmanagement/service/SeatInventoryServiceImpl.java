@@ -0,0 +1,59 @@
+package com.crimsonlogic.eventmanagement.service;
+
+import com.crimsonlogic.eventmanagement.exception.InsufficientCapacityException;
+import com.crimsonlogic.eventmanagement.exception.ResourceNotFoundException;
+import com.crimsonlogic.eventmanagement.repository.VenueRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class SeatInventoryServiceImpl implements SeatInventoryService {
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    /**
+     * Atomically takes seats out of the venue capacity for an event.
+     * The decrement is a single conditional UPDATE, so concurrent callers
+     * can never push the capacity below zero.
+     *
+     * @param eventId         The ID of the event whose seats are being reserved.
+     * @param numberOfTickets The number of seats to reserve.
+     * @throws InsufficientCapacityException if fewer seats remain than requested.
+     */
+    @Override
+    public void reserveSeats(String eventId, int numberOfTickets) {
+        if (numberOfTickets <= 0) {
+            throw new IllegalArgumentException("Number of tickets must be greater than zero.");
+        }
+
+        int updated = venueRepository.reserveSeats(eventId, numberOfTickets);
+        if (updated == 0) {
+            log.warn("Seat reservation of {} rejected for event: {}", numberOfTickets, eventId);
+            throw new InsufficientCapacityException("Not enough capacity available for the venue.");
+        }
+    }
+
+    /**
+     * Returns previously reserved seats to the venue capacity for an event.
+     *
+     * @param eventId         The ID of the event whose seats are being released.
+     * @param numberOfTickets The number of seats to release.
+     * @throws ResourceNotFoundException if the event has no venue.
+     */
+    @Override
+    public void releaseSeats(String eventId, int numberOfTickets) {
+        if (numberOfTickets <= 0) {
+            throw new IllegalArgumentException("Number of tickets must be greater than zero.");
+        }
+
+        int updated = venueRepository.releaseSeats(eventId, numberOfTickets);
+        if (updated == 0) {
+            throw new ResourceNotFoundException("Venue not found for event: " + eventId);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.crimsonlogic.eventmanagement.service;
 
-import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import com.crimsonlogic.eventmanagement.payload.UserDetailsDto;
 
@@ -14,7 +15,7 @@ public interface UserDetailsService {
 
 	void addAmountToWallet(String userDetailsId, double amount);
 
-	List<UserDetailsDto> getOrganizers();
+	Page<UserDetailsDto> getOrganizers(Boolean approved, Pageable pageable);
 
 	void approveOrganizer(String userDetailsId);
 
@@ -1,15 +1,15 @@
 package com.crimsonlogic.eventmanagement.service;
 
+import com.crimsonlogic.eventmanagement.cache.PrincipalCache;
 import com.crimsonlogic.eventmanagement.payload.UserDetailsDto;
-import com.crimsonlogic.eventmanagement.entity.Role;
 import com.crimsonlogic.eventmanagement.entity.UserAuthentication;
 import com.crimsonlogic.eventmanagement.entity.UserDetails;
 import com.crimsonlogic.eventmanagement.entity.Wallet;
+import com.crimsonlogic.eventmanagement.entity.WalletLedgerEntry;
 import com.crimsonlogic.eventmanagement.exception.CurrentPasswordIncorrectException;
 import com.crimsonlogic.eventmanagement.exception.InvalidAmountException;
 import com.crimsonlogic.eventmanagement.exception.UserNotFoundException;
 import com.crimsonlogic.eventmanagement.exception.WalletNotFoundException;
-import com.crimsonlogic.eventmanagement.repository.RoleRepository;
 import com.crimsonlogic.eventmanagement.repository.UserAuthenticationRepository;
 import com.crimsonlogic.eventmanagement.repository.UserDetailsRepository;
 import com.crimsonlogic.eventmanagement.repository.WalletRepository;
@@ -18,17 +18,20 @@ import com.crimsonlogic.eventmanagement.service.UserDetailsService;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
 
 @Service
 @Slf4j
 public class UserDetailsServiceImpl implements UserDetailsService {
 
+    private static final String ORGANIZER_ROLE = "organizer";
+
     @Autowired
     public UserDetailsRepository userDetailsRepository;
 
@@ -36,10 +39,16 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     public WalletRepository walletRepository;
 
     @Autowired
-    public RoleRepository roleRepository;
+    public UserAuthenticationRepository userAuthenticationRepository;
 
     @Autowired
-    public UserAuthenticationRepository userAuthenticationRepository;
+    public WalletService walletService;
+
+    @Autowired
+    public PrincipalCache principalCache;
+
+    @Autowired
+    public PasswordHashingService passwordHashingService;
 
     /**
      * Retrieves user details by userDetailsId.
@@ -54,7 +63,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .orElseThrow(() -> new UserNotFoundException("User not found: " + userDetailsId));
 
         Wallet wallet = walletRepository.findByWalletForUser(userDetails);
-        double walletAmount = (wallet != null) ? wallet.getAmount() : 0.0;
+        double walletAmount = (wallet != null && wallet.getAmount() != null) ? wallet.getAmount().doubleValue() : 0.0;
 
         return new UserDetailsDto(userDetails.getUserDetailsId(), userDetails.getFullName(),
                 userDetails.getContactNumber(), userDetails.getAlternateNumber(),
@@ -89,6 +98,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         userDetails.setCreatedAt(Timestamp.valueOf(LocalDate.now().atStartOfDay()));
 
         userDetailsRepository.save(userDetails);
+        evictPrincipal(userDetails);
         return userDetailsDto;
     }
 
@@ -111,19 +121,22 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         UserAuthentication userAuth = userDetails.getDetailsOfUser();
 
         // Verify current password
-        if (!userAuth.getPassword().equals(currentPassword)) {
+        if (!passwordHashingService.matches(currentPassword, userAuth.getPassword())) {
             throw new CurrentPasswordIncorrectException("Current password is incorrect");
         }
 
         // Set the new password and save
-        userAuth.setPassword(newPassword);
+        userAuth.setPassword(passwordHashingService.hash(newPassword));
         userAuthenticationRepository.save(userAuth);
+        principalCache.evict(userAuth.getEmail());
 
         log.info("Password changed successfully for userDetailsId: {}", userDetailsId);
     }
 
     /**
      * Adds a specified amount to the user's wallet.
+     * The balance is changed by an atomic UPDATE and recorded in the wallet ledger,
+     * so concurrent top-ups and bookings cannot overwrite each other.
      *
      * @param userDetailsId The ID of the user whose wallet amount is to be updated.
      * @param amount The amount to be added to the wallet.
@@ -133,12 +146,8 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      */
     @Override
     public void addAmountToWallet(String userDetailsId, double amount) {
-        UserDetails userDetails = userDetailsRepository.findById(userDetailsId)
-                .orElseThrow(() -> new UserNotFoundException("User not found: " + userDetailsId));
-
-        Wallet wallet = walletRepository.findByWalletForUser(userDetails);
-        if (wallet == null) {
-            throw new WalletNotFoundException("Wallet not found for user: " + userDetailsId);
+        if (!userDetailsRepository.existsById(userDetailsId)) {
+            throw new UserNotFoundException("User not found: " + userDetailsId);
         }
 
         // Validate the amount
@@ -146,37 +155,24 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             throw new InvalidAmountException("Amount must be greater than zero");
         }
 
-        // Update wallet amount and save
-        wallet.setAmount(wallet.getAmount() + amount);
-        walletRepository.save(wallet);
+        // Credit the wallet and record the top-up
+        walletService.credit(userDetailsId, BigDecimal.valueOf(amount), WalletLedgerEntry.TOP_UP, null);
     }
 
     /**
-     * Retrieves a list of organizers.
+     * Retrieves organizers with a single joined query instead of a role lookup per user.
      *
-     * @return List of UserDetailsDto for all organizers.
+     * @param approved Only approved organizers when true, only those awaiting approval
+     *                 when false, or all organizers when null.
+     * @param pageable The page to return, or {@link Pageable#unpaged()} for all organizers.
+     * @return A page of UserDetailsDto for the matching organizers.
      */
     @Override
-    public List<UserDetailsDto> getOrganizers() {
-        List<UserDetails> allUserDetails = userDetailsRepository.findAll();
-        List<UserDetailsDto> organizers = new ArrayList<>();
-
-        // Iterate through user details to find organizers
-        for (UserDetails userDetails : allUserDetails) {
-            UserAuthentication userAuth = userDetails.getDetailsOfUser();
-            if (userAuth != null) {
-                Role role = roleRepository.findByRoleForUser(userAuth);
-                if (role != null && "organizer".equals(role.getRoleName())) {
-                    UserDetailsDto dto = new UserDetailsDto(userDetails.getUserDetailsId(), userDetails.getFullName(),
-                            userDetails.getContactNumber(), userDetails.getAlternateNumber(),
-                            userDetails.getDateOfBirth() != null ? userDetails.getDateOfBirth().toString() : null,
-                            userDetails.getIsApproved(), userAuth.getEmail(), 0.0);
-                    organizers.add(dto);
-                }
-            }
+    public Page<UserDetailsDto> getOrganizers(Boolean approved, Pageable pageable) {
+        if (approved == null) {
+            return userDetailsRepository.findByRoleName(ORGANIZER_ROLE, pageable);
         }
-
-        return organizers;
+        return userDetailsRepository.findByRoleNameAndApproval(ORGANIZER_ROLE, approved, pageable);
     }
 
     /**
@@ -194,6 +190,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         userDetails.setIsApproved(true);
         log.info("Approving user: {}", userDetails);
         userDetailsRepository.save(userDetails);
+        evictPrincipal(userDetails);
     }
 
     /**
@@ -211,6 +208,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         userDetails.setIsApproved(false);
         log.info("Rejecting user: {}", userDetails);
         userDetailsRepository.save(userDetails);
+        evictPrincipal(userDetails);
     }
 
     /**
@@ -228,5 +226,13 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         userDetails.setIsApproved(false);
         log.info("Blocking user: {}", userDetails);
         userDetailsRepository.save(userDetails);
+        evictPrincipal(userDetails);
+    }
+
+    // Sign-in reads the approval flag from the principal cache, so drop the stale entry
+    private void evictPrincipal(UserDetails userDetails) {
+        if (userDetails.getDetailsOfUser() != null) {
+            principalCache.evict(userDetails.getDetailsOfUser().getEmail());
+        }
     }
 }
@@ -0,0 +1,16 @@
+package com.crimsonlogic.eventmanagement.service;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public interface WalletService {
+
+	BigDecimal getBalance(String userDetailsId);
+
+	void credit(String userDetailsId, BigDecimal amount, String entryType, String reference);
+
+	void debit(String userDetailsId, BigDecimal amount, String entryType, String reference);
+
+	void debit(String userDetailsId, Map<String, BigDecimal> amountsByReference, String entryType);
+
+}
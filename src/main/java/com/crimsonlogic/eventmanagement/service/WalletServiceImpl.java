@@ -0,0 +1,152 @@
+package com.crimsonlogic.eventmanagement.service;
+
+import com.crimsonlogic.eventmanagement.entity.WalletLedgerEntry;
+import com.crimsonlogic.eventmanagement.exception.InsufficientWalletBalanceException;
+import com.crimsonlogic.eventmanagement.exception.InvalidAmountException;
+import com.crimsonlogic.eventmanagement.exception.WalletNotFoundException;
+import com.crimsonlogic.eventmanagement.repository.WalletLedgerRepository;
+import com.crimsonlogic.eventmanagement.repository.WalletRepository;
+import com.crimsonlogic.eventmanagement.util.IDGenerator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class WalletServiceImpl implements WalletService {
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private WalletLedgerRepository walletLedgerRepository;
+
+    /**
+     * Returns the cached balance of a user's wallet.
+     *
+     * @param userDetailsId The ID of the wallet owner.
+     * @return The current balance.
+     * @throws WalletNotFoundException if the user has no wallet.
+     */
+    @Override
+    public BigDecimal getBalance(String userDetailsId) {
+        return walletRepository.findBalanceByUserDetailsId(userDetailsId)
+                .orElseThrow(() -> new WalletNotFoundException("Wallet not found for user: " + userDetailsId));
+    }
+
+    /**
+     * Adds money to a user's wallet and records the ledger entry in the same transaction.
+     *
+     * @param userDetailsId The ID of the wallet owner.
+     * @param amount        The positive amount to add.
+     * @param entryType     The ledger entry type, e.g. {@link WalletLedgerEntry#TOP_UP}.
+     * @param reference     The related booking ID, or null.
+     * @throws WalletNotFoundException if the user has no wallet.
+     */
+    @Override
+    @Transactional
+    public void credit(String userDetailsId, BigDecimal amount, String entryType, String reference) {
+        BigDecimal value = normalize(amount);
+        String walletId = getWalletId(userDetailsId);
+
+        walletRepository.credit(walletId, value);
+        appendEntry(walletId, value, entryType, reference);
+    }
+
+    /**
+     * Takes money out of a user's wallet and records the ledger entry in the same transaction.
+     * The balance check and the decrement are one conditional UPDATE, so concurrent
+     * debits can never take the balance below zero.
+     *
+     * @param userDetailsId The ID of the wallet owner.
+     * @param amount        The positive amount to take.
+     * @param entryType     The ledger entry type, e.g. {@link WalletLedgerEntry#BOOKING}.
+     * @param reference     The related booking ID, or null.
+     * @throws WalletNotFoundException if the user has no wallet.
+     * @throws InsufficientWalletBalanceException if the balance does not cover the amount.
+     */
+    @Override
+    @Transactional
+    public void debit(String userDetailsId, BigDecimal amount, String entryType, String reference) {
+        BigDecimal value = normalize(amount);
+        String walletId = getWalletId(userDetailsId);
+
+        int updated = walletRepository.debit(walletId, value);
+        if (updated == 0) {
+            log.warn("Debit of {} rejected for wallet: {}", value, walletId);
+            throw new InsufficientWalletBalanceException("Insufficient wallet balance for user: " + userDetailsId);
+        }
+        appendEntry(walletId, value.negate(), entryType, reference);
+    }
+
+    /**
+     * Takes the sum of several amounts out of a user's wallet with a single conditional
+     * UPDATE, recording one ledger entry per reference so each booking stays traceable.
+     *
+     * @param userDetailsId      The ID of the wallet owner.
+     * @param amountsByReference The positive amount to take for each booking ID.
+     * @param entryType          The ledger entry type, e.g. {@link WalletLedgerEntry#BOOKING}.
+     * @throws WalletNotFoundException if the user has no wallet.
+     * @throws InsufficientWalletBalanceException if the balance does not cover the total.
+     */
+    @Override
+    @Transactional
+    public void debit(String userDetailsId, Map<String, BigDecimal> amountsByReference, String entryType) {
+        Map<String, BigDecimal> amounts = new LinkedHashMap<>();
+        amountsByReference.forEach((reference, amount) -> amounts.put(reference, normalize(amount)));
+        BigDecimal total = amounts.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (total.signum() <= 0) {
+            throw new InvalidAmountException("Amount must be greater than zero");
+        }
+        String walletId = getWalletId(userDetailsId);
+
+        int updated = walletRepository.debit(walletId, total);
+        if (updated == 0) {
+            log.warn("Debit of {} rejected for wallet: {}", total, walletId);
+            throw new InsufficientWalletBalanceException("Insufficient wallet balance for user: " + userDetailsId);
+        }
+
+        List<WalletLedgerEntry> entries = new ArrayList<>(amounts.size());
+        amounts.forEach((reference, amount) -> entries.add(newEntry(walletId, amount.negate(), entryType, reference)));
+        walletLedgerRepository.saveAll(entries);
+    }
+
+    private String getWalletId(String userDetailsId) {
+        return walletRepository.findWalletIdByUserDetailsId(userDetailsId)
+                .orElseThrow(() -> new WalletNotFoundException("Wallet not found for user: " + userDetailsId));
+    }
+
+    // Money is kept to two decimal places; amounts arrive as doubles from the API and payments
+    private BigDecimal normalize(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new InvalidAmountException("Amount must be greater than zero");
+        }
+        return amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private void appendEntry(String walletId, BigDecimal amount, String entryType, String reference) {
+        walletLedgerRepository.save(newEntry(walletId, amount, entryType, reference));
+    }
+
+    private WalletLedgerEntry newEntry(String walletId, BigDecimal amount, String entryType, String reference) {
+        WalletLedgerEntry entry = new WalletLedgerEntry();
+        entry.setLedgerEntryId(IDGenerator.generateWalletLedgerEntryID());
+        entry.setAmount(amount);
+        entry.setEntryType(entryType);
+        entry.setReference(reference);
+        entry.setCreatedAt(new Timestamp(System.currentTimeMillis()));
+        entry.setLedgerForWallet(walletRepository.getReferenceById(walletId));
+        return entry;
+    }
+}
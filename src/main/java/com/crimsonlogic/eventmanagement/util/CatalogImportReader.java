@@ -0,0 +1,55 @@
+package com.crimsonlogic.eventmanagement.util;
+
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.crimsonlogic.eventmanagement.payload.EventCatalogRowDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Turns an uploaded catalog file into a lazy sequence of rows, so an import
+ * never holds more of the file than the row being processed.
+ * <p>
+ * CSV files need a header naming the columns {@code eventId}, {@code type},
+ * {@code name}, {@code price} and {@code contactNumber}, in any order.
+ * NDJSON files hold one {@link EventCatalogRowDto} object per line.
+ */
+public final class CatalogImportReader {
+
+	private CatalogImportReader() {
+	}
+
+	public static Iterator<EventCatalogRowDto> fromCsv(Reader reader) {
+		Iterator<Map<String, String>> records = new CsvRecordIterator(reader);
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return records.hasNext();
+			}
+
+			@Override
+			public EventCatalogRowDto next() {
+				Map<String, String> record = records.next();
+				return new EventCatalogRowDto(record.get("eventId"), record.get("type"), record.get("name"),
+						parsePrice(record.get("price")), record.get("contactNumber"));
+			}
+		};
+	}
+
+	public static Iterator<EventCatalogRowDto> fromNdjson(ObjectMapper objectMapper, Reader reader) {
+		return new NdjsonRecordIterator<>(objectMapper, reader, EventCatalogRowDto.class);
+	}
+
+	// An unparseable price is left null so the row is reported rather than failing the import
+	private static Double parsePrice(String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Double.valueOf(value);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.crimsonlogic.eventmanagement.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.crimsonlogic.eventmanagement.exception.InvalidInputException;
+
+/**
+ * Reads a CSV file one record at a time, keyed by the names in its header row.
+ * Only the current line is held in memory, so files of any size can be imported.
+ * Fields may be double-quoted to contain commas, with {@code ""} for a literal
+ * quote; quoted fields cannot span lines. Blank lines are skipped and empty
+ * fields are returned as null. A malformed line surfaces as
+ * {@link InvalidInputException} from {@link #next()}, and the following lines
+ * can still be read.
+ */
+public class CsvRecordIterator implements Iterator<Map<String, String>> {
+
+	private final BufferedReader reader;
+
+	private final List<String> header;
+
+	private String nextLine;
+
+	public CsvRecordIterator(Reader reader) {
+		this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+		String headerLine = readNonBlankLine();
+		if (headerLine == null) {
+			throw new InvalidInputException("CSV header row is missing.");
+		}
+		this.header = split(headerLine);
+		this.nextLine = readNonBlankLine();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return nextLine != null;
+	}
+
+	@Override
+	public Map<String, String> next() {
+		if (nextLine == null) {
+			throw new NoSuchElementException();
+		}
+		String line = nextLine;
+		nextLine = readNonBlankLine(); // Advance first, so a malformed line does not stop the rest of the file
+		List<String> fields = split(line);
+
+		Map<String, String> record = new HashMap<>();
+		for (int i = 0; i < header.size() && i < fields.size(); i++) {
+			record.put(header.get(i), fields.get(i));
+		}
+		return record;
+	}
+
+	private String readNonBlankLine() {
+		try {
+			String line;
+			while ((line = reader.readLine()) != null && line.isBlank()) {
+				// Skip blank lines
+			}
+			return line;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static List<String> split(String line) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					field.append('"'); // Escaped quote
+					i++;
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					field.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(toValue(field));
+				field.setLength(0);
+			} else {
+				field.append(c);
+			}
+		}
+		if (quoted) {
+			throw new InvalidInputException("Unterminated quoted field in CSV line: " + line);
+		}
+		fields.add(toValue(field));
+		return fields;
+	}
+
+	private static String toValue(StringBuilder field) {
+		String value = field.toString().trim();
+		return value.isEmpty() ? null : value;
+	}
+}
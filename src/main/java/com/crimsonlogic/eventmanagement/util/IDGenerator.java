@@ -2,55 +2,80 @@ package com.crimsonlogic.eventmanagement.util;
 
 import java.util.UUID;
 
+/**
+ * Prefixed primary keys for all entities.
+ * <p>
+ * IDs use the old six character random suffix ({@link #LEGACY}) until
+ * {@link IdStrategySelector} picks the configured strategy at startup. With
+ * {@link SnowflakeIdStrategy} they look like {@code BKI-01J9Z3K4M2N5P}, at
+ * most 17 characters. Tests can swap the strategy with
+ * {@link #setStrategy(IdStrategy)}.
+ */
 public class IDGenerator {
 
+	/**
+	 * The previous scheme: six random hex characters, about 16 million values
+	 * per prefix, so collisions start after a few thousand rows.
+	 */
+	public static final IdStrategy LEGACY = prefix -> generateCustomID(prefix, 6);
+
+	private static volatile IdStrategy strategy = LEGACY;
+
+	public static void setStrategy(IdStrategy idStrategy) {
+		strategy = idStrategy;
+	}
+
 	public static String generateCustomID(String prefix, int length) {
 		String randomString = UUID.randomUUID().toString().replaceAll("-", "").substring(0, length);
 		return prefix + randomString.toUpperCase();
 	}
 
 	public static String generateCategoryID() {
-		return generateCustomID("CAT-", 6);
+		return strategy.nextId("CAT-");
 	}
 
 	public static String generateEventID() {
-		return generateCustomID("EVE-", 6);
+		return strategy.nextId("EVE-");
 	}
 	
 	public static String generateUserID() {
-		return generateCustomID("URI-", 6);
+		return strategy.nextId("URI-");
 	}
 	
 	public static String generateUserDetailID() {
-		return generateCustomID("UDI-", 6);
+		return strategy.nextId("UDI-");
 	}
 	
 	public static String generateRoleID() {
-		return generateCustomID("RLI-", 6);
+		return strategy.nextId("RLI-");
 	}
 	
 	public static String generateWalletID() {
-		return generateCustomID("WLI-", 6);
+		return strategy.nextId("WLI-");
 	}
 	
 	public static String generateSponsorID() {
-		return generateCustomID("SPI-", 6);
+		return strategy.nextId("SPI-");
 	}
 	
 	public static String generateTicketPriceID() {
-		return generateCustomID("TPI-", 6);
+		return strategy.nextId("TPI-");
 	}
 	
 	public static String generateVenueID() {
-		return generateCustomID("VEI-", 6);
+		return strategy.nextId("VEI-");
 	}
 	
 	public static String generateBookingID() {
-		return generateCustomID("BKI-", 6);
+		return strategy.nextId("BKI-");
 	}
 	
 	public static String generateBookingPaymentID() {
-		return generateCustomID("BPI-", 6);
+		return strategy.nextId("BPI-");
+	}
+	
+	public static String generateWalletLedgerEntryID() {
+		return strategy.nextId("WLE-");
 	}
 	
 }
@@ -0,0 +1,16 @@
+package com.crimsonlogic.eventmanagement.util;
+
+/**
+ * Produces primary keys for the entities that use prefixed string IDs.
+ * Implementations must be thread safe.
+ */
+@FunctionalInterface
+public interface IdStrategy {
+
+	/**
+	 * @param prefix The entity prefix, e.g. {@code "BKI-"}.
+	 * @return A new unique ID starting with the prefix.
+	 */
+	String nextId(String prefix);
+
+}
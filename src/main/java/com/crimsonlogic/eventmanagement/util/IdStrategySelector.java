@@ -0,0 +1,41 @@
+package com.crimsonlogic.eventmanagement.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sets the {@link IDGenerator} strategy from {@code id.strategy} at startup.
+ * <p>
+ * Snowflake IDs are 17 characters and need the {@code varchar(20)} key
+ * columns. On an existing database only the Flyway migrations widen them;
+ * {@code ddl-auto=update} leaves them at {@code varchar(10)}. So profiles
+ * without Flyway keep {@code legacy} and the prod profile uses
+ * {@code snowflake}, which also needs {@code id.node} set per instance.
+ */
+@Slf4j
+@Component
+public class IdStrategySelector {
+
+	public static final String LEGACY = "legacy";
+
+	public static final String SNOWFLAKE = "snowflake";
+
+	public IdStrategySelector(@Value("${id.strategy:legacy}") String strategy, @Value("${id.node:}") String nodeId) {
+		IDGenerator.setStrategy(resolve(strategy, nodeId));
+		log.info("Generating {} IDs", strategy);
+	}
+
+	public static IdStrategy resolve(String strategy, String nodeId) {
+		switch (strategy) {
+		case LEGACY:
+			return IDGenerator.LEGACY;
+		case SNOWFLAKE:
+			return new SnowflakeIdStrategy(SnowflakeIdStrategy.parseNodeId(nodeId));
+		default:
+			throw new IllegalArgumentException(
+					"Unknown id.strategy '" + strategy + "', expected " + LEGACY + " or " + SNOWFLAKE);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.crimsonlogic.eventmanagement.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.crimsonlogic.eventmanagement.exception.InvalidInputException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Reads newline-delimited JSON one line at a time, so files of any size can
+ * be imported. Blank lines are skipped. A line that does not parse surfaces
+ * as {@link InvalidInputException} from {@link #next()}, and the following
+ * lines can still be read.
+ */
+public class NdjsonRecordIterator<T> implements Iterator<T> {
+
+	private final ObjectReader objectReader;
+
+	private final BufferedReader reader;
+
+	private String nextLine;
+
+	public NdjsonRecordIterator(ObjectMapper objectMapper, Reader reader, Class<T> type) {
+		this.objectReader = objectMapper.readerFor(type);
+		this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+		this.nextLine = readNonBlankLine();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return nextLine != null;
+	}
+
+	@Override
+	public T next() {
+		if (nextLine == null) {
+			throw new NoSuchElementException();
+		}
+		String line = nextLine;
+		nextLine = readNonBlankLine(); // Advance first, so a malformed line does not stop the rest of the file
+		try {
+			return objectReader.readValue(line);
+		} catch (JsonProcessingException e) {
+			throw new InvalidInputException("Malformed NDJSON row: " + e.getOriginalMessage());
+		}
+	}
+
+	private String readNonBlankLine() {
+		try {
+			String line;
+			while ((line = reader.readLine()) != null && line.isBlank()) {
+				// Skip blank lines
+			}
+			return line;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.crimsonlogic.eventmanagement.util;
+
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.crimsonlogic.eventmanagement.payload.UserImportRowDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Turns an uploaded user export into a lazy sequence of rows, so an import
+ * never holds more of the file than the row being processed.
+ * <p>
+ * CSV files need a header naming the columns {@code email}, {@code password},
+ * {@code firstName}, {@code lastName}, {@code contactNumber},
+ * {@code alternateNumber} and {@code dateOfBirth}, in any order. NDJSON files
+ * hold one {@link UserImportRowDto} object per line.
+ */
+public final class UserImportReader {
+
+	private UserImportReader() {
+	}
+
+	public static Iterator<UserImportRowDto> fromCsv(Reader reader) {
+		Iterator<Map<String, String>> records = new CsvRecordIterator(reader);
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return records.hasNext();
+			}
+
+			@Override
+			public UserImportRowDto next() {
+				Map<String, String> record = records.next();
+				return new UserImportRowDto(record.get("email"), record.get("password"), record.get("firstName"),
+						record.get("lastName"), record.get("contactNumber"), record.get("alternateNumber"),
+						record.get("dateOfBirth"));
+			}
+		};
+	}
+
+	public static Iterator<UserImportRowDto> fromNdjson(ObjectMapper objectMapper, Reader reader) {
+		return new NdjsonRecordIterator<>(objectMapper, reader, UserImportRowDto.class);
+	}
+}
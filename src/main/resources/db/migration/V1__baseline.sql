@@ -0,0 +1,126 @@
+-- The schema ddl-auto=update created before Flyway, constraint names included,
+-- so a new database starts from the same point as an existing one. Existing
+-- databases are baselined at this version instead
+-- (spring.flyway.baseline-on-migrate) and never run it. Every later change
+-- goes in V2 onwards.
+
+create table user_authentication (
+    user_id varchar(10) not null,
+    email varchar(100),
+    password varchar(30),
+    primary key (user_id)
+);
+
+create table user_details (
+    user_details_id varchar(10) not null,
+    full_name varchar(100),
+    contact_number varchar(10),
+    alternate_number varchar(10),
+    date_of_birth date,
+    is_approved boolean,
+    created_at timestamp(6),
+    details_of_user varchar(10) unique,
+    primary key (user_details_id)
+);
+
+create table roles (
+    role_id varchar(10) not null,
+    role_name varchar(50),
+    role_for_user varchar(10) unique,
+    primary key (role_id)
+);
+
+create table wallet (
+    wallet_id varchar(10) not null,
+    amount float(53),
+    wallet_for_user varchar(10) unique,
+    primary key (wallet_id)
+);
+
+create table event_categories (
+    category_id varchar(10) not null,
+    category_name varchar(50),
+    image_path varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    is_enabled boolean,
+    primary key (category_id)
+);
+
+create table events (
+    event_id varchar(10) not null,
+    event_name varchar(50),
+    description varchar(200),
+    date date,
+    time time(6),
+    image_path varchar(255),
+    created_at timestamp(6),
+    created_by varchar(10),
+    event_category varchar(10),
+    primary key (event_id)
+);
+
+create table venue (
+    venue_id varchar(10) not null,
+    venue_location varchar(100),
+    maps_link varchar(255),
+    capacity integer,
+    venue_for_event varchar(10) unique,
+    primary key (venue_id)
+);
+
+create table ticket_price (
+    ticket_price_id varchar(10) not null,
+    price_category varchar(50),
+    price float(53),
+    ticket_for_event varchar(10),
+    primary key (ticket_price_id)
+);
+
+create table sponsors (
+    sponsor_id varchar(10) not null,
+    sponsor_name varchar(50),
+    contact_number varchar(10),
+    sponsor_for_event varchar(10),
+    primary key (sponsor_id)
+);
+
+create table bookings (
+    booking_id varchar(10) not null,
+    booking_date timestamp(6),
+    booking_status varchar(20),
+    no_of_tickets integer,
+    booking_for_event varchar(10),
+    booking_made_by varchar(10),
+    primary key (booking_id)
+);
+
+create table booking_payments (
+    booking_payment_id varchar(10) not null,
+    payment_amount float(53),
+    payment_status varchar(20),
+    payment_for_booking varchar(10) unique,
+    primary key (booking_payment_id)
+);
+
+create table organizer_payments (
+    organizer_payment_id varchar(10) not null,
+    total_amount float(53),
+    commission_amount float(53),
+    payment_date timestamp(6),
+    payment_made_by varchar(10),
+    primary key (organizer_payment_id)
+);
+
+alter table user_details add constraint FKlu1am8isjkf3teiu6f84635y9 foreign key (details_of_user) references user_authentication;
+alter table roles add constraint FKcqgsktwjgfrschid2u372eaaq foreign key (role_for_user) references user_authentication;
+alter table wallet add constraint FKrndjulyyhk2mdy2hmlt8bm4jg foreign key (wallet_for_user) references user_details;
+alter table events add constraint FKkyn0o4stamrb7q3m9w46uk77d foreign key (created_by) references user_details;
+alter table events add constraint FKcq668ua8myxvnthfls8wp7ehv foreign key (event_category) references event_categories;
+alter table venue add constraint FKqvytl0llsjt5w8sirt8kkifxv foreign key (venue_for_event) references events;
+alter table ticket_price add constraint FK6yo395cit88e9sqqm80ob5ely foreign key (ticket_for_event) references events;
+alter table sponsors add constraint FKcfrrfemeogucwhxbthghm28nx foreign key (sponsor_for_event) references events;
+alter table bookings add constraint FKqynshslka32a28dlnbrw34t9j foreign key (booking_for_event) references events;
+alter table bookings add constraint FKm9qqs2oq7oeffblmrffql0ule foreign key (booking_made_by) references user_details;
+alter table booking_payments add constraint FKmge0b016edbghwvjvv72n6g2a foreign key (payment_for_booking) references bookings;
+alter table organizer_payments add constraint FK17m1qp1785j27j9t2w52iimg8 foreign key (payment_made_by) references user_details;
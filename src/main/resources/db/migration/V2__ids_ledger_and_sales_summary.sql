@@ -0,0 +1,80 @@
+-- Everything added on top of the V1 baseline, run both by new databases and by
+-- databases created by ddl-auto=update, which are baselined at V1.
+
+-- Ids grew from 10 to 20 characters for Snowflake ids, wallet balances became
+-- exact decimals and passwords are stored as bcrypt hashes
+alter table user_authentication alter column user_id type varchar(20);
+alter table user_authentication alter column password type varchar(100);
+alter table user_details alter column user_details_id type varchar(20);
+alter table user_details alter column details_of_user type varchar(20);
+alter table roles alter column role_id type varchar(20);
+alter table roles alter column role_for_user type varchar(20);
+alter table wallet alter column wallet_id type varchar(20);
+alter table wallet alter column wallet_for_user type varchar(20);
+alter table wallet alter column amount type numeric(19,2);
+alter table event_categories alter column category_id type varchar(20);
+alter table events alter column event_id type varchar(20);
+alter table events alter column created_by type varchar(20);
+alter table events alter column event_category type varchar(20);
+alter table venue alter column venue_id type varchar(20);
+alter table venue alter column venue_for_event type varchar(20);
+alter table ticket_price alter column ticket_price_id type varchar(20);
+alter table ticket_price alter column ticket_for_event type varchar(20);
+alter table sponsors alter column sponsor_id type varchar(20);
+alter table sponsors alter column sponsor_for_event type varchar(20);
+alter table bookings alter column booking_id type varchar(20);
+alter table bookings alter column booking_for_event type varchar(20);
+alter table bookings alter column booking_made_by type varchar(20);
+alter table booking_payments alter column booking_payment_id type varchar(20);
+alter table booking_payments alter column payment_for_booking type varchar(20);
+alter table organizer_payments alter column organizer_payment_id type varchar(20);
+alter table organizer_payments alter column payment_made_by type varchar(20);
+
+-- Fails if duplicate emails were registered before sign-up checked for them;
+-- those accounts have to be merged by hand first
+alter table user_authentication add constraint uk_user_authentication_email unique (email);
+
+create table wallet_ledger (
+    ledger_entry_id varchar(20) not null,
+    amount numeric(19,2) not null,
+    entry_type varchar(20) not null,
+    reference varchar(20),
+    created_at timestamp(6),
+    ledger_for_wallet varchar(20) not null,
+    primary key (ledger_entry_id)
+);
+
+alter table wallet_ledger add constraint fk_wallet_ledger_wallet foreign key (ledger_for_wallet) references wallet;
+
+create table event_sales_summary (
+    summary_for_event varchar(20) not null,
+    tickets_sold bigint not null,
+    revenue numeric(19,2) not null,
+    primary key (summary_for_event)
+);
+
+-- Venues only tracked the seats left; the seats booked so far are added back
+alter table venue add column total_capacity integer;
+update venue set total_capacity = capacity + coalesce((
+        select sum(b.no_of_tickets) from bookings b
+        where b.booking_for_event = venue.venue_for_event and b.booking_status = 'CONFIRMED'), 0)
+    where capacity is not null;
+
+create index idx_roles_name_user on roles (role_name, role_for_user);
+create index idx_wallet_ledger_wallet_date on wallet_ledger (ledger_for_wallet, created_at);
+create index idx_events_date_time on events (date, time);
+create index idx_venue_event on venue (venue_for_event);
+create index idx_bookings_made_by_date on bookings (booking_made_by, booking_date);
+
+-- Sales totals from the existing bookings, so the first booking of an event
+-- updates its summary instead of seeding it. Cancelled bookings keep the half
+-- of their payment that was not refunded (BookingServiceImpl.REFUND_RATE).
+insert into event_sales_summary (summary_for_event, tickets_sold, revenue)
+select e.event_id,
+    coalesce(sum(case when b.booking_status = 'CONFIRMED' then b.no_of_tickets end), 0),
+    cast(round(cast(coalesce(sum(case when b.booking_status = 'CONFIRMED' then p.payment_amount
+        when b.booking_status = 'CANCELLED' then p.payment_amount * 0.5 end), 0) as numeric), 2) as numeric(19,2))
+from events e
+left join bookings b on b.booking_for_event = e.event_id
+left join booking_payments p on p.payment_for_booking = b.booking_id
+group by e.event_id;
@@ -0,0 +1,81 @@
+package com.crimsonlogic.eventmanagement.cache.test;
+
+import com.crimsonlogic.eventmanagement.cache.EventDetailsCache;
+import com.crimsonlogic.eventmanagement.cache.EventDetailsSnapshot;
+import com.crimsonlogic.eventmanagement.payload.EventDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventDetailsCacheTest {
+
+    private final EventDetailsCache cache = new EventDetailsCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evict_OutsideTransaction() {
+        cache.get("EVE-1", this::snapshot);
+
+        cache.evict("EVE-1");
+
+        assertNull(cache.getIfPresent("EVE-1"));
+    }
+
+    @Test
+    void evict_InTransaction_DropsSnapshotCachedBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.get("EVE-1", this::snapshot);
+
+        cache.evict("EVE-1");
+        assertNull(cache.getIfPresent("EVE-1"));
+        // A concurrent read before the commit still sees the old rows and caches them again
+        cache.get("EVE-1", this::snapshot);
+
+        completeTransaction();
+
+        assertNull(cache.getIfPresent("EVE-1"));
+    }
+
+    @Test
+    void evictAll_InTransaction_DropsSnapshotsCachedBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictAll(Set.of("EVE-1", "EVE-2"));
+        cache.get("EVE-1", this::snapshot);
+        cache.get("EVE-2", this::snapshot);
+        cache.get("EVE-3", this::snapshot);
+
+        completeTransaction();
+
+        assertNull(cache.getIfPresent("EVE-1"));
+        assertNull(cache.getIfPresent("EVE-2"));
+        assertNotNull(cache.getIfPresent("EVE-3"));
+    }
+
+    private void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private EventDetailsSnapshot snapshot(String eventId) {
+        EventDto event = new EventDto();
+        event.setEventId(eventId);
+        return EventDetailsSnapshot.of(event, null, List.of(), List.of());
+    }
+}
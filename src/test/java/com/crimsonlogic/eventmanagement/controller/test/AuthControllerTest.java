@@ -1,5 +1,7 @@
 package com.crimsonlogic.eventmanagement.controller.test;
 
+import com.crimsonlogic.eventmanagement.payload.UserImportResultDto;
+import com.crimsonlogic.eventmanagement.payload.UserImportRowDto;
 import com.crimsonlogic.eventmanagement.payload.UserSignInDto;
 import com.crimsonlogic.eventmanagement.payload.UserSignUpDto;
 import com.crimsonlogic.eventmanagement.service.AuthService;
@@ -7,8 +9,15 @@ import com.crimsonlogic.eventmanagement.controller.AuthController;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -74,4 +83,32 @@ class AuthControllerTest {
         assertEquals(expectedResponse, response.getBody());
         verify(authService).signUpOrganizer(signUpDto);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportUsersCsv() {
+        String csv = "email,password,firstName,lastName,contactNumber,alternateNumber,dateOfBirth\n"
+                + "a@example.com,secret,Ann,\"Lee, Jr\",1234567890,,1990-01-31\n";
+        List<UserImportRowDto> rows = new ArrayList<>();
+        when(authService.importUsers(any())).thenAnswer(invocation -> {
+            ((Iterator<UserImportRowDto>) invocation.getArgument(0)).forEachRemaining(rows::add);
+            return new UserImportResultDto(1, 0, List.of());
+        });
+
+        ResponseEntity<UserImportResultDto> response = authController.importUsersCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(new UserImportRowDto("a@example.com", "secret", "Ann", "Lee, Jr", "1234567890", null,
+                "1990-01-31")), rows);
+    }
+
+    @Test
+    void testImportUsersCsv_MissingHeader() {
+        ResponseEntity<UserImportResultDto> response = authController.importUsersCsv(
+                new ByteArrayInputStream(new byte[0]));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(authService);
+    }
 }
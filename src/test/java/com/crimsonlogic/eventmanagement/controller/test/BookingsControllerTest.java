@@ -1,11 +1,18 @@
 package com.crimsonlogic.eventmanagement.controller.test;
 
 import com.crimsonlogic.eventmanagement.controller.BookingController;
+import com.crimsonlogic.eventmanagement.payload.BatchBookingRequestDto;
+import com.crimsonlogic.eventmanagement.payload.BatchBookingResultDto;
 import com.crimsonlogic.eventmanagement.payload.BookingDto;
+import com.crimsonlogic.eventmanagement.payload.BookingLineDto;
+import com.crimsonlogic.eventmanagement.payload.BookingLineFailureDto;
 import com.crimsonlogic.eventmanagement.service.BookingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -62,17 +69,59 @@ class BookingsControllerTest {
         verify(bookingService).bookTickets(userId, eventId, ticketPriceId, numberOfTickets);
     }
 
+    @Test
+    void testBookTicketsBatch() {
+        List<BookingLineDto> items = List.of(new BookingLineDto("event-1", "ticket-1", 2));
+        BatchBookingRequestDto request = new BatchBookingRequestDto("user-1", items, false);
+        BatchBookingResultDto result = new BatchBookingResultDto(List.of(new BookingDto()), List.of(), 200.0);
+        when(bookingService.bookTicketsBatch("user-1", items, false)).thenReturn(result);
+
+        ResponseEntity<BatchBookingResultDto> response = bookingController.bookTicketsBatch(request);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
+    @Test
+    void testBookTicketsBatch_NothingBooked() {
+        List<BookingLineDto> items = List.of(new BookingLineDto("event-1", "ticket-1", 2));
+        BatchBookingRequestDto request = new BatchBookingRequestDto("user-1", items, true);
+        BatchBookingResultDto result = new BatchBookingResultDto(List.of(),
+                List.of(new BookingLineFailureDto(0, "event-1", "ticket-1", "Insufficient wallet balance.")), 0.0);
+        when(bookingService.bookTicketsBatch("user-1", items, true)).thenReturn(result);
+
+        ResponseEntity<BatchBookingResultDto> response = bookingController.bookTicketsBatch(request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
     @Test
     void testGetUserBookings() {
         String userId = "user-1";
         List<BookingDto> bookings = Collections.singletonList(new BookingDto());
-        when(bookingService.getUserBookings(userId)).thenReturn(bookings);
+        when(bookingService.getUserBookings(userId, Pageable.unpaged())).thenReturn(new PageImpl<>(bookings));
+
+        ResponseEntity<List<BookingDto>> response = bookingController.getUserBookings(userId, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(bookings, response.getBody());
+        assertEquals("1", response.getHeaders().getFirst("X-Total-Count"));
+        verify(bookingService).getUserBookings(userId, Pageable.unpaged());
+    }
+
+    @Test
+    void testGetUserBookings_Paged() {
+        String userId = "user-1";
+        List<BookingDto> bookings = Collections.singletonList(new BookingDto());
+        PageRequest pageRequest = PageRequest.of(2, 10);
+        when(bookingService.getUserBookings(userId, pageRequest)).thenReturn(new PageImpl<>(bookings, pageRequest, 21));
 
-        ResponseEntity<List<BookingDto>> response = bookingController.getUserBookings(userId);
+        ResponseEntity<List<BookingDto>> response = bookingController.getUserBookings(userId, 2, 10);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(bookings, response.getBody());
-        verify(bookingService).getUserBookings(userId);
+        assertEquals("21", response.getHeaders().getFirst("X-Total-Count"));
     }
 
     @Test
@@ -1,13 +1,17 @@
 package com.crimsonlogic.eventmanagement.controller.test;
 
+import com.crimsonlogic.eventmanagement.cache.CategorySnapshot;
 import com.crimsonlogic.eventmanagement.controller.EventCategoryController;
 import com.crimsonlogic.eventmanagement.payload.EventCategoryDto;
 import com.crimsonlogic.eventmanagement.service.EventCategoryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Collections;
@@ -15,6 +19,10 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class EventCategoryControllerTest {
 
@@ -30,12 +38,30 @@ class EventCategoryControllerTest {
     @Test
     void testGetAllCategories() {
         List<EventCategoryDto> categories = Collections.singletonList(new EventCategoryDto());
-        when(categoryService.getAllCategories()).thenReturn(categories);
+        CategorySnapshot snapshot = CategorySnapshot.of(categories, 0);
+        when(categoryService.getEnabledCategories()).thenReturn(snapshot);
 
-        List<EventCategoryDto> response = categoryController.getAllCategories();
+        ResponseEntity<List<EventCategoryDto>> response = categoryController.getAllCategories();
 
-        assertEquals(categories, response);
-        verify(categoryService).getAllCategories();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(categories, response.getBody());
+        assertEquals(snapshot.getEtag(), response.getHeaders().getETag());
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+        verify(categoryService).getEnabledCategories();
+    }
+
+    @Test
+    void testGetAllCategories_NotModified() throws Exception {
+        CategorySnapshot snapshot = CategorySnapshot.of(Collections.singletonList(new EventCategoryDto()), 0);
+        when(categoryService.getEnabledCategories()).thenReturn(snapshot);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(categoryController).build();
+
+        mockMvc.perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, snapshot.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getEtag()))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
     }
 
     @Test
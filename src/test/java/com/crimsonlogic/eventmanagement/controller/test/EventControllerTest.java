@@ -1,6 +1,9 @@
 package com.crimsonlogic.eventmanagement.controller.test;
 
 import com.crimsonlogic.eventmanagement.controller.EventController;
+import com.crimsonlogic.eventmanagement.exception.InvalidInputException;
+import com.crimsonlogic.eventmanagement.payload.CatalogImportResultDto;
+import com.crimsonlogic.eventmanagement.payload.EventCatalogRowDto;
 import com.crimsonlogic.eventmanagement.payload.EventDto;
 import com.crimsonlogic.eventmanagement.payload.SponsorDto;
 import com.crimsonlogic.eventmanagement.payload.TicketPriceDto;
@@ -8,15 +11,27 @@ import com.crimsonlogic.eventmanagement.payload.VenueDto;
 import com.crimsonlogic.eventmanagement.service.EventService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,23 +50,72 @@ class EventControllerTest {
     @Test
     void testGetAllEvents() {
         List<EventDto> events = Collections.singletonList(new EventDto());
-        when(eventService.getAllEvents()).thenReturn(events);
+        when(eventService.getAllEvents(Pageable.unpaged())).thenReturn(events);
 
-        List<EventDto> response = eventController.getAllEvents();
+        List<EventDto> response = eventController.getAllEvents(null, null);
 
         assertEquals(events, response);
-        verify(eventService).getAllEvents();
+        verify(eventService).getAllEvents(Pageable.unpaged());
+    }
+
+    @Test
+    void testGetAllEvents_Paged() {
+        List<EventDto> events = Collections.singletonList(new EventDto());
+        Pageable pageable = PageRequest.of(1, 5, Sort.by("eventId"));
+        when(eventService.getAllEvents(pageable)).thenReturn(events);
+
+        List<EventDto> response = eventController.getAllEvents(1, 5);
+
+        assertEquals(events, response);
+        verify(eventService).getAllEvents(pageable);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamAllEvents() throws Exception {
+        ReflectionTestUtils.setField(eventController, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        EventDto first = new EventDto();
+        first.setEventId("event-1");
+        EventDto second = new EventDto();
+        second.setEventId("event-2");
+        doAnswer(invocation -> {
+            Consumer<EventDto> consumer = invocation.getArgument(0);
+            consumer.accept(first);
+            consumer.accept(second);
+            return null;
+        }).when(eventService).streamAllEvents(any());
+
+        ResponseEntity<StreamingResponseBody> response = eventController.streamAllEvents();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"eventId\":\"event-1\""));
+        assertTrue(lines[1].contains("\"eventId\":\"event-2\""));
     }
 
     @Test
     void testGetAllEventsByDate() {
         List<EventDto> events = Collections.singletonList(new EventDto());
-        when(eventService.getAllEventsByDate()).thenReturn(events);
+        when(eventService.getAllEventsByDate(null, 6)).thenReturn(events);
 
-        List<EventDto> response = eventController.getAllEventsByDate();
+        List<EventDto> response = eventController.getAllEventsByDate(null, 6);
 
         assertEquals(events, response);
-        verify(eventService).getAllEventsByDate();
+        verify(eventService).getAllEventsByDate(null, 6);
+    }
+
+    @Test
+    void testGetAllEventsByDate_LimitIsCapped() {
+        List<EventDto> events = Collections.singletonList(new EventDto());
+        when(eventService.getAllEventsByDate("event-6", 50)).thenReturn(events);
+
+        List<EventDto> response = eventController.getAllEventsByDate("event-6", 10_000);
+
+        assertEquals(events, response);
+        verify(eventService).getAllEventsByDate("event-6", 50);
     }
 
     @Test
@@ -118,6 +182,90 @@ class EventControllerTest {
         verify(eventService).addTicketPrices(eventId, ticketPriceDto);
     }
 
+    @Test
+    void testAddTicketPricesBatch() {
+        String eventId = "event-1";
+        List<TicketPriceDto> ticketPrices = List.of(new TicketPriceDto(null, "VIP", 100.0, null));
+        List<TicketPriceDto> created = List.of(new TicketPriceDto("TPI-1", "VIP", 100.0, eventId));
+        when(eventService.addTicketPricesBatch(eventId, ticketPrices)).thenReturn(created);
+
+        ResponseEntity<List<TicketPriceDto>> response = eventController.addTicketPricesBatch(eventId, ticketPrices);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(created, response.getBody());
+    }
+
+    @Test
+    void testAddSponsorsBatch() {
+        String eventId = "event-1";
+        List<SponsorDto> sponsors = List.of(new SponsorDto(null, "Acme", "1234567890", null));
+        List<SponsorDto> created = List.of(new SponsorDto("SPI-1", "Acme", "1234567890", eventId));
+        when(eventService.addSponsorsBatch(eventId, sponsors)).thenReturn(created);
+
+        ResponseEntity<List<SponsorDto>> response = eventController.addSponsorsBatch(eventId, sponsors);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(created, response.getBody());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportCatalogCsv() {
+        String csv = "eventId,type,name,price,contactNumber\n"
+                + "EVE-1,TICKET_PRICE,\"VIP, front row\",150,\n"
+                + "EVE-1,SPONSOR,Acme,,1234567890\n";
+        List<EventCatalogRowDto> rows = new ArrayList<>();
+        when(eventService.importCatalog(any())).thenAnswer(invocation -> {
+            ((Iterator<EventCatalogRowDto>) invocation.getArgument(0)).forEachRemaining(rows::add);
+            return new CatalogImportResultDto(1, 1, 0, List.of());
+        });
+
+        ResponseEntity<CatalogImportResultDto> response = eventController.importCatalogCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(new EventCatalogRowDto("EVE-1", "TICKET_PRICE", "VIP, front row", 150.0, null),
+                new EventCatalogRowDto("EVE-1", "SPONSOR", "Acme", null, "1234567890")), rows);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportCatalogNdjson_MalformedLine() {
+        ReflectionTestUtils.setField(eventController, "objectMapper", new ObjectMapper());
+        String ndjson = "{\"eventId\":\"EVE-1\",\"type\":\"SPONSOR\",\"name\":\"Acme\"}\n{not json\n"
+                + "{\"eventId\":\"EVE-1\",\"type\":\"SPONSOR\",\"name\":\"Globex\"}\n";
+        List<EventCatalogRowDto> rows = new ArrayList<>();
+        List<String> malformed = new ArrayList<>();
+        when(eventService.importCatalog(any())).thenAnswer(invocation -> {
+            Iterator<EventCatalogRowDto> iterator = invocation.getArgument(0);
+            while (iterator.hasNext()) {
+                try {
+                    rows.add(iterator.next());
+                } catch (InvalidInputException e) {
+                    malformed.add(e.getMessage());
+                }
+            }
+            return new CatalogImportResultDto(0, 2, 1, List.of());
+        });
+
+        ResponseEntity<CatalogImportResultDto> response = eventController.importCatalogNdjson(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // The bad line is left to the service to report; the lines after it are still read
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of("Acme", "Globex"), rows.stream().map(EventCatalogRowDto::getName).toList());
+        assertEquals(1, malformed.size());
+    }
+
+    @Test
+    void testImportCatalogCsv_MissingHeader() {
+        ResponseEntity<CatalogImportResultDto> response = eventController.importCatalogCsv(
+                new ByteArrayInputStream(new byte[0]));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(eventService);
+    }
+
     @Test
     void testAddVenue() {
         String eventId = "event-1";
@@ -0,0 +1,162 @@
+package com.crimsonlogic.eventmanagement.controller.test;
+
+import com.crimsonlogic.eventmanagement.controller.ImageController;
+import com.crimsonlogic.eventmanagement.service.ImageStorageServiceImpl;
+import com.crimsonlogic.eventmanagement.service.ImageThumbnailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageControllerTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path storageDir;
+
+    private ImageController imageController;
+    private String fileName;
+
+    @BeforeEach
+    void setUp() {
+        ImageStorageServiceImpl imageStorageService = new ImageStorageServiceImpl(storageDir.toString());
+        imageStorageService.imageThumbnailService = Mockito.mock(ImageThumbnailService.class);
+        imageController = new ImageController(imageStorageService);
+
+        String url = imageStorageService.store(new MockMultipartFile("image", "poster.png", "image/png", CONTENT));
+        fileName = url.substring("/images/".length());
+    }
+
+    @Test
+    void testGetImage_ImmutableWithContentHashEtag() throws Exception {
+        MockHttpServletResponse response = get(new MockHttpServletRequest("GET", "/images/" + fileName));
+
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(CONTENT, response.getContentAsByteArray());
+        assertEquals("image/png", response.getContentType());
+        assertEquals("\"" + fileName.substring(0, 64) + "\"", response.getHeader("ETag"));
+        assertTrue(response.getHeader("Cache-Control").contains("immutable"));
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+    }
+
+    @Test
+    void testGetImage_NotModified() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + fileName);
+        request.addHeader("If-None-Match", "\"other\", \"" + fileName.substring(0, 64) + "\"");
+
+        MockHttpServletResponse response = get(request);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testGetImage_Range() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + fileName);
+        request.addHeader("Range", "bytes=5-9");
+
+        MockHttpServletResponse response = get(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 5-9/20", response.getHeader("Content-Range"));
+        assertEquals("56789", response.getContentAsString());
+    }
+
+    @Test
+    void testGetImage_RangeIgnoredWhenIfRangeDoesNotMatch() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + fileName);
+        request.addHeader("Range", "bytes=5-9");
+        request.addHeader("If-Range", "\"stale\"");
+
+        MockHttpServletResponse response = get(request);
+
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(CONTENT, response.getContentAsByteArray());
+    }
+
+    @Test
+    void testGetImage_UnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + fileName);
+        request.addHeader("Range", "bytes=50-60");
+
+        MockHttpServletResponse response = get(request);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */20", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void testGetImage_UsesSendfileWhenSupported() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + fileName);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=-4");
+
+        MockHttpServletResponse response = get(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(storageDir.resolve(fileName).toRealPath().toString(),
+                request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(16L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(20L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+
+    @Test
+    void testGetImage_LegacyNameIsRevalidated() throws Exception {
+        Files.write(storageDir.resolve("event_poster.png"), CONTENT);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        imageController.getImage("event_poster.png", new MockHttpServletRequest("GET", "/images/event_poster.png"),
+                response);
+
+        assertEquals(200, response.getStatus());
+        assertTrue(response.getHeader("ETag").startsWith("W/"));
+        assertEquals("no-cache", response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void testGetImage_NotFound() throws Exception {
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+        imageController.getImage("missing.png", new MockHttpServletRequest(), missing);
+        MockHttpServletResponse traversal = new MockHttpServletResponse();
+        imageController.getImage("..", new MockHttpServletRequest(), traversal);
+
+        assertEquals(404, missing.getStatus());
+        assertEquals(404, traversal.getStatus());
+    }
+
+    @Test
+    void testGetThumbnail_FallsBackToImageUntilGenerated() throws Exception {
+        MockHttpServletResponse pending = new MockHttpServletResponse();
+        imageController.getThumbnail(fileName, new MockHttpServletRequest(), pending);
+
+        assertEquals(200, pending.getStatus());
+        assertArrayEquals(CONTENT, pending.getContentAsByteArray());
+        assertEquals("max-age=60", pending.getHeader("Cache-Control"));
+
+        Files.createDirectories(storageDir.resolve("thumbs"));
+        Files.write(storageDir.resolve("thumbs").resolve(fileName), new byte[] { 1, 2, 3 });
+        MockHttpServletResponse ready = new MockHttpServletResponse();
+        imageController.getThumbnail(fileName, new MockHttpServletRequest(), ready);
+
+        assertArrayEquals(new byte[] { 1, 2, 3 }, ready.getContentAsByteArray());
+        assertEquals("\"" + fileName.substring(0, 64) + "-thumb\"", ready.getHeader("ETag"));
+        assertTrue(ready.getHeader("Cache-Control").contains("immutable"));
+    }
+
+    private MockHttpServletResponse get(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        imageController.getImage(fileName, request, response);
+        return response;
+    }
+}
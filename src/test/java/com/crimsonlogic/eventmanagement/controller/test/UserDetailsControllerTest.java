@@ -6,6 +6,10 @@ import com.crimsonlogic.eventmanagement.service.UserDetailsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Collections;
@@ -140,12 +144,23 @@ class UserDetailsControllerTest {
 	@Test
 	void testGetOrganizers() {
 		List<UserDetailsDto> organizers = Collections.singletonList(new UserDetailsDto());
-		when(userDetailsService.getOrganizers()).thenReturn(organizers);
+		when(userDetailsService.getOrganizers(null, Pageable.unpaged())).thenReturn(new PageImpl<>(organizers));
 
-		ResponseEntity<List<UserDetailsDto>> response = userDetailsController.getOrganizers();
+		ResponseEntity<List<UserDetailsDto>> response = userDetailsController.getOrganizers(null, null, null);
 
 		assertEquals(200, response.getStatusCodeValue());
 		assertEquals(organizers, response.getBody());
+		assertEquals("1", response.getHeaders().getFirst("X-Total-Count"));
+	}
+
+	@Test
+	void testGetOrganizers_PendingPage() {
+		when(userDetailsService.getOrganizers(false, PageRequest.of(1, 20))).thenReturn(Page.empty());
+
+		ResponseEntity<List<UserDetailsDto>> response = userDetailsController.getOrganizers(false, 1, null);
+
+		assertEquals(200, response.getStatusCodeValue());
+		verify(userDetailsService).getOrganizers(false, PageRequest.of(1, 20));
 	}
 
 	@Test
@@ -0,0 +1,75 @@
+package com.crimsonlogic.eventmanagement.mapper.test;
+
+import com.crimsonlogic.eventmanagement.entity.EventCategories;
+import com.crimsonlogic.eventmanagement.entity.Events;
+import com.crimsonlogic.eventmanagement.entity.Sponsors;
+import com.crimsonlogic.eventmanagement.entity.TicketPrice;
+import com.crimsonlogic.eventmanagement.entity.UserDetails;
+import com.crimsonlogic.eventmanagement.entity.Venue;
+import com.crimsonlogic.eventmanagement.mapper.EventMapper;
+import com.crimsonlogic.eventmanagement.payload.EventDto;
+import com.crimsonlogic.eventmanagement.payload.SponsorDto;
+import com.crimsonlogic.eventmanagement.payload.TicketPriceDto;
+import com.crimsonlogic.eventmanagement.payload.VenueDto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventMapperTest {
+
+    private final EventMapper eventMapper = new EventMapper();
+
+    @Test
+    void testEventToDto() {
+        UserDetails organizer = new UserDetails();
+        organizer.setUserDetailsId("UDI-1");
+        EventCategories category = new EventCategories();
+        category.setCategoryId("CAT-1");
+
+        Events event = new Events();
+        event.setEventId("EVE-1");
+        event.setEventName("Concert");
+        event.setDate(LocalDate.of(2030, 1, 1));
+        event.setTime(LocalTime.NOON);
+        event.setCreatedBy(organizer);
+        event.setEventCategory(category);
+
+        EventDto dto = eventMapper.toDto(event);
+
+        assertEquals("EVE-1", dto.getEventId());
+        assertEquals("Concert", dto.getEventName());
+        assertEquals(LocalDate.of(2030, 1, 1), dto.getDate());
+        assertEquals(LocalTime.NOON, dto.getTime());
+        assertEquals("UDI-1", dto.getCreatedBy());
+        assertEquals("CAT-1", dto.getCategoryId());
+    }
+
+    @Test
+    void testEventToDto_WithoutRelations() {
+        Events event = new Events();
+        event.setEventId("EVE-1");
+
+        EventDto dto = eventMapper.toDto(event);
+
+        assertNull(dto.getCreatedBy());
+        assertNull(dto.getCategoryId());
+    }
+
+    @Test
+    void testChildEntitiesCarryEventId() {
+        Events event = new Events();
+        event.setEventId("EVE-1");
+
+        TicketPriceDto ticketPrice = eventMapper.toDto(new TicketPrice("TPI-1", "VIP", 99.0, event));
+        VenueDto venue = eventMapper.toDto(new Venue("VEI-1", "Hall", "link", 100, event));
+        SponsorDto sponsor = eventMapper.toDto(new Sponsors("SPI-1", "Acme", "1234567890", event));
+
+        assertEquals(new TicketPriceDto("TPI-1", "VIP", 99.0, "EVE-1"), ticketPrice);
+        assertEquals(new VenueDto("VEI-1", "Hall", "link", 100, "EVE-1"), venue);
+        assertEquals(new SponsorDto("SPI-1", "Acme", "1234567890", "EVE-1"), sponsor);
+    }
+}
@@ -1,26 +1,40 @@
 package com.crimsonlogic.eventmanagement.service.test;
 
+import com.crimsonlogic.eventmanagement.cache.PrincipalCache;
 import com.crimsonlogic.eventmanagement.entity.Role;
 import com.crimsonlogic.eventmanagement.entity.UserAuthentication;
 import com.crimsonlogic.eventmanagement.entity.UserDetails;
 import com.crimsonlogic.eventmanagement.entity.Wallet;
+import com.crimsonlogic.eventmanagement.exception.EmailAlreadyRegisteredException;
 import com.crimsonlogic.eventmanagement.payload.UserResponseDto;
 import com.crimsonlogic.eventmanagement.payload.UserSignInDto;
 import com.crimsonlogic.eventmanagement.payload.UserSignUpDto;
 import com.crimsonlogic.eventmanagement.repository.RoleRepository;
 import com.crimsonlogic.eventmanagement.repository.UserAuthenticationRepository;
+import com.crimsonlogic.eventmanagement.repository.UserAuthenticationRepository.SignInPrincipal;
 import com.crimsonlogic.eventmanagement.repository.UserDetailsRepository;
 import com.crimsonlogic.eventmanagement.repository.WalletRepository;
 import com.crimsonlogic.eventmanagement.service.AuthServiceImpl;
+import com.crimsonlogic.eventmanagement.service.PasswordHashingServiceImpl;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,6 +42,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceImplTest {
 
+	// Lowest bcrypt cost, to keep the tests fast
+	private static final String HASHED_PASSWORD = BCrypt.hashpw("password", BCrypt.gensalt(4));
+
 	@Mock
 	private UserAuthenticationRepository userAuthRepo;
 
@@ -40,6 +57,16 @@ public class AuthServiceImplTest {
 	@Mock
 	private WalletRepository walletRepo;
 
+	@Spy
+	private PrincipalCache principalCache = new PrincipalCache(100, Duration.ofSeconds(30), new SimpleMeterRegistry());
+
+	@Spy
+	private PasswordHashingServiceImpl passwordHashingService = new PasswordHashingServiceImpl(4, Duration.ZERO, 1, 10,
+			Duration.ofSeconds(5), 4);
+
+	@Spy
+	private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
 	@InjectMocks
 	private AuthServiceImpl authService;
 
@@ -62,6 +89,11 @@ public class AuthServiceImplTest {
 		signInDto.setPassword("password");
 	}
 
+	@AfterEach
+	void tearDown() {
+		passwordHashingService.shutdown();
+	}
+
 	@Test
 	void testSignUp_PasswordMismatch() {
 		signUpDto.setConfirmPassword("differentPassword");
@@ -89,59 +121,132 @@ public class AuthServiceImplTest {
 
         Object result = authService.signUp(signUpDto);
         assertEquals("User registered successfully!", result);
+
+        ArgumentCaptor<UserAuthentication> saved = ArgumentCaptor.forClass(UserAuthentication.class);
+        verify(userAuthRepo).save(saved.capture());
+        assertTrue(BCrypt.checkpw("password", saved.getValue().getPassword()));
     }
 
 	@Test
-	void testSignIn_Success() {
-		UserAuthentication userAuth = new UserAuthentication();
-		userAuth.setEmail("test@example.com");
-		userAuth.setPassword("password");
-		userAuth.setUserId("user123");
+	void testSignUp_EmailAlreadyRegistered() {
+		when(userAuthRepo.existsByEmail("test@example.com")).thenReturn(true);
 
-		UserDetails userDetails = new UserDetails();
-		userDetails.setIsApproved(true); 
-		userDetails.setUserDetailsId("details123");
-		userDetails.setFullName("John Doe");
-		userDetails.setContactNumber("1234567890");
-		userDetails.setDateOfBirth(LocalDate.parse("1990-01-01"));
+		assertThrows(EmailAlreadyRegisteredException.class, () -> authService.signUp(signUpDto));
 
-		Role role = new Role();
-		role.setRoleName("customer");
+		verify(passwordHashingService, never()).hash(any());
+		verify(userAuthRepo, never()).save(any());
+		verifyNoInteractions(userDetailsRepo, roleRepo, walletRepo);
+	}
 
-		when(userAuthRepo.findByEmail(signInDto.getEmail())).thenReturn(userAuth);
-		when(userDetailsRepo.findByDetailsOfUser_UserId(userAuth.getUserId())).thenReturn(userDetails);
-		when(roleRepo.findByRoleForUser(userAuth)).thenReturn(role);
+	@Test
+	void testSignIn_Success() {
+		when(userAuthRepo.findSignInPrincipal(signInDto.getEmail()))
+				.thenReturn(Optional.of(principal(HASHED_PASSWORD, true)));
 
 		UserResponseDto response = (UserResponseDto) authService.signIn(signInDto);
 
 		assertNotNull(response);
 		assertEquals("test@example.com", response.getEmail());
 		assertEquals("customer", response.getRole());
+		assertEquals("user123", response.getUserId());
+		assertEquals("details123", response.getUserDetailsId());
 	}
 
 	@Test
-	void testSignIn_UserNotApproved() {
-		UserAuthentication userAuth = new UserAuthentication();
-		userAuth.setEmail("test@example.com");
-		userAuth.setPassword("password");
-		userAuth.setUserId("user123");
+	void testSignIn_CachedPrincipal() {
+		when(userAuthRepo.findSignInPrincipal(signInDto.getEmail()))
+				.thenReturn(Optional.of(principal(HASHED_PASSWORD, true)));
+
+		authService.signIn(signInDto);
+		authService.signIn(signInDto);
+
+		verify(userAuthRepo, times(1)).findSignInPrincipal(signInDto.getEmail());
+		verifyNoInteractions(userDetailsRepo, roleRepo);
+	}
+
+	@Test
+	void testSignIn_EvictedPrincipalIsReloaded() {
+		when(userAuthRepo.findSignInPrincipal(signInDto.getEmail()))
+				.thenReturn(Optional.of(principal(HASHED_PASSWORD, null)))
+				.thenReturn(Optional.of(principal(HASHED_PASSWORD, true)));
 
-		UserDetails userDetails = new UserDetails();
-		userDetails.setIsApproved(false);
+		assertThrows(RuntimeException.class, () -> authService.signIn(signInDto));
+		principalCache.evict(signInDto.getEmail());
 
-		when(userAuthRepo.findByEmail(signInDto.getEmail())).thenReturn(userAuth);
-		when(userDetailsRepo.findByDetailsOfUser_UserId(userAuth.getUserId())).thenReturn(userDetails);
+		UserResponseDto response = (UserResponseDto) authService.signIn(signInDto);
+		assertEquals("details123", response.getUserDetailsId());
+	}
+
+	@Test
+	void testSignIn_UserNotApproved() {
+		when(userAuthRepo.findSignInPrincipal(signInDto.getEmail()))
+				.thenReturn(Optional.of(principal(HASHED_PASSWORD, false)));
 
 		Exception exception = assertThrows(RuntimeException.class, () -> authService.signIn(signInDto));
 		assertEquals("User is not approved", exception.getMessage());
 	}
 
+	@Test
+	void testSignIn_WrongPassword() {
+		when(userAuthRepo.findSignInPrincipal(signInDto.getEmail()))
+				.thenReturn(Optional.of(principal(HASHED_PASSWORD, true)));
+		signInDto.setPassword("wrong");
+
+		Exception exception = assertThrows(RuntimeException.class, () -> authService.signIn(signInDto));
+		assertEquals("Invalid password", exception.getMessage());
+	}
+
+	@Test
+	void testSignIn_LegacyPlaintextPasswordIsRehashed() {
+		when(userAuthRepo.findSignInPrincipal(signInDto.getEmail()))
+				.thenReturn(Optional.of(principal("password", true)));
+		when(userAuthRepo.updatePassword(eq("user123"), eq("password"), anyString())).thenReturn(1);
+
+		authService.signIn(signInDto);
+
+		ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+		verify(userAuthRepo).updatePassword(eq("user123"), eq("password"), hash.capture());
+		assertTrue(BCrypt.checkpw("password", hash.getValue()));
+		verify(principalCache).evict("test@example.com");
+	}
+
+	@Test
+	void testSignIn_CurrentHashIsNotRehashed() {
+		when(userAuthRepo.findSignInPrincipal(signInDto.getEmail()))
+				.thenReturn(Optional.of(principal(HASHED_PASSWORD, true)));
+
+		authService.signIn(signInDto);
+
+		verify(userAuthRepo, never()).updatePassword(any(), any(), any());
+	}
+
+	@Test
+	void testSignIn_UnknownEmailIsNotCached() {
+		when(userAuthRepo.findSignInPrincipal(signInDto.getEmail())).thenReturn(Optional.empty());
+
+		assertThrows(RuntimeException.class, () -> authService.signIn(signInDto));
+		assertThrows(RuntimeException.class, () -> authService.signIn(signInDto));
+
+		verify(userAuthRepo, times(2)).findSignInPrincipal(signInDto.getEmail());
+	}
+
 	@Test
 	void testSignIn_InvalidCredentials() {
-		when(userAuthRepo.findByEmail(signInDto.getEmail())).thenReturn(null);
+		when(userAuthRepo.findSignInPrincipal(signInDto.getEmail())).thenReturn(Optional.empty());
 
 		Exception exception = assertThrows(RuntimeException.class, () -> authService.signIn(signInDto));
 		assertEquals("Invalid credentials", exception.getMessage());
 	}
 
+	private SignInPrincipal principal(String password, Boolean approved) {
+		return new SignInPrincipal() {
+			public String getUserId() { return "user123"; }
+			public String getEmail() { return "test@example.com"; }
+			public String getPassword() { return password; }
+			public String getUserDetailsId() { return "details123"; }
+			public Boolean getApproved() { return approved; }
+			public String getRoleName() { return "customer"; }
+		};
+	}
+
 }
@@ -0,0 +1,297 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.entity.EventSalesSummary;
+import com.crimsonlogic.eventmanagement.entity.Events;
+import com.crimsonlogic.eventmanagement.entity.TicketPrice;
+import com.crimsonlogic.eventmanagement.entity.UserDetails;
+import com.crimsonlogic.eventmanagement.entity.Venue;
+import com.crimsonlogic.eventmanagement.entity.Wallet;
+import com.crimsonlogic.eventmanagement.exception.InsufficientCapacityException;
+import com.crimsonlogic.eventmanagement.exception.InsufficientWalletBalanceException;
+import com.crimsonlogic.eventmanagement.exception.InvalidBookingStatusException;
+import com.crimsonlogic.eventmanagement.exception.TicketPriceNotFoundException;
+import com.crimsonlogic.eventmanagement.payload.BatchBookingResultDto;
+import com.crimsonlogic.eventmanagement.payload.BookingDto;
+import com.crimsonlogic.eventmanagement.payload.BookingLineDto;
+import com.crimsonlogic.eventmanagement.repository.BookingPaymentsRepository;
+import com.crimsonlogic.eventmanagement.repository.BookingRepository;
+import com.crimsonlogic.eventmanagement.repository.EventRepository;
+import com.crimsonlogic.eventmanagement.repository.EventSalesSummaryRepository;
+import com.crimsonlogic.eventmanagement.repository.TicketPriceRepository;
+import com.crimsonlogic.eventmanagement.repository.UserDetailsRepository;
+import com.crimsonlogic.eventmanagement.repository.VenueRepository;
+import com.crimsonlogic.eventmanagement.repository.VenueRepository.SeatAvailability;
+import com.crimsonlogic.eventmanagement.repository.WalletLedgerRepository;
+import com.crimsonlogic.eventmanagement.repository.WalletRepository;
+import com.crimsonlogic.eventmanagement.service.BookingService;
+import com.crimsonlogic.eventmanagement.service.BookingServiceImpl;
+import com.crimsonlogic.eventmanagement.service.EventSalesServiceImpl;
+import com.crimsonlogic.eventmanagement.service.SeatInventoryServiceImpl;
+import com.crimsonlogic.eventmanagement.service.WalletServiceImpl;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true" })
+@Import({ BookingServiceImpl.class, SeatInventoryServiceImpl.class, WalletServiceImpl.class, EventSalesServiceImpl.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingPipelineTest {
+
+    private static final String USER_ID = "UDI-PIPE";
+    private static final String EVENT_ID = "EVE-PIPE";
+    private static final String TICKET_PRICE_ID = "TPI-PIPE";
+    private static final String VIP_TICKET_PRICE_ID = "TPI-PIPEV";
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingPaymentsRepository bookingPaymentsRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private TicketPriceRepository ticketPriceRepository;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private WalletLedgerRepository walletLedgerRepository;
+
+    @Autowired
+    private UserDetailsRepository userDetailsRepository;
+
+    @Autowired
+    private EventSalesSummaryRepository eventSalesSummaryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        bookingPaymentsRepository.deleteAll();
+        bookingRepository.deleteAll();
+        eventSalesSummaryRepository.deleteAll();
+        walletLedgerRepository.deleteAll();
+        walletRepository.deleteAll();
+        ticketPriceRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+        userDetailsRepository.deleteAll();
+
+        UserDetails user = new UserDetails();
+        user.setUserDetailsId(USER_ID);
+        user.setFullName("Pipeline User");
+        userDetailsRepository.save(user);
+
+        Wallet wallet = new Wallet("WLI-PIPE", new BigDecimal("100.00"), user);
+        walletRepository.save(wallet);
+
+        Events event = new Events();
+        event.setEventId(EVENT_ID);
+        event.setEventName("Pipeline Live");
+        event.setDate(LocalDate.now().plusDays(7));
+        eventRepository.save(event);
+
+        venueRepository.save(new Venue("VEI-PIPE", "Main Hall", null, 10, event));
+        ticketPriceRepository.save(new TicketPrice(TICKET_PRICE_ID, "General", 20.0, event));
+        ticketPriceRepository.save(new TicketPrice(VIP_TICKET_PRICE_ID, "VIP", 30.0, event));
+
+        // The empty summary event creation (or the migration) starts every event with
+        eventSalesSummaryRepository.save(new EventSalesSummary(EVENT_ID, 0, BigDecimal.ZERO));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void bookTickets_UsesFewStatements() {
+        BookingDto result = bookingService.bookTickets(USER_ID, EVENT_ID, TICKET_PRICE_ID, 2);
+
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals("Pipeline Live", result.getEventName());
+        assertEquals("Main Hall", result.getLocation());
+        assertEquals(40.0, result.getTotalPrice());
+        assertEquals(8, venueRepository.findById("VEI-PIPE").orElseThrow().getCapacity());
+        assertEquals(0, new BigDecimal("60.00").compareTo(walletRepository.findById("WLI-PIPE").orElseThrow().getAmount()));
+        // Includes the one UPDATE that keeps the event's sales summary current
+        assertTrue(statements <= 9, "Expected at most 9 statements per booking but was " + statements);
+    }
+
+    @Test
+    void bookTickets_InsufficientBalance_WritesNothing() {
+        assertThrows(InsufficientWalletBalanceException.class,
+                () -> bookingService.bookTickets(USER_ID, EVENT_ID, TICKET_PRICE_ID, 6));
+
+        assertNothingWritten();
+    }
+
+    @Test
+    void bookTickets_InsufficientCapacity_WritesNothing() {
+        assertThrows(InsufficientCapacityException.class,
+                () -> bookingService.bookTickets(USER_ID, EVENT_ID, TICKET_PRICE_ID, 11));
+
+        assertNothingWritten();
+    }
+
+    @Test
+    void bookTickets_TicketPriceOfAnotherEvent() {
+        Events other = new Events();
+        other.setEventId("EVE-OTHER");
+        eventRepository.save(other);
+
+        assertThrows(TicketPriceNotFoundException.class,
+                () -> bookingService.bookTickets(USER_ID, "EVE-OTHER", TICKET_PRICE_ID, 1));
+    }
+
+    @Test
+    void bookTicketsBatch_UsesFewStatements() {
+        BatchBookingResultDto result = bookingService.bookTicketsBatch(USER_ID, List.of(
+                new BookingLineDto(EVENT_ID, TICKET_PRICE_ID, 1),
+                new BookingLineDto(EVENT_ID, TICKET_PRICE_ID, 1),
+                new BookingLineDto(EVENT_ID, VIP_TICKET_PRICE_ID, 1),
+                new BookingLineDto(EVENT_ID, VIP_TICKET_PRICE_ID, 1)), false);
+
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(4, result.getBookings().size());
+        assertTrue(result.getFailures().isEmpty());
+        assertEquals(100.0, result.getTotalPrice());
+        assertEquals(4, bookingRepository.count());
+        assertEquals(4, bookingPaymentsRepository.count());
+        assertEquals(4, walletLedgerRepository.count());
+        assertEquals(6, venueRepository.findById("VEI-PIPE").orElseThrow().getCapacity());
+        assertEquals(0, BigDecimal.ZERO.compareTo(walletRepository.findById("WLI-PIPE").orElseThrow().getAmount()));
+        // Reads, one seat and one sales update per event, one wallet update and one batched insert per table,
+        // whatever the line count
+        assertTrue(statements <= 10, "Expected at most 10 statements per batch but was " + statements);
+    }
+
+    @Test
+    void bookTicketsBatch_AllOrNothing_WritesNothing() {
+        BatchBookingResultDto result = bookingService.bookTicketsBatch(USER_ID, List.of(
+                new BookingLineDto(EVENT_ID, TICKET_PRICE_ID, 1),
+                new BookingLineDto(EVENT_ID, "TPI-MISSING", 1)), false);
+
+        assertTrue(result.getBookings().isEmpty());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertNothingWritten();
+    }
+
+    @Test
+    void bookTicketsBatch_Partial_BooksValidLines() {
+        BatchBookingResultDto result = bookingService.bookTicketsBatch(USER_ID, List.of(
+                new BookingLineDto(EVENT_ID, VIP_TICKET_PRICE_ID, 2),
+                new BookingLineDto(EVENT_ID, VIP_TICKET_PRICE_ID, 2),
+                new BookingLineDto(EVENT_ID, TICKET_PRICE_ID, 2)), true);
+
+        assertEquals(2, result.getBookings().size());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals("Insufficient wallet balance.", result.getFailures().get(0).getReason());
+        assertEquals(100.0, result.getTotalPrice());
+        assertEquals(6, venueRepository.findById("VEI-PIPE").orElseThrow().getCapacity());
+        assertEquals(0, BigDecimal.ZERO.compareTo(walletRepository.findById("WLI-PIPE").orElseThrow().getAmount()));
+    }
+
+    @Test
+    void cancelBooking_KeepsSalesSummaryInStep() {
+        BookingDto first = bookingService.bookTickets(USER_ID, EVENT_ID, TICKET_PRICE_ID, 2);
+        bookingService.bookTickets(USER_ID, EVENT_ID, TICKET_PRICE_ID, 1);
+        bookingService.cancelBooking(first.getBookingId());
+
+        Map<String, Object> revenue = bookingService.getTotalRevenueAndTicketsForEvent(EVENT_ID);
+
+        assertEquals(1L, revenue.get("totalTicketsSold"));
+        assertEquals(40.0, revenue.get("totalRevenue")); // 20 paid and kept, plus 20 of the cancelled 40
+
+        SeatAvailability seats = venueRepository.findSeatAvailability(EVENT_ID).orElseThrow();
+        assertEquals(10, seats.getTotalCapacity());
+        assertEquals(1L, seats.getTicketsSold());
+        assertEquals(9, seats.getRemainingSeats());
+    }
+
+    @Test
+    void cancelBooking_ConcurrentCancelsRefundOnce() throws Exception {
+        BookingDto booking = bookingService.bookTickets(USER_ID, EVENT_ID, TICKET_PRICE_ID, 2);
+        int threads = 8;
+        AtomicInteger cancelled = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    bookingService.cancelBooking(booking.getBookingId());
+                    cancelled.incrementAndGet();
+                } catch (InvalidBookingStatusException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1, cancelled.get());
+        assertEquals(threads - 1, rejected.get());
+        assertEquals(10, venueRepository.findById("VEI-PIPE").orElseThrow().getCapacity());
+        // 40 paid, 20 refunded once
+        assertEquals(0, new BigDecimal("80.00").compareTo(walletRepository.findById("WLI-PIPE").orElseThrow().getAmount()));
+        assertEquals(2, walletLedgerRepository.count()); // The booking debit and one refund
+        assertEquals(0, eventSalesSummaryRepository.findById(EVENT_ID).orElseThrow().getTicketsSold());
+    }
+
+    private void assertNothingWritten() {
+        assertEquals(0, bookingRepository.count());
+        assertEquals(0, bookingPaymentsRepository.count());
+        assertEquals(0, walletLedgerRepository.count());
+        assertEquals(0, eventSalesSummaryRepository.findById(EVENT_ID).orElseThrow().getTicketsSold());
+        assertEquals(10, venueRepository.findById("VEI-PIPE").orElseThrow().getCapacity());
+        assertEquals(0, new BigDecimal("100.00").compareTo(walletRepository.findById("WLI-PIPE").orElseThrow().getAmount()));
+    }
+}
@@ -1,17 +1,29 @@
 package com.crimsonlogic.eventmanagement.service.test;
 
 import com.crimsonlogic.eventmanagement.entity.*;
+import com.crimsonlogic.eventmanagement.exception.EventNotFoundException;
+import com.crimsonlogic.eventmanagement.exception.InsufficientCapacityException;
+import com.crimsonlogic.eventmanagement.exception.InvalidBookingStatusException;
+import com.crimsonlogic.eventmanagement.exception.TicketPriceNotFoundException;
 import com.crimsonlogic.eventmanagement.payload.BookingDto;
 import com.crimsonlogic.eventmanagement.repository.*;
+import com.crimsonlogic.eventmanagement.repository.TicketPriceRepository.BookingQuote;
 import com.crimsonlogic.eventmanagement.service.BookingServiceImpl;
+import com.crimsonlogic.eventmanagement.service.EventSalesService;
+import com.crimsonlogic.eventmanagement.service.SeatInventoryService;
+import com.crimsonlogic.eventmanagement.service.WalletService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,32 +44,29 @@ class BookingServiceImplTest {
 	@Mock
 	private EventRepository eventRepository;
 
-	@Mock
-	private VenueRepository venueRepository;
-
 	@Mock
 	private TicketPriceRepository ticketPriceRepository;
 
 	@Mock
-	private WalletRepository walletRepository;
+	private WalletService walletService;
 
 	@Mock
 	private UserDetailsRepository userDetailsRepository;
 
 	@Mock
-	private ModelMapper modelMapper;
+	private SeatInventoryService seatInventoryService;
 
 	@Mock
-	private UserDetails userDetails;
+	private EventSalesService eventSalesService;
 
 	@Mock
-	private Events event;
+	private UserDetails userDetails;
 
 	@Mock
-	private Venue venue;
+	private Events event;
 
 	@Mock
-	private Wallet wallet;
+	private BookingQuote quote;
 
 	@Mock
 	private Bookings booking;
@@ -78,31 +87,71 @@ class BookingServiceImplTest {
 		int numberOfTickets = 2;
 
 		when(userDetailsRepository.findById(userId)).thenReturn(Optional.of(userDetails));
+		when(userDetails.getFullName()).thenReturn("John Doe");
 
-		when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+		when(ticketPriceRepository.findBookingQuote(eventId, ticketPriceId)).thenReturn(Optional.of(quote));
+		when(quote.getPrice()).thenReturn(50.0);
+		when(quote.getCapacity()).thenReturn(10);
+		when(quote.getEventName()).thenReturn("Concert");
+		when(quote.getVenueLocation()).thenReturn("Hall");
 
-		when(venueRepository.findByVenueForEvent(event)).thenReturn(venue);
-		when(venue.getCapacity()).thenReturn(10);
+		when(eventRepository.getReferenceById(eventId)).thenReturn(event);
 
-		TicketPrice ticketPrice = new TicketPrice(ticketPriceId, userId, 50.0, event);
-		when(ticketPriceRepository.findById(ticketPriceId)).thenReturn(Optional.of(ticketPrice));
+		BookingDto result = bookingService.bookTickets(userId, eventId, ticketPriceId, numberOfTickets);
 
-		when(walletRepository.findByWalletForUser(userDetails)).thenReturn(wallet);
-		when(wallet.getAmount()).thenReturn(100.0);
+		assertNotNull(result);
+		assertEquals(100.0, result.getTotalPrice());
+		assertEquals("Concert", result.getEventName());
+		assertEquals("Hall", result.getLocation());
+		assertEquals("John Doe", result.getFullName());
+		verify(bookingRepository, times(1)).save(any(Bookings.class));
+		verify(bookingPaymentsRepository, times(1)).save(any(BookingPayments.class));
+		verify(seatInventoryService, times(1)).reserveSeats(eventId, numberOfTickets);
+		verify(eventSalesService, times(1)).recordSale(eventId, numberOfTickets, BigDecimal.valueOf(100.0));
+		verify(eventRepository, never()).findById(any());
+		verify(walletService, times(1)).debit(eq(userId), eq(BigDecimal.valueOf(100.0)), eq(WalletLedgerEntry.BOOKING),
+				eq(result.getBookingId()));
+	}
 
-		when(bookingRepository.save(any(Bookings.class))).thenReturn(booking);
+	@Test
+	void bookTicketsBatch_NoItems() {
+		assertThrows(IllegalArgumentException.class, () -> bookingService.bookTicketsBatch("user1", List.of(), false));
 
-		when(bookingPaymentsRepository.save(any(BookingPayments.class))).thenReturn(bookingPayment);
+		verifyNoInteractions(userDetailsRepository, walletService, seatInventoryService, bookingRepository);
+	}
 
-		BookingDto bookingDto = new BookingDto();
-		bookingDto.setBookingId("BKI-C1BC0B");
-		when(modelMapper.map(any(Bookings.class), eq(BookingDto.class))).thenReturn(bookingDto);
+	@Test
+	void bookTickets_InsufficientCapacity() {
+		when(userDetailsRepository.findById("user1")).thenReturn(Optional.of(userDetails));
+		when(ticketPriceRepository.findBookingQuote("event1", "ticket1")).thenReturn(Optional.of(quote));
+		when(quote.getCapacity()).thenReturn(1);
 
-		BookingDto result = bookingService.bookTickets(userId, eventId, ticketPriceId, numberOfTickets);
+		assertThrows(InsufficientCapacityException.class,
+				() -> bookingService.bookTickets("user1", "event1", "ticket1", 2));
 
-		assertNotNull(result);
-		verify(bookingRepository, times(1)).save(any(Bookings.class));
-		verify(bookingPaymentsRepository, times(1)).save(any(BookingPayments.class));
+		verifyNoInteractions(seatInventoryService, walletService, bookingRepository, bookingPaymentsRepository);
+	}
+
+	@Test
+	void bookTickets_TicketPriceNotForEvent() {
+		when(userDetailsRepository.findById("user1")).thenReturn(Optional.of(userDetails));
+		when(ticketPriceRepository.findBookingQuote("event1", "ticket1")).thenReturn(Optional.empty());
+		when(eventRepository.existsById("event1")).thenReturn(true);
+
+		assertThrows(TicketPriceNotFoundException.class,
+				() -> bookingService.bookTickets("user1", "event1", "ticket1", 2));
+
+		verifyNoInteractions(seatInventoryService, walletService, bookingRepository, bookingPaymentsRepository);
+	}
+
+	@Test
+	void bookTickets_EventNotFound() {
+		when(userDetailsRepository.findById("user1")).thenReturn(Optional.of(userDetails));
+		when(ticketPriceRepository.findBookingQuote("event1", "ticket1")).thenReturn(Optional.empty());
+		when(eventRepository.existsById("event1")).thenReturn(false);
+
+		assertThrows(EventNotFoundException.class,
+				() -> bookingService.bookTickets("user1", "event1", "ticket1", 2));
 	}
 
 	@Test
@@ -123,26 +172,29 @@ class BookingServiceImplTest {
 	@Test
 	void getUserBookings_Success() {
 		String userId = "user1";
-		List<Bookings> bookingsList = Collections.singletonList(booking);
+		Pageable pageable = PageRequest.of(0, 20);
+		BookingDto summary = new BookingDto("BKI-1", "event1", userId, "Concert", 2, "CONFIRMED", 100.0, "John Doe", "Hall");
 
-		when(userDetailsRepository.findById(userId)).thenReturn(Optional.of(userDetails));
-		when(bookingRepository.findByBookingMadeBy_UserDetailsId(userId)).thenReturn(bookingsList);
-		when(modelMapper.map(booking, BookingDto.class)).thenReturn(new BookingDto());
+		when(userDetailsRepository.existsById(userId)).thenReturn(true);
+		when(bookingRepository.findBookingSummariesByUserId(userId, pageable)).thenReturn(new PageImpl<>(List.of(summary)));
 
-		List<BookingDto> result = bookingService.getUserBookings(userId);
+		Page<BookingDto> result = bookingService.getUserBookings(userId, pageable);
 
 		assertNotNull(result);
-		assertEquals(1, result.size());
-		verify(bookingRepository, times(1)).findByBookingMadeBy_UserDetailsId(userId);
+		assertEquals(1, result.getNumberOfElements());
+		assertEquals(100.0, result.getContent().get(0).getTotalPrice());
+		verify(bookingRepository, times(1)).findBookingSummariesByUserId(userId, pageable);
+		verifyNoInteractions(bookingPaymentsRepository);
 	}
 
 	@Test
 	void getUserBookings_UserNotFound() {
 		String userId = "user1";
 
-		when(userDetailsRepository.findById(userId)).thenReturn(Optional.empty());
+		when(userDetailsRepository.existsById(userId)).thenReturn(false);
 
-		Exception exception = assertThrows(RuntimeException.class, () -> bookingService.getUserBookings(userId));
+		Exception exception = assertThrows(RuntimeException.class,
+				() -> bookingService.getUserBookings(userId, Pageable.unpaged()));
 
 		assertEquals("User not found", exception.getMessage());
 	}
@@ -152,29 +204,35 @@ class BookingServiceImplTest {
 	    String bookingId = "booking1";
 
 	    when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
-	    when(booking.getBookingStatus()).thenReturn("CONFIRMED");
-	    when(booking.getBookingForEvent()).thenReturn(mock(Events.class));
+	    when(bookingRepository.cancelIfConfirmed(bookingId)).thenReturn(1);
+	    when(booking.getBookingForEvent()).thenReturn(event);
+	    when(event.getEventId()).thenReturn("event1");
 	    when(booking.getNoOfTickets()).thenReturn(50);
 
-	    when(venueRepository.findByVenueForEvent(any())).thenReturn(venue);
-	    when(venue.getCapacity()).thenReturn(100);
-
 	    when(bookingPaymentsRepository.findByPaymentForBooking(booking)).thenReturn(bookingPayment);
 	    when(bookingPayment.getPaymentAmount()).thenReturn(100.0);
-	    when(walletRepository.findByWalletForUser(any())).thenReturn(wallet);
-	    when(wallet.getAmount()).thenReturn(150.0);
+	    when(booking.getBookingMadeBy()).thenReturn(userDetails);
+	    when(userDetails.getUserDetailsId()).thenReturn("user1");
 
 	    bookingService.cancelBooking(bookingId);
 
-	    double expectedWalletAmount = 100.0 + (100.0 * 0.5);
-
 	    // Verify interactions
-	    verify(bookingRepository, times(1)).save(booking);
-	    verify(venueRepository, times(1)).save(venue);
-	    verify(walletRepository, times(1)).save(wallet);
+	    verify(bookingRepository, times(1)).cancelIfConfirmed(bookingId);
+	    verify(seatInventoryService, times(1)).releaseSeats("event1", 50);
+	    verify(walletService, times(1)).credit("user1", new BigDecimal("50.00"), WalletLedgerEntry.REFUND, bookingId);
+	    verify(eventSalesService, times(1)).recordCancellation("event1", 50, new BigDecimal("50.00"));
+	}
+
+	@Test
+	void cancelBooking_AlreadyCancelled() {
+	    String bookingId = "booking1";
+
+	    when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+	    when(bookingRepository.cancelIfConfirmed(bookingId)).thenReturn(0);
+
+	    assertThrows(InvalidBookingStatusException.class, () -> bookingService.cancelBooking(bookingId));
 
-	    assertEquals(expectedWalletAmount, wallet.getAmount());
-	    verify(venue, times(1)).setCapacity(150);
+	    verifyNoInteractions(seatInventoryService, walletService, eventSalesService);
 	}
 
 
@@ -182,22 +240,21 @@ class BookingServiceImplTest {
 	void getTotalRevenueAndTicketsForEvent_Success() {
 		String eventId = "event1";
 
-		when(bookingPaymentsRepository.sumPaymentsByEventId(eventId)).thenReturn(200.0);
-		when(bookingRepository.sumTicketsByEventId(eventId)).thenReturn(10L);
+		when(eventSalesService.getSummary(eventId)).thenReturn(new EventSalesSummary(eventId, 10, new BigDecimal("200.00")));
 
 		Map<String, Object> result = bookingService.getTotalRevenueAndTicketsForEvent(eventId);
 
 		assertNotNull(result);
 		assertEquals(200.0, result.get("totalRevenue"));
 		assertEquals(10L, result.get("totalTicketsSold"));
+		verifyNoInteractions(bookingRepository, bookingPaymentsRepository);
 	}
 
 	@Test
 	void getTotalRevenueAndTicketsForEvent_EventNotFound() {
 		String eventId = "event1";
 
-		when(bookingPaymentsRepository.sumPaymentsByEventId(eventId)).thenReturn(null);
-		when(bookingRepository.sumTicketsByEventId(eventId)).thenReturn(null);
+		when(eventSalesService.getSummary(eventId)).thenReturn(new EventSalesSummary(eventId, 0, BigDecimal.ZERO));
 
 		Map<String, Object> result = bookingService.getTotalRevenueAndTicketsForEvent(eventId);
 
@@ -0,0 +1,207 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.cache.EventDetailsCache;
+import com.crimsonlogic.eventmanagement.entity.Events;
+import com.crimsonlogic.eventmanagement.mapper.EventMapper;
+import com.crimsonlogic.eventmanagement.payload.CatalogImportResultDto;
+import com.crimsonlogic.eventmanagement.payload.EventCatalogRowDto;
+import com.crimsonlogic.eventmanagement.payload.TicketPriceDto;
+import com.crimsonlogic.eventmanagement.repository.EventRepository;
+import com.crimsonlogic.eventmanagement.repository.SponsorRepository;
+import com.crimsonlogic.eventmanagement.repository.TicketPriceRepository;
+import com.crimsonlogic.eventmanagement.service.EventSalesService;
+import com.crimsonlogic.eventmanagement.service.EventService;
+import com.crimsonlogic.eventmanagement.service.EventServiceImpl;
+import com.crimsonlogic.eventmanagement.service.ImageStorageService;
+import com.crimsonlogic.eventmanagement.util.CatalogImportReader;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true" })
+@Import({ EventServiceImpl.class, EventMapper.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogImportTest {
+
+    private static final int EVENTS = 20;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketPriceRepository ticketPriceRepository;
+
+    @Autowired
+    private SponsorRepository sponsorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private EventDetailsCache eventDetailsCache;
+
+    @MockBean
+    private EventSalesService eventSalesService;
+
+    @MockBean
+    private ImageStorageService imageStorageService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sponsorRepository.deleteAll();
+        ticketPriceRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        eventRepository.saveAll(IntStream.range(0, EVENTS).mapToObj(i -> {
+            Events event = new Events();
+            event.setEventId("EVE-IMP" + i);
+            event.setEventName("Festival " + i);
+            return event;
+        }).toList());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void importCatalog_InsertsValidRowsInBatches() {
+        List<EventCatalogRowDto> rows = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            rows.add(new EventCatalogRowDto("EVE-IMP" + i, EventCatalogRowDto.TICKET_PRICE, "General", 20.0, null));
+            rows.add(new EventCatalogRowDto("EVE-IMP" + i, EventCatalogRowDto.TICKET_PRICE, "VIP", 80.0, null));
+            rows.add(new EventCatalogRowDto("EVE-IMP" + i, EventCatalogRowDto.SPONSOR, "Acme", null, "1234567890"));
+        }
+        rows.add(new EventCatalogRowDto("EVE-MISSING", EventCatalogRowDto.SPONSOR, "Acme", null, null));
+        rows.add(new EventCatalogRowDto("EVE-IMP0", EventCatalogRowDto.TICKET_PRICE, "Free", null, null));
+        rows.add(new EventCatalogRowDto("EVE-IMP0", "VENUE", "Hall", null, null));
+
+        CatalogImportResultDto result = eventService.importCatalog(rows.iterator());
+
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(2 * EVENTS, result.getTicketPricesAdded());
+        assertEquals(EVENTS, result.getSponsorsAdded());
+        assertEquals(3, result.getRowsRejected());
+        assertEquals(List.of(3L * EVENTS + 1, 3L * EVENTS + 2, 3L * EVENTS + 3),
+                result.getFailures().stream().map(failure -> failure.getRow()).toList());
+        assertEquals(2 * EVENTS, ticketPriceRepository.count());
+        assertEquals(EVENTS, sponsorRepository.count());
+        // Existence checks for the events and their entries, and one batched insert per table,
+        // however many rows and events
+        assertTrue(statements <= 5, "Expected at most 5 statements for the import but was " + statements);
+        verify(eventDetailsCache).evictAll(argThat(eventIds -> eventIds.contains("EVE-IMP7")));
+    }
+
+    @Test
+    void importCatalog_RerunSkipsImportedRows() {
+        List<EventCatalogRowDto> firstRun = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            firstRun.add(new EventCatalogRowDto("EVE-IMP" + (i % EVENTS), EventCatalogRowDto.TICKET_PRICE, "Tier " + i,
+                    10.0, null));
+        }
+        eventService.importCatalog(firstRun.iterator());
+
+        // The same file again, plus one new row and one repeated within the file
+        List<EventCatalogRowDto> rerun = new ArrayList<>(firstRun);
+        rerun.add(new EventCatalogRowDto("EVE-IMP0", EventCatalogRowDto.SPONSOR, "Acme", null, null));
+        rerun.add(new EventCatalogRowDto("EVE-IMP0", EventCatalogRowDto.SPONSOR, "Acme", null, null));
+        CatalogImportResultDto result = eventService.importCatalog(rerun.iterator());
+
+        assertEquals(0, result.getTicketPricesAdded());
+        assertEquals(1, result.getSponsorsAdded());
+        assertEquals(601, result.getRowsRejected());
+        assertEquals(601, result.getFailures().size());
+        assertEquals(600, ticketPriceRepository.count());
+        assertEquals(1, sponsorRepository.count());
+    }
+
+    @Test
+    void importCatalog_CommitsEachChunk() {
+        List<EventCatalogRowDto> rows = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            rows.add(new EventCatalogRowDto("EVE-IMP1", EventCatalogRowDto.TICKET_PRICE, "Tier " + i, 10.0, null));
+        }
+        rows.add(new EventCatalogRowDto("EVE-IMP2", EventCatalogRowDto.TICKET_PRICE, "General", 10.0, null));
+        Iterator<EventCatalogRowDto> source = rows.iterator();
+        Iterator<EventCatalogRowDto> slowUpload = new Iterator<>() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public EventCatalogRowDto next() {
+                if (++read == 501) {
+                    // Still reading the file, and the first chunk is already visible to other transactions
+                    assertEquals(500, ticketPriceRepository.count());
+                }
+                return source.next();
+            }
+        };
+
+        CatalogImportResultDto result = eventService.importCatalog(slowUpload);
+
+        assertEquals(501, result.getTicketPricesAdded());
+        assertEquals(501, ticketPriceRepository.count());
+    }
+
+    @Test
+    void importCatalog_ReportsMalformedLineAndContinues() {
+        StringBuilder csv = new StringBuilder("eventId,type,name,price,contactNumber\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append("EVE-IMP1,TICKET_PRICE,Tier ").append(i).append(",10,\n");
+        }
+        csv.append("EVE-IMP2,SPONSOR,\"Acme,,1234567890\n"); // First row of the second chunk
+        csv.append("EVE-IMP2,SPONSOR,Globex,,1234567890\n");
+
+        CatalogImportResultDto result = eventService.importCatalog(
+                CatalogImportReader.fromCsv(new StringReader(csv.toString())));
+
+        assertEquals(500, result.getTicketPricesAdded());
+        assertEquals(1, result.getSponsorsAdded());
+        assertEquals(1, result.getRowsRejected());
+        assertEquals(501L, result.getFailures().get(0).getRow());
+        assertTrue(result.getFailures().get(0).getReason().startsWith("Unterminated quoted field"));
+    }
+
+    @Test
+    void addTicketPricesBatch_LoadsEventOnce() {
+        List<TicketPriceDto> created = eventService.addTicketPricesBatch("EVE-IMP0", IntStream.range(0, 20)
+                .mapToObj(i -> new TicketPriceDto(null, "Tier " + i, 10.0 * i, null))
+                .toList());
+
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(20, created.size());
+        assertEquals(20, ticketPriceRepository.findByTicketForEvent_EventId("EVE-IMP0").size());
+        assertTrue(statements <= 2, "Expected at most 2 statements for the batch but was " + statements);
+    }
+}
@@ -1,20 +1,21 @@
 package com.crimsonlogic.eventmanagement.service.test;
 
+import com.crimsonlogic.eventmanagement.cache.CategorySnapshot;
 import com.crimsonlogic.eventmanagement.entity.EventCategories;
+import com.crimsonlogic.eventmanagement.mapper.EventCategoryMapper;
 import com.crimsonlogic.eventmanagement.payload.EventCategoryDto;
 import com.crimsonlogic.eventmanagement.repository.EventCategoryRepository;
 import com.crimsonlogic.eventmanagement.service.EventCategoryServiceImpl;
+import com.crimsonlogic.eventmanagement.service.ImageStorageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,38 +34,65 @@ class EventCategoryServiceImplTest {
     @Mock
     private EventCategoryRepository categoryRepository;
 
+    @Spy
+    private EventCategoryMapper categoryMapper;
+
     @Mock
-    private ModelMapper modelMapper;
+    private ImageStorageService imageStorageService;
 
     @Mock
     private MultipartFile imageFile;
 
     @BeforeEach
     void setUp() {
-       
+        eventCategoryService.imageStorageService = imageStorageService;
     }
 
     @Test
-    void getAllCategories() {
+    void getEnabledCategories() {
         List<EventCategories> categories = new ArrayList<>();
         EventCategories category = new EventCategories();
         category.setCategoryId("1");
         category.setCategoryName("Test Category");
+        category.setEnabled(true);
         categories.add(category);
 
-        when(categoryRepository.findAll()).thenReturn(categories);
-        when(modelMapper.map(any(EventCategories.class), eq(EventCategoryDto.class)))
-                .thenReturn(new EventCategoryDto());
+        when(categoryRepository.findByIsEnabledTrueOrderByCategoryNameAsc()).thenReturn(categories);
 
-        List<EventCategoryDto> result = eventCategoryService.getAllCategories();
+        CategorySnapshot result = eventCategoryService.getEnabledCategories();
 
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(categoryRepository, times(1)).findAll();
+        assertEquals(1, result.getCategories().size());
+        assertEquals("Test Category", result.getCategories().get(0).getCategoryName());
+        assertTrue(result.getEtag().matches("\"[0-9a-f]{32}\""));
+        verify(categoryRepository, times(1)).findByIsEnabledTrueOrderByCategoryNameAsc();
+        verify(categoryRepository, never()).findAll();
+    }
+
+    @Test
+    void getEnabledCategories_SnapshotReusedUntilCategoryChanges() {
+        EventCategories category = new EventCategories("1", "Music", "/images/music.png", null, null, true);
+        when(categoryRepository.findByIsEnabledTrueOrderByCategoryNameAsc())
+                .thenReturn(List.of(category))
+                .thenReturn(List.of(category, new EventCategories("2", "Sports", null, null, null, true)));
+
+        CategorySnapshot first = eventCategoryService.getEnabledCategories();
+        CategorySnapshot cached = eventCategoryService.getEnabledCategories();
+
+        assertSame(first, cached);
+        verify(categoryRepository, times(1)).findByIsEnabledTrueOrderByCategoryNameAsc();
+
+        when(categoryRepository.existsById("3")).thenReturn(true);
+        eventCategoryService.deleteCategory("3");
+        CategorySnapshot rebuilt = eventCategoryService.getEnabledCategories();
+
+        assertEquals(2, rebuilt.getCategories().size());
+        assertNotEquals(first.getEtag(), rebuilt.getEtag());
+        verify(categoryRepository, times(2)).findByIsEnabledTrueOrderByCategoryNameAsc();
     }
 
     @Test
-    void createCategory() throws IOException {
+    void createCategory() {
         EventCategoryDto categoryDto = new EventCategoryDto();
         categoryDto.setCategoryName("New Category");
 
@@ -74,16 +102,9 @@ class EventCategoryServiceImplTest {
         category.setCreatedAt(new Timestamp(System.currentTimeMillis()));
         category.setEnabled(true);
 
-        when(modelMapper.map(categoryDto, EventCategories.class)).thenReturn(category);
+        doReturn(category).when(categoryMapper).toEntity(categoryDto);
         when(categoryRepository.save(any(EventCategories.class))).thenReturn(category);
-        when(imageFile.getOriginalFilename()).thenReturn("test.jpg");
-
-        // Stub the void method correctly
-        doNothing().when(imageFile).transferTo(any(File.class));
-
-        // Here, we call the actual method rather than stubbing it
-        String imagePath = eventCategoryService.saveImageFile(imageFile);
-        when(eventCategoryService.saveImageFile(imageFile)).thenReturn(imagePath);
+        when(imageStorageService.store(imageFile)).thenReturn("/images/abc123.jpg");
 
         EventCategoryDto result = eventCategoryService.createCategory(categoryDto, imageFile);
 
@@ -93,7 +114,7 @@ class EventCategoryServiceImplTest {
     }
 
     @Test
-    void updateCategory() throws IOException {
+    void updateCategory() {
         String categoryId = "1";
         EventCategoryDto categoryDto = new EventCategoryDto();
         categoryDto.setCategoryName("Updated Category");
@@ -103,19 +124,16 @@ class EventCategoryServiceImplTest {
         existingCategory.setCategoryName("Old Category");
 
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
-        when(modelMapper.map(existingCategory, EventCategoryDto.class)).thenReturn(new EventCategoryDto());
-
-        when(imageFile.getOriginalFilename()).thenReturn("updated.jpg");
-        doNothing().when(imageFile).transferTo(any(File.class));
+        when(categoryRepository.save(existingCategory)).thenReturn(existingCategory);
 
-        // Call the actual method for image saving
-        String imagePath = eventCategoryService.saveImageFile(imageFile);
-        when(eventCategoryService.saveImageFile(imageFile)).thenReturn(imagePath);
+        when(imageFile.isEmpty()).thenReturn(false);
+        when(imageStorageService.store(imageFile)).thenReturn("/images/def456.jpg");
 
         EventCategoryDto result = eventCategoryService.updateCategory(categoryId, categoryDto, imageFile);
 
         assertNotNull(result);
         assertEquals("Updated Category", existingCategory.getCategoryName());
+        assertEquals("/images/def456.jpg", existingCategory.getImagePath());
         verify(categoryRepository, times(1)).save(existingCategory);
     }
 
@@ -0,0 +1,115 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.entity.BookingPayments;
+import com.crimsonlogic.eventmanagement.entity.Bookings;
+import com.crimsonlogic.eventmanagement.entity.EventSalesSummary;
+import com.crimsonlogic.eventmanagement.entity.Events;
+import com.crimsonlogic.eventmanagement.repository.BookingPaymentsRepository;
+import com.crimsonlogic.eventmanagement.repository.BookingRepository;
+import com.crimsonlogic.eventmanagement.repository.EventRepository;
+import com.crimsonlogic.eventmanagement.repository.EventSalesSummaryRepository;
+import com.crimsonlogic.eventmanagement.service.EventSalesService;
+import com.crimsonlogic.eventmanagement.service.EventSalesServiceImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(EventSalesServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventSalesServiceImplTest {
+
+    private static final String EVENT_ID = "EVE-SALES";
+
+    @Autowired
+    private EventSalesService eventSalesService;
+
+    @Autowired
+    private EventSalesSummaryRepository eventSalesSummaryRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingPaymentsRepository bookingPaymentsRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private Events event;
+
+    @BeforeEach
+    void setUp() {
+        eventSalesSummaryRepository.deleteAll();
+        bookingPaymentsRepository.deleteAll();
+        bookingRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        event = new Events();
+        event.setEventId(EVENT_ID);
+        eventRepository.save(event);
+    }
+
+    @Test
+    void getSummary_ComputesFromExistingBookingsWithoutWriting() {
+        addBooking("BKI-1", "CONFIRMED", 3, 300.0);
+        addBooking("BKI-2", "CONFIRMED", 1, 100.0);
+        addBooking("BKI-3", "CANCELLED", 2, 200.0);
+
+        EventSalesSummary summary = eventSalesService.getSummary(EVENT_ID);
+
+        assertEquals(4, summary.getTicketsSold());
+        assertEquals(0, new BigDecimal("500.00").compareTo(summary.getRevenue())); // Half of the cancelled 200 is kept
+        assertFalse(eventSalesSummaryRepository.existsById(EVENT_ID)); // Only a sale or cancellation seeds the row
+    }
+
+    @Test
+    void recordSaleAndCancellation_ApplyDeltas() {
+        addBooking("BKI-1", "CONFIRMED", 2, 80.0);
+
+        // Seeds from the committed booking, then applies the new one
+        eventSalesService.recordSale(EVENT_ID, 1, new BigDecimal("40"));
+        eventSalesService.recordCancellation(EVENT_ID, 2, new BigDecimal("40"));
+
+        EventSalesSummary summary = eventSalesService.getSummary(EVENT_ID);
+        assertEquals(1, summary.getTicketsSold());
+        assertEquals(0, new BigDecimal("80.00").compareTo(summary.getRevenue()));
+    }
+
+    @Test
+    void createSummary_FirstSaleUpdatesInPlace() {
+        eventSalesService.createSummary(EVENT_ID);
+        addBooking("BKI-1", "CONFIRMED", 2, 80.0); // Already counted below, so must not be seeded again
+
+        eventSalesService.recordSale(EVENT_ID, 2, new BigDecimal("80"));
+
+        EventSalesSummary summary = eventSalesService.getSummary(EVENT_ID);
+        assertEquals(2, summary.getTicketsSold());
+        assertEquals(0, new BigDecimal("80.00").compareTo(summary.getRevenue()));
+    }
+
+    @Test
+    void getSummary_UnknownEvent() {
+        EventSalesSummary summary = eventSalesService.getSummary("EVE-MISSING");
+
+        assertEquals(0, summary.getTicketsSold());
+        assertEquals(0, BigDecimal.ZERO.compareTo(summary.getRevenue()));
+        assertFalse(eventSalesSummaryRepository.existsById("EVE-MISSING"));
+    }
+
+    private void addBooking(String bookingId, String status, int tickets, double amount) {
+        Bookings booking = new Bookings(bookingId, new Timestamp(System.currentTimeMillis()), status, tickets, event, null);
+        bookingRepository.save(booking);
+        bookingPaymentsRepository.save(new BookingPayments("BPI-" + bookingId, amount, "SUCCESS", booking));
+    }
+}
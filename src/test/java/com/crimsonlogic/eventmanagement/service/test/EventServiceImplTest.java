@@ -1,33 +1,52 @@
 package com.crimsonlogic.eventmanagement.service.test;
 
+import com.crimsonlogic.eventmanagement.cache.EventDetailsCache;
 import com.crimsonlogic.eventmanagement.entity.EventCategories;
+import com.crimsonlogic.eventmanagement.entity.EventSalesSummary;
 import com.crimsonlogic.eventmanagement.entity.Events;
 import com.crimsonlogic.eventmanagement.entity.Sponsors;
 import com.crimsonlogic.eventmanagement.entity.TicketPrice;
 import com.crimsonlogic.eventmanagement.entity.UserDetails;
 import com.crimsonlogic.eventmanagement.entity.Venue;
+import com.crimsonlogic.eventmanagement.exception.EventNotFoundException;
+import com.crimsonlogic.eventmanagement.mapper.EventMapper;
 import com.crimsonlogic.eventmanagement.payload.EventDto;
 import com.crimsonlogic.eventmanagement.payload.SponsorDto;
 import com.crimsonlogic.eventmanagement.payload.TicketPriceDto;
 import com.crimsonlogic.eventmanagement.payload.VenueDto;
-import com.crimsonlogic.eventmanagement.repository.BookingRepository;
 import com.crimsonlogic.eventmanagement.repository.EventCategoryRepository;
 import com.crimsonlogic.eventmanagement.repository.EventRepository;
 import com.crimsonlogic.eventmanagement.repository.SponsorRepository;
 import com.crimsonlogic.eventmanagement.repository.TicketPriceRepository;
 import com.crimsonlogic.eventmanagement.repository.UserDetailsRepository;
 import com.crimsonlogic.eventmanagement.repository.VenueRepository;
+import com.crimsonlogic.eventmanagement.repository.VenueRepository.SeatAvailability;
+import com.crimsonlogic.eventmanagement.service.EventSalesService;
 import com.crimsonlogic.eventmanagement.service.EventServiceImpl;
+import com.crimsonlogic.eventmanagement.service.ImageStorageService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -43,8 +62,9 @@ class EventServiceImplTest {
     private SponsorRepository sponsorRepository;
     private TicketPriceRepository ticketPriceRepository;
     private VenueRepository venueRepository;
-    private BookingRepository bookingRepository;
-    private ModelMapper modelMapper;
+    private EventSalesService eventSalesService;
+    private ImageStorageService imageStorageService;
+    private EventMapper eventMapper;
 
     @BeforeEach
     void setUp() {
@@ -54,16 +74,20 @@ class EventServiceImplTest {
         sponsorRepository = Mockito.mock(SponsorRepository.class);
         ticketPriceRepository = Mockito.mock(TicketPriceRepository.class);
         venueRepository = Mockito.mock(VenueRepository.class);
-        bookingRepository = Mockito.mock(BookingRepository.class);
-        modelMapper = new ModelMapper();
+        eventSalesService = Mockito.mock(EventSalesService.class);
+        imageStorageService = Mockito.mock(ImageStorageService.class);
+        eventMapper = new EventMapper();
 
-        eventService = new EventServiceImpl(eventRepository, modelMapper);
+        eventService = new EventServiceImpl(eventRepository, eventMapper);
         eventService.eventCategoriesRepository = eventCategoryRepository;
         eventService.userDetailsRepository = userDetailsRepository;
         eventService.sponsorRepository = sponsorRepository;
         eventService.ticketPriceRepository = ticketPriceRepository;
         eventService.venueRepository = venueRepository;
-        eventService.bookingsRepository = bookingRepository;
+        eventService.eventSalesService = eventSalesService;
+        eventService.imageStorageService = imageStorageService;
+        eventService.detailsExecutor = Runnable::run;
+        eventService.eventDetailsCache = new EventDetailsCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
     }
 
     @Test
@@ -72,16 +96,16 @@ class EventServiceImplTest {
         Events event = new Events();
         event.setEventId("event-1");
         event.setEventName("Test Event");
-        when(eventRepository.findAll()).thenReturn(List.of(event));
+        when(eventRepository.findAll(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(event)));
 
         // Act
-        List<EventDto> events = eventService.getAllEvents();
+        List<EventDto> events = eventService.getAllEvents(Pageable.unpaged());
 
         // Assert
         assertNotNull(events);
         assertEquals(1, events.size());
         assertEquals("Test Event", events.get(0).getEventName());
-        verify(eventRepository).findAll();
+        verify(eventRepository).findAll(Pageable.unpaged());
     }
 
     @Test
@@ -91,15 +115,59 @@ class EventServiceImplTest {
         event.setEventId("event-1");
         event.setEventName("Future Event");
         event.setDate(LocalDate.now().plusDays(1)); // Set a future date
-        when(eventRepository.findAll()).thenReturn(List.of(event));
+        when(eventRepository.findUpcomingEvents(eq(LocalDate.now()), any(Pageable.class))).thenReturn(List.of(event));
 
         // Act
-        List<EventDto> events = eventService.getAllEventsByDate();
+        List<EventDto> events = eventService.getAllEventsByDate(null, 6);
 
         // Assert
         assertNotNull(events);
         assertEquals(1, events.size());
         assertEquals("Future Event", events.get(0).getEventName());
+        verify(eventRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetAllEventsByDate_AfterCursor() {
+        // Arrange
+        Events cursor = new Events();
+        cursor.setEventId("event-1");
+        cursor.setDate(LocalDate.now().plusDays(1));
+        cursor.setTime(LocalTime.NOON);
+
+        Events next = new Events();
+        next.setEventId("event-2");
+        next.setEventName("Next Event");
+        next.setDate(LocalDate.now().plusDays(2));
+
+        when(eventRepository.findById("event-1")).thenReturn(Optional.of(cursor));
+        when(eventRepository.findUpcomingEventsAfter(eq(LocalDate.now()), eq(cursor.getDate()), eq(LocalTime.NOON),
+                eq("event-1"), eq(PageRequest.of(0, 6)))).thenReturn(List.of(next));
+
+        // Act
+        List<EventDto> events = eventService.getAllEventsByDate("event-1", 6);
+
+        // Assert
+        assertEquals(1, events.size());
+        assertEquals("Next Event", events.get(0).getEventName());
+    }
+
+    @Test
+    void testGetAllEventsByDate_AfterCursorWithoutTime() {
+        // Arrange
+        Events cursor = new Events();
+        cursor.setEventId("event-1");
+        cursor.setDate(LocalDate.now().plusDays(1));
+
+        when(eventRepository.findById("event-1")).thenReturn(Optional.of(cursor));
+        when(eventRepository.findUpcomingEventsAfter(eq(LocalDate.now()), eq(cursor.getDate()), eq(LocalTime.MIDNIGHT),
+                eq("event-1"), eq(PageRequest.of(0, 6)))).thenReturn(List.of());
+
+        // Act
+        List<EventDto> events = eventService.getAllEventsByDate("event-1", 6);
+
+        // Assert
+        assertTrue(events.isEmpty());
     }
 
     @Test
@@ -141,15 +209,17 @@ class EventServiceImplTest {
 
         // Mock MultipartFile
         MultipartFile imageFile = Mockito.mock(MultipartFile.class);
-        when(imageFile.getOriginalFilename()).thenReturn("event-image.jpg");
-        
+        when(imageStorageService.store(imageFile)).thenReturn("/images/abc123.jpg");
+
         // Act
         EventDto createdEvent = eventService.createEvent(userDetailsId, eventDto, imageFile);
 
         // Assert
         assertNotNull(createdEvent);
         assertEquals("New Event", createdEvent.getEventName());
+        assertEquals("/images/abc123.jpg", createdEvent.getImagePath());
         verify(eventRepository).save(any(Events.class));
+        verify(eventSalesService).createSummary(createdEvent.getEventId());
     }
 
     @Test
@@ -192,6 +262,60 @@ class EventServiceImplTest {
         verify(ticketPriceRepository).save(any(TicketPrice.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAddTicketPricesBatch() {
+        // Arrange
+        String eventId = "event-1";
+        Events event = new Events();
+        event.setEventId(eventId);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+        // Act
+        List<TicketPriceDto> created = eventService.addTicketPricesBatch(eventId, List.of(
+                new TicketPriceDto(null, "VIP", 100.0, null),
+                new TicketPriceDto(null, "General", 40.0, null)));
+
+        // Assert
+        assertEquals(2, created.size());
+        assertNotNull(created.get(0).getTicketPriceId());
+        assertEquals(eventId, created.get(1).getEventId());
+        verify(eventRepository, times(1)).findById(eventId);
+        verify(ticketPriceRepository).saveAll(argThat(prices -> ((List<TicketPrice>) prices).size() == 2));
+        verify(ticketPriceRepository, never()).save(any(TicketPrice.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAddSponsorsBatch() {
+        // Arrange
+        String eventId = "event-1";
+        Events event = new Events();
+        event.setEventId(eventId);
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+        // Act
+        List<SponsorDto> created = eventService.addSponsorsBatch(eventId, List.of(
+                new SponsorDto(null, "Acme", "1234567890", null),
+                new SponsorDto(null, "Globex", "0987654321", null),
+                new SponsorDto(null, "Initech", "1112223334", null)));
+
+        // Assert
+        assertEquals(3, created.size());
+        assertEquals("Globex", created.get(1).getSponsorName());
+        verify(eventRepository, times(1)).findById(eventId);
+        verify(sponsorRepository).saveAll(argThat(sponsors -> ((List<Sponsors>) sponsors).size() == 3));
+    }
+
+    @Test
+    void testAddSponsorsBatch_EventNotFound() {
+        when(eventRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThrows(EventNotFoundException.class,
+                () -> eventService.addSponsorsBatch("missing", List.of(new SponsorDto())));
+        verify(sponsorRepository, never()).saveAll(any());
+    }
+
     @Test
     void testAddVenue() {
         // Arrange
@@ -247,7 +371,7 @@ class EventServiceImplTest {
         event.setEventId(eventId);
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(venueRepository.findByVenueForEvent(event)).thenReturn(venue);
+        when(venueRepository.findByVenueForEvent_EventId(eventId)).thenReturn(venue);
 
         // Act
         VenueDto venueDto = eventService.getVenueForEvent(eventId);
@@ -264,6 +388,10 @@ class EventServiceImplTest {
         Sponsors sponsor = new Sponsors();
         sponsor.setSponsorName("Test Sponsor");
 
+        Events event = new Events();
+        event.setEventId(eventId);
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
         when(sponsorRepository.findBySponsorForEvent_EventId(eventId)).thenReturn(List.of(sponsor));
 
         // Act
@@ -284,11 +412,18 @@ class EventServiceImplTest {
         event.setEventName("Test Event");
 
         Venue venue = new Venue();
-        venue.setCapacity(100);
+        venue.setVenueLocation("Main Hall");
+        venue.setCapacity(90);
+        venue.setTotalCapacity(100);
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(venueRepository.findByVenueForEvent(event)).thenReturn(venue);
-        when(bookingRepository.countByBookingForEvent(event)).thenReturn((int) 10L);
+        when(venueRepository.findByVenueForEvent_EventId(eventId)).thenReturn(venue);
+        when(ticketPriceRepository.findByTicketForEvent_EventId(eventId))
+                .thenReturn(List.of(new TicketPrice("TPI-1", "VIP", 99.0, event)));
+        when(sponsorRepository.findBySponsorForEvent_EventId(eventId))
+                .thenReturn(List.of(new Sponsors("SPI-1", "Acme", "1234567890", event)));
+        SeatAvailability seats = seats(90, 100, 10L);
+        when(venueRepository.findSeatAvailability(eventId)).thenReturn(Optional.of(seats));
 
         // Act
         EventDto eventDto = eventService.getEventDetails(eventId);
@@ -296,7 +431,230 @@ class EventServiceImplTest {
         // Assert
         assertNotNull(eventDto);
         assertEquals("Test Event", eventDto.getEventName());
+        assertEquals("Main Hall", eventDto.getVenue().getVenueLocation());
+        assertEquals(List.of(new TicketPriceDto("TPI-1", "VIP", 99.0, eventId)), eventDto.getTicketPrices());
+        assertEquals(List.of(new SponsorDto("SPI-1", "Acme", "1234567890", eventId)), eventDto.getSponsors());
         assertEquals(100, eventDto.getTotalCapacity());
         assertEquals(10, eventDto.getBookedTickets());
+        assertEquals(90, eventDto.getRemainingSeats());
+        verifyNoInteractions(eventSalesService);
+    }
+
+    @Test
+    void testGetEventDetails_WithoutSalesSummaryOrTotalCapacity() {
+        // Arrange
+        String eventId = "event-1";
+        Events event = new Events();
+        event.setEventId(eventId);
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(venueRepository.findByVenueForEvent_EventId(eventId)).thenReturn(new Venue());
+        SeatAvailability seats = seats(40, null, null);
+        when(venueRepository.findSeatAvailability(eventId)).thenReturn(Optional.of(seats));
+        when(eventSalesService.getSummary(eventId)).thenReturn(new EventSalesSummary(eventId, 60, BigDecimal.ZERO));
+
+        // Act
+        EventDto eventDto = eventService.getEventDetails(eventId);
+
+        // Assert
+        assertEquals(100, eventDto.getTotalCapacity());
+        assertEquals(60, eventDto.getBookedTickets());
+        assertEquals(40, eventDto.getRemainingSeats());
+    }
+
+    @Test
+    void testGetEventDetails_LookupsRunConcurrently() throws Exception {
+        // Arrange
+        String eventId = "event-1";
+        Events event = new Events();
+        event.setEventId(eventId);
+
+        // Every lookup waits for all the others, so this only completes if they run at the same time
+        CyclicBarrier allLookups = new CyclicBarrier(5);
+        when(eventRepository.findById(eventId)).thenAnswer(invocation -> {
+            allLookups.await(5, TimeUnit.SECONDS);
+            return Optional.of(event);
+        });
+        when(venueRepository.findByVenueForEvent_EventId(eventId)).thenAnswer(invocation -> {
+            allLookups.await(5, TimeUnit.SECONDS);
+            return new Venue();
+        });
+        when(ticketPriceRepository.findByTicketForEvent_EventId(eventId)).thenAnswer(invocation -> {
+            allLookups.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        when(sponsorRepository.findBySponsorForEvent_EventId(eventId)).thenAnswer(invocation -> {
+            allLookups.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        SeatAvailability seats = seats(40, 50, 10L);
+        when(venueRepository.findSeatAvailability(eventId)).thenAnswer(invocation -> {
+            allLookups.await(5, TimeUnit.SECONDS);
+            return Optional.of(seats);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        eventService.detailsExecutor = executor;
+        try {
+            // Act
+            EventDto eventDto = eventService.getEventDetails(eventId);
+
+            // Assert
+            assertEquals(40, eventDto.getRemainingSeats());
+            assertNotNull(eventDto.getVenue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetEventDetails_BusyPoolRunsLookupsOnCaller() throws Exception {
+        // Arrange
+        String eventId = "event-1";
+        Events event = new Events();
+        event.setEventId(eventId);
+        Thread caller = Thread.currentThread();
+        Set<Thread> lookupThreads = ConcurrentHashMap.newKeySet();
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(venueRepository.findByVenueForEvent_EventId(eventId)).thenAnswer(invocation -> {
+            lookupThreads.add(Thread.currentThread());
+            return new Venue();
+        });
+        when(ticketPriceRepository.findByTicketForEvent_EventId(eventId)).thenAnswer(invocation -> {
+            lookupThreads.add(Thread.currentThread());
+            return List.of();
+        });
+        when(sponsorRepository.findBySponsorForEvent_EventId(eventId)).thenAnswer(invocation -> {
+            lookupThreads.add(Thread.currentThread());
+            return List.of();
+        });
+        when(venueRepository.findSeatAvailability(eventId)).thenAnswer(invocation -> {
+            lookupThreads.add(Thread.currentThread());
+            return Optional.of(seats(40, 50, 10L));
+        });
+
+        // The only pool thread is busy, so nothing can be handed off
+        eventService.configureDetailsExecutor(1, 20);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch busy = new CountDownLatch(1);
+        eventService.detailsExecutor.execute(() -> {
+            busy.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        busy.await(5, TimeUnit.SECONDS);
+        try {
+            // Act
+            EventDto eventDto = eventService.getEventDetails(eventId);
+
+            // Assert
+            assertEquals(40, eventDto.getRemainingSeats());
+            assertEquals(Set.of(caller), lookupThreads);
+        } finally {
+            release.countDown();
+            eventService.shutdown();
+        }
+    }
+
+    @Test
+    void testGetEventDetails_NotFound() {
+        when(eventRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThrows(EventNotFoundException.class, () -> eventService.getEventDetails("missing"));
+    }
+
+    @Test
+    void testGetEventDetails_ServedFromCache() {
+        // Arrange
+        String eventId = "event-1";
+        Events event = new Events();
+        event.setEventId(eventId);
+        event.setEventName("Cached Event");
+
+        Venue venue = new Venue();
+        venue.setCapacity(50);
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(venueRepository.findByVenueForEvent_EventId(eventId)).thenReturn(venue);
+        SeatAvailability seats = seats(46, 50, 4L);
+        when(venueRepository.findSeatAvailability(eventId)).thenReturn(Optional.of(seats));
+
+        // Act
+        eventService.getEventDetails(eventId);
+        EventDto eventDto = eventService.getEventDetails(eventId);
+
+        // Assert
+        assertEquals("Cached Event", eventDto.getEventName());
+        assertEquals(4, eventDto.getBookedTickets());
+        verify(eventRepository, times(1)).findById(eventId);
+        verify(venueRepository, times(1)).findByVenueForEvent_EventId(eventId);
+        verify(venueRepository, times(2)).findSeatAvailability(eventId); // Seats are always read fresh
+    }
+
+    @Test
+    void testGetEventDetails_CachedDetailsAreNotShared() {
+        // Arrange
+        String eventId = "event-1";
+        Events event = new Events();
+        event.setEventId(eventId);
+        event.setEventName("Cached Event");
+
+        Venue venue = new Venue();
+        venue.setVenueLocation("Main Hall");
+        venue.setCapacity(50);
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(venueRepository.findByVenueForEvent_EventId(eventId)).thenReturn(venue);
+        when(ticketPriceRepository.findByTicketForEvent_EventId(eventId))
+                .thenReturn(List.of(new TicketPrice("TPI-1", "VIP", 99.0, event)));
+        when(venueRepository.findSeatAvailability(eventId)).thenReturn(Optional.empty());
+
+        // Act: one caller changes what it got, and the loaded entities change afterwards
+        EventDto first = eventService.getEventDetails(eventId);
+        first.setEventName("Changed");
+        first.getVenue().setVenueLocation("Changed");
+        first.getTicketPrices().clear();
+        event.setEventName("Changed");
+        venue.setVenueLocation("Changed");
+        EventDto second = eventService.getEventDetails(eventId);
+
+        // Assert
+        assertEquals("Cached Event", second.getEventName());
+        assertEquals("Main Hall", second.getVenue().getVenueLocation());
+        assertEquals(List.of(new TicketPriceDto("TPI-1", "VIP", 99.0, eventId)), second.getTicketPrices());
+        verify(eventRepository, times(1)).findById(eventId);
+    }
+
+    @Test
+    void testAddVenue_EvictsCachedDetails() {
+        // Arrange
+        String eventId = "event-1";
+        Events event = new Events();
+        event.setEventId(eventId);
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(venueRepository.findByVenueForEvent_EventId(eventId)).thenReturn(null);
+        eventService.getVenueForEvent(eventId);
+
+        VenueDto venueDto = new VenueDto();
+        venueDto.setVenueLocation("New Venue");
+
+        // Act
+        eventService.addVenue(eventId, venueDto);
+        eventService.getVenueForEvent(eventId);
+
+        // Assert
+        verify(venueRepository, times(2)).findByVenueForEvent_EventId(eventId);
+    }
+
+    private static SeatAvailability seats(int remainingSeats, Integer totalCapacity, Long ticketsSold) {
+        SeatAvailability seats = Mockito.mock(SeatAvailability.class);
+        when(seats.getRemainingSeats()).thenReturn(remainingSeats);
+        when(seats.getTotalCapacity()).thenReturn(totalCapacity);
+        when(seats.getTicketsSold()).thenReturn(ticketsSold);
+        return seats;
     }
 }
@@ -0,0 +1,121 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.exception.ImageStorageException;
+import com.crimsonlogic.eventmanagement.service.ImageStorageServiceImpl;
+import com.crimsonlogic.eventmanagement.service.ImageThumbnailService;
+import com.crimsonlogic.eventmanagement.service.ImageThumbnailServiceImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ImageStorageServiceImplTest {
+
+    @TempDir
+    Path storageDir;
+
+    private ImageStorageServiceImpl imageStorageService;
+    private ImageThumbnailService imageThumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        imageThumbnailService = Mockito.mock(ImageThumbnailService.class);
+        imageStorageService = new ImageStorageServiceImpl(storageDir.toString());
+        imageStorageService.imageThumbnailService = imageThumbnailService;
+    }
+
+    @Test
+    void store_NamesFileByContentHash() throws IOException {
+        byte[] content = "first image".getBytes(StandardCharsets.UTF_8);
+
+        String url = imageStorageService.store(new MockMultipartFile("image", "Poster.JPG", "image/jpeg", content));
+
+        assertTrue(url.matches("/images/[0-9a-f]{64}\\.jpg"), url);
+        Path stored = storageDir.resolve(url.substring("/images/".length()));
+        assertArrayEquals(content, Files.readAllBytes(stored));
+        verify(imageThumbnailService).generateThumbnail(stored);
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    void store_SameContentIsStoredOnce() throws IOException {
+        byte[] content = "same image".getBytes(StandardCharsets.UTF_8);
+
+        String first = imageStorageService.store(new MockMultipartFile("image", "a.png", "image/png", content));
+        String second = imageStorageService.store(new MockMultipartFile("image", "b.png", "image/png", content));
+
+        assertEquals(first, second);
+        assertEquals(1, countFiles());
+        verify(imageThumbnailService, times(1)).generateThumbnail(any(Path.class));
+    }
+
+    @Test
+    void store_SameNameDifferentContentDoesNotOverwrite() throws IOException {
+        String first = imageStorageService.store(new MockMultipartFile("image", "event.png", "image/png",
+                "one".getBytes(StandardCharsets.UTF_8)));
+        String second = imageStorageService.store(new MockMultipartFile("image", "event.png", "image/png",
+                "two".getBytes(StandardCharsets.UTF_8)));
+
+        assertNotEquals(first, second);
+        assertEquals(2, countFiles());
+    }
+
+    @Test
+    void store_RejectsUnsupportedAndEmptyFiles() throws IOException {
+        assertThrows(ImageStorageException.class, () -> imageStorageService.store(
+                new MockMultipartFile("image", "script.sh", "text/plain", "echo".getBytes(StandardCharsets.UTF_8))));
+        assertThrows(ImageStorageException.class, () -> imageStorageService.store(
+                new MockMultipartFile("image", "empty.png", "image/png", new byte[0])));
+
+        assertEquals(0, countFiles());
+        verifyNoInteractions(imageThumbnailService);
+    }
+
+    @Test
+    void resolve_RejectsNamesOutsideStorage() {
+        assertEquals(storageDir.toAbsolutePath().resolve("abc.png"), imageStorageService.resolve("abc.png"));
+        assertThrows(ImageStorageException.class, () -> imageStorageService.resolve("../secret.png"));
+        assertThrows(ImageStorageException.class, () -> imageStorageService.resolve("thumbs/../../secret.png"));
+    }
+
+    @Test
+    void writeThumbnail_ScalesToConfiguredWidth() throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_ARGB), "png", png);
+        String url = imageStorageService.store(new MockMultipartFile("image", "wide.png", "image/png", png.toByteArray()));
+        Path stored = storageDir.resolve(url.substring("/images/".length()));
+
+        ImageThumbnailServiceImpl thumbnailService = new ImageThumbnailServiceImpl(200, 1, 1);
+        try {
+            thumbnailService.writeThumbnail(stored);
+        } finally {
+            thumbnailService.shutdown();
+        }
+
+        BufferedImage thumbnail = ImageIO.read(
+                storageDir.resolve(ImageThumbnailServiceImpl.THUMBNAIL_DIRECTORY).resolve(stored.getFileName()).toFile());
+        assertEquals(200, thumbnail.getWidth());
+        assertEquals(100, thumbnail.getHeight());
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(storageDir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.entity.EventSalesSummary;
+import com.crimsonlogic.eventmanagement.repository.EventSalesSummaryRepository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts from the schema ddl-auto=update created before Flyway, migrates it
+ * the way the prod profile does (baselined at V1) and lets Hibernate validate
+ * the entities against the result.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:legacy;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1",
+        "spring.jpa.hibernate.ddl-auto=validate" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LegacySchemaMigrationTest {
+
+    @TestConfiguration
+    static class LegacySchema {
+
+        @Bean
+        FlywayMigrationStrategy legacySchemaFirst() {
+            return flyway -> {
+                new ResourceDatabasePopulator(new ClassPathResource("db/legacy/pre_flyway_schema.sql"))
+                        .execute(flyway.getConfiguration().getDataSource());
+                flyway.migrate();
+            };
+        }
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventSalesSummaryRepository eventSalesSummaryRepository;
+
+    @Test
+    void migrate_BaselinesAtV1AndAppliesTheRest() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertEquals("<< Flyway Baseline >>", applied[0].getDescription());
+        assertEquals(Arrays.asList("1", "2"), Arrays.stream(applied)
+                .map(migration -> migration.getVersion().getVersion())
+                .toList());
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void migrate_WidensIdColumns() {
+        jdbcTemplate.update("insert into user_authentication (user_id, email, password) values (?, ?, ?)",
+                "URI-1234567890123456", "widened@example.com", "secret");
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from user_authentication where user_id = 'URI-1234567890123456'", Integer.class));
+    }
+
+    @Test
+    void migrate_BackfillsTotalCapacityFromBookedSeats() {
+        assertEquals(100, jdbcTemplate.queryForObject(
+                "select total_capacity from venue where venue_id = 'VEN-LEG01'", Integer.class));
+    }
+
+    @Test
+    void migrate_SeedsSalesSummariesFromBookings() {
+        EventSalesSummary booked = eventSalesSummaryRepository.findById("EVE-LEG01").orElseThrow();
+        EventSalesSummary quiet = eventSalesSummaryRepository.findById("EVE-LEG02").orElseThrow();
+
+        // Confirmed payments in full, half of the cancelled one
+        assertEquals(5, booked.getTicketsSold());
+        assertEquals(new BigDecimal("700.00"), booked.getRevenue());
+        assertEquals(0, quiet.getTicketsSold());
+        assertEquals(new BigDecimal("0.00"), quiet.getRevenue());
+    }
+
+    @Test
+    void migrate_CreatesIndexes() {
+        assertEquals(5, jdbcTemplate.queryForObject("select count(*) from information_schema.indexes where index_name in "
+                + "('idx_roles_name_user', 'idx_wallet_ledger_wallet_date', 'idx_events_date_time', 'idx_venue_event', "
+                + "'idx_bookings_made_by_date')", Integer.class));
+    }
+}
@@ -0,0 +1,116 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.cache.PrincipalCache;
+import com.crimsonlogic.eventmanagement.entity.Role;
+import com.crimsonlogic.eventmanagement.entity.UserAuthentication;
+import com.crimsonlogic.eventmanagement.entity.UserDetails;
+import com.crimsonlogic.eventmanagement.payload.UserDetailsDto;
+import com.crimsonlogic.eventmanagement.repository.RoleRepository;
+import com.crimsonlogic.eventmanagement.repository.UserAuthenticationRepository;
+import com.crimsonlogic.eventmanagement.repository.UserAuthenticationRepository.SignInPrincipal;
+import com.crimsonlogic.eventmanagement.repository.UserDetailsRepository;
+import com.crimsonlogic.eventmanagement.service.PasswordHashingService;
+import com.crimsonlogic.eventmanagement.service.UserDetailsServiceImpl;
+import com.crimsonlogic.eventmanagement.service.WalletService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(UserDetailsServiceImpl.class)
+class OrganizerQueryTest {
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserDetailsRepository userDetailsRepository;
+
+    @Autowired
+    private UserAuthenticationRepository userAuthenticationRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @MockBean
+    private WalletService walletService;
+
+    @MockBean
+    private PrincipalCache principalCache;
+
+    @MockBean
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        addUser("1", "Alice", "organizer", true);
+        addUser("2", "Bob", "organizer", false);
+        addUser("3", "Carol", "organizer", null);
+        addUser("4", "Dave", "customer", true);
+        addUser("5", "Erin", "admin", true);
+    }
+
+    @Test
+    void getOrganizers_All() {
+        Page<UserDetailsDto> organizers = userDetailsService.getOrganizers(null, Pageable.unpaged());
+
+        assertEquals(List.of("Alice", "Bob", "Carol"), organizers.map(UserDetailsDto::getFullName).getContent());
+        UserDetailsDto alice = organizers.getContent().get(0);
+        assertEquals("alice@example.com", alice.getEmail());
+        assertEquals("1990-01-01", alice.getDateOfBirth());
+    }
+
+    @Test
+    void getOrganizers_AwaitingApproval() {
+        Page<UserDetailsDto> pending = userDetailsService.getOrganizers(false, Pageable.unpaged());
+
+        assertEquals(List.of("Bob", "Carol"), pending.map(UserDetailsDto::getFullName).getContent());
+    }
+
+    @Test
+    void getOrganizers_Paged() {
+        Page<UserDetailsDto> page = userDetailsService.getOrganizers(null, PageRequest.of(1, 2));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of("Carol"), page.map(UserDetailsDto::getFullName).getContent());
+    }
+
+    @Test
+    void findSignInPrincipal_JoinsDetailsAndRole() {
+        SignInPrincipal principal = userAuthenticationRepository.findSignInPrincipal("carol@example.com").orElseThrow();
+
+        assertEquals("URI-3", principal.getUserId());
+        assertEquals("secret", principal.getPassword());
+        assertEquals("UDI-3", principal.getUserDetailsId());
+        assertNull(principal.getApproved());
+        assertEquals("organizer", principal.getRoleName());
+        assertTrue(userAuthenticationRepository.findSignInPrincipal("nobody@example.com").isEmpty());
+    }
+
+    @Test
+    void userAuthentication_EmailIsUnique() {
+        assertThrows(DataIntegrityViolationException.class, () -> userAuthenticationRepository.saveAndFlush(
+                new UserAuthentication("URI-6", "alice@example.com", "other")));
+    }
+
+    private void addUser(String id, String name, String roleName, Boolean approved) {
+        UserAuthentication auth = userAuthenticationRepository.save(
+                new UserAuthentication("URI-" + id, name.toLowerCase() + "@example.com", "secret"));
+        userDetailsRepository.save(new UserDetails("UDI-" + id, name, "9999999999", null, LocalDate.of(1990, 1, 1),
+                approved, null, auth));
+        roleRepository.save(new Role("RLI-" + id, roleName, auth));
+    }
+}
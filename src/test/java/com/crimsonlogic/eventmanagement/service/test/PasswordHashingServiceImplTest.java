@@ -0,0 +1,88 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.exception.PasswordHashingUnavailableException;
+import com.crimsonlogic.eventmanagement.service.PasswordHashingServiceImpl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceImplTest {
+
+    private PasswordHashingServiceImpl passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        // Lowest bcrypt cost, to keep the tests fast
+        passwordHashingService = new PasswordHashingServiceImpl(5, Duration.ZERO, 2, 10, Duration.ofSeconds(5), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    void hash_MatchesOnlyTheOriginalPassword() {
+        String hash = passwordHashingService.hash("secret");
+
+        assertNotEquals("secret", hash);
+        assertTrue(passwordHashingService.matches("secret", hash));
+        assertFalse(passwordHashingService.matches("other", hash));
+        assertFalse(passwordHashingService.needsRehash(hash));
+    }
+
+    @Test
+    void matches_LegacyPlaintextPassword() {
+        assertTrue(passwordHashingService.matches("secret", "secret"));
+        assertFalse(passwordHashingService.matches("other", "secret"));
+        assertFalse(passwordHashingService.matches(null, "secret"));
+        assertTrue(passwordHashingService.needsRehash("secret"));
+    }
+
+    @Test
+    void needsRehash_LowerCostHash() {
+        assertTrue(passwordHashingService.needsRehash(BCrypt.hashpw("secret", BCrypt.gensalt(4))));
+        assertFalse(passwordHashingService.needsRehash(BCrypt.hashpw("secret", BCrypt.gensalt(6))));
+    }
+
+    @Test
+    void hashForImport_HashesAtImportCostAndKeepsExistingHashes() {
+        String existing = BCrypt.hashpw("kept", BCrypt.gensalt(6));
+
+        List<String> hashes = passwordHashingService.hashForImport(List.of("a", "b", existing, "c"));
+
+        assertEquals(4, hashes.size());
+        assertTrue(passwordHashingService.matches("a", hashes.get(0)));
+        assertTrue(passwordHashingService.matches("b", hashes.get(1)));
+        assertEquals(existing, hashes.get(2));
+        assertTrue(passwordHashingService.matches("c", hashes.get(3)));
+        // Imported at cost 4, so the first sign-in raises it to the configured cost
+        assertTrue(hashes.get(0).startsWith("$2a$04$"));
+        assertTrue(passwordHashingService.needsRehash(hashes.get(0)));
+    }
+
+    @Test
+    void calibrate_StaysWithinBounds() {
+        assertEquals(PasswordHashingServiceImpl.MIN_COST, PasswordHashingServiceImpl.calibrate(Duration.ZERO));
+
+        int cost = PasswordHashingServiceImpl.calibrate(Duration.ofMillis(100));
+        assertTrue(cost >= PasswordHashingServiceImpl.MIN_COST && cost <= PasswordHashingServiceImpl.MAX_COST);
+    }
+
+    @Test
+    void hash_TimesOutWhenHashingIsTooSlow() {
+        PasswordHashingServiceImpl slow = new PasswordHashingServiceImpl(12, Duration.ZERO, 1, 10, Duration.ofMillis(1), 4);
+        try {
+            assertThrows(PasswordHashingUnavailableException.class, () -> slow.hash("secret"));
+        } finally {
+            slow.shutdown();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.entity.UserAuthentication;
+import com.crimsonlogic.eventmanagement.repository.UserAuthenticationRepository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations the prod profile uses and lets Hibernate validate
+ * the entities against them, so a mapping change without a migration fails here.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migration;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private UserAuthenticationRepository userAuthenticationRepository;
+
+    @Test
+    void migrate_AppliesEveryVersion() {
+        assertEquals(Arrays.asList("1", "2"), Arrays.stream(flyway.info().applied())
+                .map(migration -> migration.getVersion().getVersion())
+                .toList());
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void migrate_EmailIsUnique() {
+        userAuthenticationRepository.saveAndFlush(new UserAuthentication("URI-MIG01", "same@example.com", "secret"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> userAuthenticationRepository
+                .saveAndFlush(new UserAuthentication("URI-MIG02", "same@example.com", "secret")));
+    }
+}
@@ -0,0 +1,123 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.entity.Events;
+import com.crimsonlogic.eventmanagement.entity.Venue;
+import com.crimsonlogic.eventmanagement.exception.InsufficientCapacityException;
+import com.crimsonlogic.eventmanagement.repository.EventRepository;
+import com.crimsonlogic.eventmanagement.repository.VenueRepository;
+import com.crimsonlogic.eventmanagement.service.SeatInventoryService;
+import com.crimsonlogic.eventmanagement.service.SeatInventoryServiceImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(SeatInventoryServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatInventoryServiceImplTest {
+
+    private static final int CAPACITY = 1000;
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 100;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    private String eventId;
+
+    @BeforeEach
+    void setUp() {
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        Events event = new Events();
+        event.setEventId("EVE-SEAT01");
+        event.setEventName("Flash Sale");
+        event.setDate(LocalDate.now().plusDays(7));
+        eventRepository.save(event);
+        eventId = event.getEventId();
+
+        Venue venue = new Venue();
+        venue.setVenueId("VEI-SEAT01");
+        venue.setVenueLocation("Main Hall");
+        venue.setCapacity(CAPACITY);
+        venue.setVenueForEvent(event);
+        venueRepository.save(venue);
+    }
+
+    @Test
+    void reserveSeats_ConcurrentBookingsNeverOversell() throws Exception {
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    int seats = (i % 3) + 1; // Mix of 1, 2 and 3 seat bookings
+                    try {
+                        seatInventoryService.reserveSeats(eventId, seats);
+                        reserved.addAndGet(seats);
+                    } catch (InsufficientCapacityException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        int remaining = venueRepository.findById("VEI-SEAT01").orElseThrow().getCapacity();
+
+        assertTrue(rejected.get() > 0, "Demand exceeds capacity, so some bookings must be rejected");
+        assertTrue(remaining >= 0 && remaining < 3, "Capacity must never go negative");
+        assertEquals(CAPACITY, reserved.get() + remaining);
+    }
+
+    @Test
+    void reserveSeats_InsufficientCapacity() {
+        assertThrows(InsufficientCapacityException.class,
+                () -> seatInventoryService.reserveSeats(eventId, CAPACITY + 1));
+
+        assertEquals(CAPACITY, venueRepository.findById("VEI-SEAT01").orElseThrow().getCapacity());
+    }
+
+    @Test
+    void releaseSeats_RestoresCapacity() {
+        seatInventoryService.reserveSeats(eventId, 10);
+        seatInventoryService.releaseSeats(eventId, 10);
+
+        assertEquals(CAPACITY, venueRepository.findById("VEI-SEAT01").orElseThrow().getCapacity());
+    }
+}
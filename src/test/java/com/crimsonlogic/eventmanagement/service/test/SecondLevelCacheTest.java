@@ -0,0 +1,122 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.entity.EventCategories;
+import com.crimsonlogic.eventmanagement.entity.Events;
+import com.crimsonlogic.eventmanagement.entity.Sponsors;
+import com.crimsonlogic.eventmanagement.entity.TicketPrice;
+import com.crimsonlogic.eventmanagement.repository.EventCategoryRepository;
+import com.crimsonlogic.eventmanagement.repository.EventRepository;
+import com.crimsonlogic.eventmanagement.repository.SponsorRepository;
+import com.crimsonlogic.eventmanagement.repository.TicketPriceRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EventCategoryRepository eventCategoryRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketPriceRepository ticketPriceRepository;
+
+    @Autowired
+    private SponsorRepository sponsorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Events event;
+
+    @BeforeEach
+    void setUp() {
+        sponsorRepository.deleteAll();
+        ticketPriceRepository.deleteAll();
+        eventRepository.deleteAll();
+        eventCategoryRepository.deleteAll();
+
+        eventCategoryRepository.save(new EventCategories("CAT-L2C01", "Music", "/images/music.png",
+                new Timestamp(System.currentTimeMillis()), null, true));
+
+        event = new Events();
+        event.setEventId("EVE-L2C01");
+        event.setEventName("Cached Concert");
+        eventRepository.save(event);
+        ticketPriceRepository.save(new TicketPrice("TPI-L2C01", "VIP", 99.0, event));
+        sponsorRepository.save(new Sponsors("SPI-L2C01", "Acme", "1234567890", event));
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findById_SecondReadIsServedFromCache() {
+        eventCategoryRepository.findById("CAT-L2C01").orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        EventCategories category = eventCategoryRepository.findById("CAT-L2C01").orElseThrow();
+
+        assertEquals("Music", category.getCategoryName());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("eventCategories").getHitCount());
+    }
+
+    @Test
+    void findByEvent_RepeatedQueryIsServedFromQueryCache() {
+        ticketPriceRepository.findByTicketForEvent_EventId("EVE-L2C01");
+        long statements = statistics.getPrepareStatementCount();
+
+        List<TicketPrice> prices = ticketPriceRepository.findByTicketForEvent_EventId("EVE-L2C01");
+
+        // The prices and the ID of their (uncached) event both come from the cache
+        assertEquals(1, prices.size());
+        assertEquals("EVE-L2C01", prices.get(0).getTicketForEvent().getEventId());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void findSponsorsByEvent_RepeatedQueryIsServedFromQueryCache() {
+        sponsorRepository.findBySponsorForEvent_EventId("EVE-L2C01");
+        long statements = statistics.getPrepareStatementCount();
+
+        List<Sponsors> sponsors = sponsorRepository.findBySponsorForEvent_EventId("EVE-L2C01");
+
+        assertEquals(1, sponsors.size());
+        assertEquals("EVE-L2C01", sponsors.get(0).getSponsorForEvent().getEventId());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByEvent_WriteInvalidatesQueryCache() {
+        ticketPriceRepository.findByTicketForEvent_EventId("EVE-L2C01");
+        ticketPriceRepository.save(new TicketPrice("TPI-L2C02", "General", 25.0, event));
+
+        List<TicketPrice> prices = ticketPriceRepository.findByTicketForEvent_EventId("EVE-L2C01");
+
+        assertEquals(2, prices.size());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+}
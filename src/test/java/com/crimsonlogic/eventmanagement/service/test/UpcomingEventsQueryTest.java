@@ -0,0 +1,87 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.entity.Events;
+import com.crimsonlogic.eventmanagement.repository.EventRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class UpcomingEventsQueryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        addEvent("EVE-A", TODAY.plusDays(1), null);
+        addEvent("EVE-B", TODAY.plusDays(1), LocalTime.of(9, 0));
+        addEvent("EVE-C", TODAY.plusDays(1), null);
+        addEvent("EVE-D", TODAY.plusDays(2), null);
+        addEvent("EVE-E", TODAY.plusDays(2), LocalTime.of(18, 30));
+        addEvent("EVE-PAST", TODAY, LocalTime.NOON);
+    }
+
+    @Test
+    void findUpcomingEvents_SortsEventsWithoutTimeAsMidnight() {
+        List<Events> events = eventRepository.findUpcomingEvents(TODAY, Pageable.unpaged());
+
+        assertEquals(List.of("EVE-A", "EVE-C", "EVE-B", "EVE-D", "EVE-E"), ids(events));
+    }
+
+    @Test
+    void findUpcomingEventsAfter_ContinuesFromEventWithoutTime() {
+        Pageable page = PageRequest.of(0, 2);
+        List<Events> first = eventRepository.findUpcomingEvents(TODAY, page);
+        Events last = first.get(first.size() - 1);
+        assertNull(last.getTime(), "the first page must end on an event without a time");
+
+        List<Events> second = eventRepository.findUpcomingEventsAfter(TODAY, last.getDate(), LocalTime.MIDNIGHT,
+                last.getEventId(), page);
+
+        assertEquals(List.of("EVE-A", "EVE-C"), ids(first));
+        assertEquals(List.of("EVE-B", "EVE-D"), ids(second));
+    }
+
+    @Test
+    void findUpcomingEventsAfter_WalksEveryEventOnce() {
+        Pageable page = PageRequest.of(0, 1);
+        List<String> seen = new ArrayList<>();
+        List<Events> events = eventRepository.findUpcomingEvents(TODAY, page);
+        while (!events.isEmpty()) {
+            Events last = events.get(0);
+            seen.add(last.getEventId());
+            LocalTime afterTime = last.getTime() != null ? last.getTime() : LocalTime.MIDNIGHT;
+            events = eventRepository.findUpcomingEventsAfter(TODAY, last.getDate(), afterTime, last.getEventId(),
+                    page);
+        }
+
+        assertEquals(List.of("EVE-A", "EVE-C", "EVE-B", "EVE-D", "EVE-E"), seen);
+    }
+
+    private void addEvent(String id, LocalDate date, LocalTime time) {
+        Events event = new Events();
+        event.setEventId(id);
+        event.setEventName(id);
+        event.setDate(date);
+        event.setTime(time);
+        eventRepository.save(event);
+    }
+
+    private static List<String> ids(List<Events> events) {
+        return events.stream().map(Events::getEventId).toList();
+    }
+}
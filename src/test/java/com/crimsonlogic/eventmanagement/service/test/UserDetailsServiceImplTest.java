@@ -1,21 +1,29 @@
 package com.crimsonlogic.eventmanagement.service.test;
 
-import com.crimsonlogic.eventmanagement.entity.Role;
+import com.crimsonlogic.eventmanagement.cache.PrincipalCache;
 import com.crimsonlogic.eventmanagement.entity.UserAuthentication;
 import com.crimsonlogic.eventmanagement.entity.UserDetails;
 import com.crimsonlogic.eventmanagement.entity.Wallet;
+import com.crimsonlogic.eventmanagement.entity.WalletLedgerEntry;
+import com.crimsonlogic.eventmanagement.exception.WalletNotFoundException;
 import com.crimsonlogic.eventmanagement.payload.UserDetailsDto;
-import com.crimsonlogic.eventmanagement.repository.RoleRepository;
 import com.crimsonlogic.eventmanagement.repository.UserAuthenticationRepository;
 import com.crimsonlogic.eventmanagement.repository.UserDetailsRepository;
 import com.crimsonlogic.eventmanagement.repository.WalletRepository;
+import com.crimsonlogic.eventmanagement.service.PasswordHashingService;
 import com.crimsonlogic.eventmanagement.service.UserDetailsServiceImpl;
+import com.crimsonlogic.eventmanagement.service.WalletService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -30,21 +38,27 @@ class UserDetailsServiceImplTest {
 
     private UserDetailsRepository userDetailsRepository;
     private WalletRepository walletRepository;
-    private RoleRepository roleRepository;
     private UserAuthenticationRepository userAuthenticationRepository;
+    private WalletService walletService;
+    private PrincipalCache principalCache;
+    private PasswordHashingService passwordHashingService;
 
     @BeforeEach
     void setUp() {
         userDetailsRepository = Mockito.mock(UserDetailsRepository.class);
         walletRepository = Mockito.mock(WalletRepository.class);
-        roleRepository = Mockito.mock(RoleRepository.class);
         userAuthenticationRepository = Mockito.mock(UserAuthenticationRepository.class);
+        walletService = Mockito.mock(WalletService.class);
+        principalCache = Mockito.mock(PrincipalCache.class);
+        passwordHashingService = Mockito.mock(PasswordHashingService.class);
 
         userDetailsService = new UserDetailsServiceImpl();
         userDetailsService.userDetailsRepository = userDetailsRepository;
         userDetailsService.walletRepository = walletRepository;
-        userDetailsService.roleRepository = roleRepository;
         userDetailsService.userAuthenticationRepository = userAuthenticationRepository;
+        userDetailsService.walletService = walletService;
+        userDetailsService.principalCache = principalCache;
+        userDetailsService.passwordHashingService = passwordHashingService;
     }
 
     @Test
@@ -64,7 +78,7 @@ class UserDetailsServiceImplTest {
         userDetails.setDetailsOfUser(userAuth);
         
         Wallet wallet = new Wallet();
-        wallet.setAmount(100.0);
+        wallet.setAmount(BigDecimal.valueOf(100.0));
         
         when(userDetailsRepository.findById(userDetailsId)).thenReturn(Optional.of(userDetails));
         when(walletRepository.findByWalletForUser(userDetails)).thenReturn(wallet);
@@ -151,17 +165,21 @@ class UserDetailsServiceImplTest {
 
         UserDetails userDetails = new UserDetails();
         UserAuthentication userAuth = new UserAuthentication();
+        userAuth.setEmail("john@example.com");
         userAuth.setPassword(currentPassword);
         userDetails.setDetailsOfUser(userAuth);
 
         when(userDetailsRepository.findById(userDetailsId)).thenReturn(Optional.of(userDetails));
+        when(passwordHashingService.matches(currentPassword, currentPassword)).thenReturn(true);
+        when(passwordHashingService.hash(newPassword)).thenReturn("hashedNewPassword");
 
         // Act
         userDetailsService.changePassword(userDetailsId, currentPassword, newPassword);
 
         // Assert
-        assertEquals(newPassword, userAuth.getPassword());
+        assertEquals("hashedNewPassword", userAuth.getPassword());
         verify(userAuthenticationRepository).save(userAuth);
+        verify(principalCache).evict("john@example.com");
     }
 
     @Test
@@ -207,21 +225,14 @@ class UserDetailsServiceImplTest {
         String userDetailsId = "user-1";
         double amountToAdd = 50.0;
 
-        UserDetails userDetails = new UserDetails();
-        userDetails.setUserDetailsId(userDetailsId);
-
-        Wallet wallet = new Wallet();
-        wallet.setAmount(100.0);
-
-        when(userDetailsRepository.findById(userDetailsId)).thenReturn(Optional.of(userDetails));
-        when(walletRepository.findByWalletForUser(userDetails)).thenReturn(wallet);
+        when(userDetailsRepository.existsById(userDetailsId)).thenReturn(true);
 
         // Act
         userDetailsService.addAmountToWallet(userDetailsId, amountToAdd);
 
         // Assert
-        assertEquals(150.0, wallet.getAmount());
-        verify(walletRepository).save(wallet);
+        verify(walletService).credit(userDetailsId, BigDecimal.valueOf(50.0), WalletLedgerEntry.TOP_UP, null);
+        verify(walletRepository, never()).save(any());
     }
 
     @Test
@@ -230,7 +241,7 @@ class UserDetailsServiceImplTest {
         String userDetailsId = "user-1";
         double amountToAdd = 50.0;
 
-        when(userDetailsRepository.findById(userDetailsId)).thenReturn(Optional.empty());
+        when(userDetailsRepository.existsById(userDetailsId)).thenReturn(false);
 
         // Act & Assert
         Exception exception = assertThrows(RuntimeException.class, () -> {
@@ -245,11 +256,9 @@ class UserDetailsServiceImplTest {
         String userDetailsId = "user-1";
         double amountToAdd = 50.0;
 
-        UserDetails userDetails = new UserDetails();
-        userDetails.setUserDetailsId(userDetailsId);
-
-        when(userDetailsRepository.findById(userDetailsId)).thenReturn(Optional.of(userDetails));
-        when(walletRepository.findByWalletForUser(userDetails)).thenReturn(null);
+        when(userDetailsRepository.existsById(userDetailsId)).thenReturn(true);
+        doThrow(new WalletNotFoundException("Wallet not found for user: user-1")).when(walletService)
+                .credit(userDetailsId, BigDecimal.valueOf(50.0), WalletLedgerEntry.TOP_UP, null);
 
         // Act & Assert
         Exception exception = assertThrows(RuntimeException.class, () -> {
@@ -261,28 +270,37 @@ class UserDetailsServiceImplTest {
     @Test
     void testGetOrganizers() {
         // Arrange
-        UserDetails userDetails = new UserDetails();
-        UserAuthentication userAuth = new UserAuthentication();
-        userAuth.setEmail("organizer@example.com");
-        userDetails.setDetailsOfUser(userAuth);
-        userDetails.setUserDetailsId("user-1");
-        userDetails.setFullName("Organizer User");
-        userDetails.setIsApproved(true);
-        
-        Role role = new Role();
-        role.setRoleName("organizer");
+        UserDetailsDto organizer = new UserDetailsDto("user-1", "Organizer User", null, null, null, true,
+                "organizer@example.com", 0.0);
 
-        when(userDetailsRepository.findAll()).thenReturn(List.of(userDetails));
-        when(roleRepository.findByRoleForUser(userAuth)).thenReturn(role);
+        when(userDetailsRepository.findByRoleName("organizer", Pageable.unpaged()))
+                .thenReturn(new PageImpl<>(List.of(organizer)));
 
         // Act
-        List<UserDetailsDto> result = userDetailsService.getOrganizers();
+        Page<UserDetailsDto> result = userDetailsService.getOrganizers(null, Pageable.unpaged());
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Organizer User", result.get(0).getFullName());
-        assertEquals("organizer@example.com", result.get(0).getEmail());
+        assertEquals(1, result.getNumberOfElements());
+        assertEquals("Organizer User", result.getContent().get(0).getFullName());
+        assertEquals("organizer@example.com", result.getContent().get(0).getEmail());
+        verify(userDetailsRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetOrganizers_PendingApproval() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 20);
+        when(userDetailsRepository.findByRoleNameAndApproval("organizer", false, pageable))
+                .thenReturn(Page.empty(pageable));
+
+        // Act
+        Page<UserDetailsDto> result = userDetailsService.getOrganizers(false, pageable);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(userDetailsRepository).findByRoleNameAndApproval("organizer", false, pageable);
+        verify(userDetailsRepository, never()).findByRoleName(any(), any());
     }
 
     @Test
@@ -292,6 +310,9 @@ class UserDetailsServiceImplTest {
         UserDetails userDetails = new UserDetails();
         userDetails.setUserDetailsId(userDetailsId);
         userDetails.setIsApproved(false);
+        UserAuthentication userAuth = new UserAuthentication();
+        userAuth.setEmail("organizer@example.com");
+        userDetails.setDetailsOfUser(userAuth);
 
         when(userDetailsRepository.findById(userDetailsId)).thenReturn(Optional.of(userDetails));
 
@@ -301,6 +322,7 @@ class UserDetailsServiceImplTest {
         // Assert
         assertTrue(userDetails.getIsApproved());
         verify(userDetailsRepository).save(userDetails);
+        verify(principalCache).evict("organizer@example.com");
     }
 
     @Test
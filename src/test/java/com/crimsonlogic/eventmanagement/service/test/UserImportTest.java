@@ -0,0 +1,183 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.cache.PrincipalCache;
+import com.crimsonlogic.eventmanagement.payload.ImportFailureDto;
+import com.crimsonlogic.eventmanagement.payload.UserImportResultDto;
+import com.crimsonlogic.eventmanagement.payload.UserImportRowDto;
+import com.crimsonlogic.eventmanagement.payload.UserSignUpDto;
+import com.crimsonlogic.eventmanagement.repository.RoleRepository;
+import com.crimsonlogic.eventmanagement.repository.UserAuthenticationRepository;
+import com.crimsonlogic.eventmanagement.repository.UserDetailsRepository;
+import com.crimsonlogic.eventmanagement.repository.WalletRepository;
+import com.crimsonlogic.eventmanagement.service.AuthService;
+import com.crimsonlogic.eventmanagement.service.AuthServiceImpl;
+import com.crimsonlogic.eventmanagement.service.PasswordHashingService;
+import com.crimsonlogic.eventmanagement.util.UserImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true" })
+@Import(AuthServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportTest {
+
+    private static final int USERS = 120;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserAuthenticationRepository userAuthRepo;
+
+    @Autowired
+    private UserDetailsRepository userDetailsRepo;
+
+    @Autowired
+    private RoleRepository roleRepo;
+
+    @Autowired
+    private WalletRepository walletRepo;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private PrincipalCache principalCache;
+
+    @MockBean
+    private PasswordHashingService passwordHashingService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordHashingService.hashForImport(anyList())).thenAnswer(invocation -> {
+            List<String> passwords = invocation.getArgument(0);
+            return passwords.stream().map(password -> "hashed:" + password).toList();
+        });
+        walletRepo.deleteAll();
+        roleRepo.deleteAll();
+        userDetailsRepo.deleteAll();
+        userAuthRepo.deleteAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void importUsers_InsertsValidRowsInBatches() {
+        List<UserImportRowDto> rows = new ArrayList<>(IntStream.range(0, USERS)
+                .mapToObj(i -> new UserImportRowDto("user" + i + "@example.com", "secret", "User", String.valueOf(i),
+                        "9999999999", null, "1990-01-31"))
+                .toList());
+        rows.add(new UserImportRowDto("user0@example.com", "secret", "Copy", null, null, null, null));
+        rows.add(new UserImportRowDto("not-an-email", "secret", "Bad", null, null, null, null));
+        rows.add(new UserImportRowDto("late@example.com", "secret", "Late", null, null, null, "31/01/1990"));
+
+        UserImportResultDto result = authService.importUsers(rows.iterator());
+
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(USERS, result.getUsersAdded());
+        assertEquals(List.of(USERS + 1L, USERS + 2L, USERS + 3L),
+                result.getFailures().stream().map(ImportFailureDto::getRow).toList());
+        assertEquals(USERS, userAuthRepo.count());
+        assertEquals(USERS, walletRepo.count());
+        assertEquals("User 7", userDetailsRepo.findByDetailsOfUser_UserId(
+                userAuthRepo.findByEmail("user7@example.com").getUserId()).getFullName());
+        // One email check and batched inserts into four tables, no SELECT before each INSERT
+        assertTrue(statements <= 1 + 4 * 3, "Expected at most 13 statements for the import but was " + statements);
+        // Stored hashed, never as given
+        assertEquals("hashed:secret", userAuthRepo.findByEmail("user7@example.com").getPassword());
+        verify(passwordHashingService, never()).hash(any());
+    }
+
+    @Test
+    void importUsers_ReportsOnlyTheFirstFailures() {
+        int rejected = AuthServiceImpl.MAX_REPORTED_FAILURES + 5;
+        List<UserImportRowDto> rows = IntStream.range(0, rejected)
+                .mapToObj(i -> new UserImportRowDto("not-an-email", "secret", "Bad", null, null, null, null))
+                .toList();
+
+        UserImportResultDto result = authService.importUsers(rows.iterator());
+
+        assertEquals(0, result.getUsersAdded());
+        assertEquals(rejected, result.getRowsRejected());
+        assertEquals(AuthServiceImpl.MAX_REPORTED_FAILURES, result.getFailures().size());
+        assertEquals(1L, result.getFailures().get(0).getRow());
+    }
+
+    @Test
+    void importUsers_RerunSkipsImportedUsers() {
+        List<UserImportRowDto> rows = List.of(
+                new UserImportRowDto("a@example.com", "secret", "A", null, null, null, null),
+                new UserImportRowDto("b@example.com", "secret", "B", null, null, null, null));
+        authService.importUsers(rows.iterator());
+
+        UserImportResultDto rerun = authService.importUsers(rows.iterator());
+
+        assertEquals(0, rerun.getUsersAdded());
+        assertEquals(2, rerun.getRowsRejected());
+        assertEquals(2, rerun.getFailures().size());
+        assertEquals(2, userAuthRepo.count());
+    }
+
+    @Test
+    void importUsers_ReportsMalformedLineAndContinues() {
+        String ndjson = "{\"email\":\"a@example.com\",\"password\":\"secret\",\"firstName\":\"A\"}\n"
+                + "{not json\n"
+                + "{\"email\":\"b@example.com\",\"password\":\"secret\",\"firstName\":\"B\"}\n";
+
+        UserImportResultDto result = authService.importUsers(
+                UserImportReader.fromNdjson(new ObjectMapper(), new StringReader(ndjson)));
+
+        assertEquals(2, result.getUsersAdded());
+        assertEquals(1, result.getRowsRejected());
+        assertEquals(2L, result.getFailures().get(0).getRow());
+        assertTrue(result.getFailures().get(0).getReason().startsWith("Malformed NDJSON row"));
+        assertNotNull(userAuthRepo.findByEmail("b@example.com"));
+    }
+
+    @Test
+    void signUp_FailedInsertLeavesNothingBehind() {
+        when(passwordHashingService.hash("password")).thenReturn("hash");
+        UserSignUpDto signUpDto = new UserSignUpDto();
+        signUpDto.setEmail("new@example.com");
+        signUpDto.setPassword("password");
+        signUpDto.setConfirmPassword("password");
+        signUpDto.setFirstName("New");
+        signUpDto.setLastName("User");
+        signUpDto.setContactNumber("12345678901"); // Longer than the column allows
+        signUpDto.setDateOfBirth(LocalDate.of(1990, 1, 1));
+
+        assertThrows(DataIntegrityViolationException.class, () -> authService.signUp(signUpDto));
+
+        assertEquals(0, userAuthRepo.count());
+        assertEquals(0, roleRepo.count());
+    }
+}
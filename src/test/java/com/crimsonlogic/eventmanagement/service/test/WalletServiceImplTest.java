@@ -0,0 +1,143 @@
+package com.crimsonlogic.eventmanagement.service.test;
+
+import com.crimsonlogic.eventmanagement.entity.UserDetails;
+import com.crimsonlogic.eventmanagement.entity.Wallet;
+import com.crimsonlogic.eventmanagement.entity.WalletLedgerEntry;
+import com.crimsonlogic.eventmanagement.exception.InsufficientWalletBalanceException;
+import com.crimsonlogic.eventmanagement.exception.WalletNotFoundException;
+import com.crimsonlogic.eventmanagement.repository.UserDetailsRepository;
+import com.crimsonlogic.eventmanagement.repository.WalletLedgerRepository;
+import com.crimsonlogic.eventmanagement.repository.WalletRepository;
+import com.crimsonlogic.eventmanagement.service.WalletService;
+import com.crimsonlogic.eventmanagement.service.WalletServiceImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(WalletServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WalletServiceImplTest {
+
+    private static final String USER_ID = "UDI-WALLET";
+    private static final BigDecimal OPENING_BALANCE = new BigDecimal("1000.00");
+    private static final BigDecimal DEBIT = new BigDecimal("7.00");
+    private static final BigDecimal CREDIT = new BigDecimal("3.00");
+    private static final int THREADS = 32;
+    private static final int OPERATIONS_PER_THREAD = 50;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private WalletLedgerRepository walletLedgerRepository;
+
+    @Autowired
+    private UserDetailsRepository userDetailsRepository;
+
+    private String walletId;
+
+    @BeforeEach
+    void setUp() {
+        walletLedgerRepository.deleteAll();
+        walletRepository.deleteAll();
+        userDetailsRepository.deleteAll();
+
+        UserDetails user = new UserDetails();
+        user.setUserDetailsId(USER_ID);
+        user.setFullName("Wallet Owner");
+        userDetailsRepository.save(user);
+
+        Wallet wallet = new Wallet();
+        wallet.setWalletId("WLI-WALLET");
+        wallet.setAmount(BigDecimal.ZERO);
+        wallet.setWalletForUser(user);
+        walletRepository.save(wallet);
+        walletId = wallet.getWalletId();
+
+        walletService.credit(USER_ID, OPENING_BALANCE, WalletLedgerEntry.TOP_UP, null);
+    }
+
+    @Test
+    void concurrentDebitsAndCredits_NeverLoseMoneyOrOverdraw() throws Exception {
+        AtomicInteger debits = new AtomicInteger();
+        AtomicInteger credits = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    if (i % 4 == 3) { // One top-up for every three bookings
+                        walletService.credit(USER_ID, CREDIT, WalletLedgerEntry.TOP_UP, null);
+                        credits.incrementAndGet();
+                        continue;
+                    }
+                    try {
+                        walletService.debit(USER_ID, DEBIT, WalletLedgerEntry.BOOKING, "BKI-TEST");
+                        debits.incrementAndGet();
+                    } catch (InsufficientWalletBalanceException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        BigDecimal expected = OPENING_BALANCE
+                .add(CREDIT.multiply(BigDecimal.valueOf(credits.get())))
+                .subtract(DEBIT.multiply(BigDecimal.valueOf(debits.get())));
+        BigDecimal balance = walletService.getBalance(USER_ID);
+
+        assertTrue(rejected.get() > 0, "Demand exceeds the balance, so some debits must be rejected");
+        assertTrue(balance.signum() >= 0, "Balance must never go negative");
+        assertEquals(0, expected.compareTo(balance));
+        assertEquals(0, balance.compareTo(walletLedgerRepository.sumByWalletId(walletId)),
+                "Ledger entries must add up to the cached balance");
+        assertEquals(1 + credits.get() + debits.get(), walletLedgerRepository.count());
+    }
+
+    @Test
+    void debit_InsufficientBalance() {
+        assertThrows(InsufficientWalletBalanceException.class,
+                () -> walletService.debit(USER_ID, new BigDecimal("1000.01"), WalletLedgerEntry.BOOKING, "BKI-TEST"));
+
+        assertEquals(0, OPENING_BALANCE.compareTo(walletService.getBalance(USER_ID)));
+        assertEquals(1, walletLedgerRepository.count());
+    }
+
+    @Test
+    void debit_WalletNotFound() {
+        assertThrows(WalletNotFoundException.class,
+                () -> walletService.debit("UDI-MISSING", DEBIT, WalletLedgerEntry.BOOKING, "BKI-TEST"));
+    }
+}
@@ -0,0 +1,46 @@
+package com.crimsonlogic.eventmanagement.util.test;
+
+import com.crimsonlogic.eventmanagement.util.IDGenerator;
+import com.crimsonlogic.eventmanagement.util.IdStrategySelector;
+import com.crimsonlogic.eventmanagement.util.SnowflakeIdStrategy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdStrategySelectorTest {
+
+    @AfterEach
+    void tearDown() {
+        IDGenerator.setStrategy(IDGenerator.LEGACY);
+    }
+
+    @Test
+    void legacy_FitsTheOldKeyColumns() {
+        new IdStrategySelector(IdStrategySelector.LEGACY, "");
+
+        String id = IDGenerator.generateBookingID();
+
+        assertTrue(id.startsWith("BKI-"));
+        assertTrue(id.length() <= 10, "IDs must fit the 10 character key columns ddl-auto=update leaves in place");
+    }
+
+    @Test
+    void snowflake_UsesTimeOrderedIds() {
+        new IdStrategySelector(IdStrategySelector.SNOWFLAKE, "3");
+
+        assertEquals(4 + SnowflakeIdStrategy.ENCODED_LENGTH, IDGenerator.generateBookingID().length());
+    }
+
+    @Test
+    void unknownStrategy_FailsStartup() {
+        assertThrows(IllegalArgumentException.class, () -> new IdStrategySelector("uuid", "3"));
+    }
+
+    @Test
+    void snowflakeWithoutNode_FailsStartup() {
+        assertThrows(IllegalStateException.class, () -> new IdStrategySelector(IdStrategySelector.SNOWFLAKE, ""));
+        assertThrows(IllegalStateException.class, () -> new IdStrategySelector(IdStrategySelector.SNOWFLAKE, null));
+    }
+}
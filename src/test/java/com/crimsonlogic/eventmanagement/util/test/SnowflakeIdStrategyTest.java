@@ -0,0 +1,123 @@
+package com.crimsonlogic.eventmanagement.util.test;
+
+import com.crimsonlogic.eventmanagement.util.IDGenerator;
+import com.crimsonlogic.eventmanagement.util.SnowflakeIdStrategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdStrategyTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 250_000;
+
+    @Test
+    void nextId_KeepsPrefixAndFitsColumn() {
+        String id = new SnowflakeIdStrategy(1).nextId("BKI-");
+
+        assertTrue(id.startsWith("BKI-"));
+        assertEquals(4 + SnowflakeIdStrategy.ENCODED_LENGTH, id.length());
+        assertTrue(id.length() <= 20, "IDs must fit the 20 character key columns");
+    }
+
+    @Test
+    void nextId_IncreasesInStringOrder() {
+        SnowflakeIdStrategy strategy = new SnowflakeIdStrategy(1);
+
+        String previous = strategy.nextId("EVE-");
+        for (int i = 0; i < 100_000; i++) {
+            String next = strategy.nextId("EVE-");
+            assertTrue(next.compareTo(previous) > 0, next + " should sort after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void nextId_NoCollisionsAcrossThreads() throws Exception {
+        SnowflakeIdStrategy strategy = new SnowflakeIdStrategy(7);
+        Set<String> ids = ConcurrentHashMap.newKeySet(THREADS * IDS_PER_THREAD);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    ids.add(strategy.nextId("BKI-"));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+    }
+
+    @Test
+    void nextId_NodesNeverCollide() {
+        SnowflakeIdStrategy first = new SnowflakeIdStrategy(1);
+        SnowflakeIdStrategy second = new SnowflakeIdStrategy(2);
+        Set<String> ids = new HashSet<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(ids.add(first.nextId("BKI-")));
+            assertTrue(ids.add(second.nextId("BKI-")));
+        }
+    }
+
+    @Test
+    void nextValue_StaysWithinDriftOfTheClock() {
+        // Far more IDs than 4096 per millisecond allow, so the sequence would carry well past the clock
+        SnowflakeIdStrategy strategy = new SnowflakeIdStrategy(1);
+        long epoch = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+        long last = 0;
+        for (int i = 0; i < 12_000_000; i++) {
+            last = strategy.nextValue();
+        }
+        long ahead = (last >>> (SnowflakeIdStrategy.NODE_BITS + 12)) + epoch - System.currentTimeMillis();
+
+        // A restarted process starting from the clock can't reach IDs its predecessor issued
+        assertTrue(ahead <= SnowflakeIdStrategy.MAX_DRIFT_MILLIS, "Ran " + ahead + " ms ahead");
+    }
+
+    @Test
+    void legacyIds_CollideWithinAHundredThousandRows() {
+        // Six hex characters give ~16.7M values, so ~300 collisions are expected here
+        Set<String> ids = new HashSet<>();
+        int collisions = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (!ids.add(IDGenerator.LEGACY.nextId("BKI-"))) {
+                collisions++;
+            }
+        }
+
+        assertTrue(collisions > 0);
+    }
+
+    @Test
+    void constructor_RejectsOutOfRangeNode() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdStrategy(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeIdStrategy(SnowflakeIdStrategy.MAX_NODE_ID + 1));
+    }
+}
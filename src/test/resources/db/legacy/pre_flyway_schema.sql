@@ -0,0 +1,43 @@
+-- The schema ddl-auto=update created before the Flyway migrations (baseline
+-- entities, PostgreSQL dialect), with a few rows to migrate.
+
+create table booking_payments (payment_amount float(53), booking_payment_id varchar(10) not null, payment_for_booking varchar(10) unique, payment_status varchar(20), primary key (booking_payment_id));
+create table bookings (no_of_tickets integer, booking_date timestamp(6), booking_for_event varchar(10), booking_id varchar(10) not null, booking_made_by varchar(10), booking_status varchar(20), primary key (booking_id));
+create table event_categories (is_enabled boolean, created_at timestamp(6), updated_at timestamp(6), category_id varchar(10) not null, category_name varchar(50), image_path varchar(255), primary key (category_id));
+create table events (date date, time time(6), created_at timestamp(6), created_by varchar(10), event_category varchar(10), event_id varchar(10) not null, event_name varchar(50), description varchar(200), image_path varchar(255), primary key (event_id));
+create table organizer_payments (commission_amount float(53), total_amount float(53), payment_date timestamp(6), organizer_payment_id varchar(10) not null, payment_made_by varchar(10), primary key (organizer_payment_id));
+create table roles (role_for_user varchar(10) unique, role_id varchar(10) not null, role_name varchar(50), primary key (role_id));
+create table sponsors (contact_number varchar(10), sponsor_for_event varchar(10), sponsor_id varchar(10) not null, sponsor_name varchar(50), primary key (sponsor_id));
+create table ticket_price (price float(53), ticket_for_event varchar(10), ticket_price_id varchar(10) not null, price_category varchar(50), primary key (ticket_price_id));
+create table user_authentication (user_id varchar(10) not null, password varchar(30), email varchar(100), primary key (user_id));
+create table user_details (date_of_birth date, is_approved boolean, created_at timestamp(6), alternate_number varchar(10), contact_number varchar(10), details_of_user varchar(10) unique, user_details_id varchar(10) not null, full_name varchar(100), primary key (user_details_id));
+create table venue (capacity integer, venue_for_event varchar(10) unique, venue_id varchar(10) not null, venue_location varchar(100), maps_link varchar(255), primary key (venue_id));
+create table wallet (amount float(53), wallet_for_user varchar(10) unique, wallet_id varchar(10) not null, primary key (wallet_id));
+alter table if exists booking_payments add constraint FKmge0b016edbghwvjvv72n6g2a foreign key (payment_for_booking) references bookings;
+alter table if exists bookings add constraint FKqynshslka32a28dlnbrw34t9j foreign key (booking_for_event) references events;
+alter table if exists bookings add constraint FKm9qqs2oq7oeffblmrffql0ule foreign key (booking_made_by) references user_details;
+alter table if exists events add constraint FKkyn0o4stamrb7q3m9w46uk77d foreign key (created_by) references user_details;
+alter table if exists events add constraint FKcq668ua8myxvnthfls8wp7ehv foreign key (event_category) references event_categories;
+alter table if exists organizer_payments add constraint FK17m1qp1785j27j9t2w52iimg8 foreign key (payment_made_by) references user_details;
+alter table if exists roles add constraint FKcqgsktwjgfrschid2u372eaaq foreign key (role_for_user) references user_authentication;
+alter table if exists sponsors add constraint FKcfrrfemeogucwhxbthghm28nx foreign key (sponsor_for_event) references events;
+alter table if exists ticket_price add constraint FK6yo395cit88e9sqqm80ob5ely foreign key (ticket_for_event) references events;
+alter table if exists user_details add constraint FKlu1am8isjkf3teiu6f84635y9 foreign key (details_of_user) references user_authentication;
+alter table if exists venue add constraint FKqvytl0llsjt5w8sirt8kkifxv foreign key (venue_for_event) references events;
+alter table if exists wallet add constraint FKrndjulyyhk2mdy2hmlt8bm4jg foreign key (wallet_for_user) references user_details;
+
+insert into user_authentication (user_id, email, password) values ('URI-LEG01', 'legacy@example.com', 'secret');
+insert into roles (role_id, role_name, role_for_user) values ('ROL-LEG01', 'CUSTOMER', 'URI-LEG01');
+insert into user_details (user_details_id, full_name, is_approved, details_of_user) values ('UDI-LEG01', 'Legacy User', true, 'URI-LEG01');
+insert into wallet (wallet_id, amount, wallet_for_user) values ('WAL-LEG01', 12.5, 'UDI-LEG01');
+insert into event_categories (category_id, category_name, is_enabled) values ('CAT-LEG01', 'Music', true);
+insert into events (event_id, event_name, event_category, created_by) values ('EVE-LEG01', 'Booked Concert', 'CAT-LEG01', 'UDI-LEG01');
+insert into events (event_id, event_name, event_category, created_by) values ('EVE-LEG02', 'Quiet Concert', 'CAT-LEG01', 'UDI-LEG01');
+-- 100 seats, 5 of them still booked
+insert into venue (venue_id, venue_location, capacity, venue_for_event) values ('VEN-LEG01', 'Hall', 95, 'EVE-LEG01');
+insert into bookings (booking_id, booking_status, no_of_tickets, booking_for_event, booking_made_by) values ('BOK-LEG01', 'CONFIRMED', 3, 'EVE-LEG01', 'UDI-LEG01');
+insert into bookings (booking_id, booking_status, no_of_tickets, booking_for_event, booking_made_by) values ('BOK-LEG02', 'CONFIRMED', 2, 'EVE-LEG01', 'UDI-LEG01');
+insert into bookings (booking_id, booking_status, no_of_tickets, booking_for_event, booking_made_by) values ('BOK-LEG03', 'CANCELLED', 4, 'EVE-LEG01', 'UDI-LEG01');
+insert into booking_payments (booking_payment_id, payment_amount, payment_status, payment_for_booking) values ('BPI-LEG01', 300.0, 'SUCCESS', 'BOK-LEG01');
+insert into booking_payments (booking_payment_id, payment_amount, payment_status, payment_for_booking) values ('BPI-LEG02', 200.0, 'SUCCESS', 'BOK-LEG02');
+insert into booking_payments (booking_payment_id, payment_amount, payment_status, payment_for_booking) values ('BPI-LEG03', 400.0, 'SUCCESS', 'BOK-LEG03');